@@ -0,0 +1,158 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.nepafootball.broadcast.entity.AlertSubscription.Kind;
+import com.nepafootball.broadcast.service.SubscriberIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching a stream of game events to score-alert subscribers: the
+ * SubscriberIndex used by ScoreAlertService against scanning every
+ * subscription per event
+ *
+ * Each user follows five things: mostly teams, skewed towards popular ones,
+ * plus a school and sometimes a whole sport. Every event is a game between two
+ * teams of the same sport, matched on both teams, both schools and the sport.
+ *
+ * @author NEPA Football Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AlertMatchBenchmark {
+
+    private static final int SCHOOLS = 400;
+    private static final int FOLLOWS_PER_USER = 5;
+    private static final int EVENTS = 4096;
+
+    @Param({"100000", "1000000"})
+    public int subscriptions;
+
+    private SubscriberIndex index;
+    private int[] userIds;
+    private Kind[] kinds;
+    private String[] names;
+    private Event[] events;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int sports = SyntheticData.SPORTS.length;
+        int teams = SCHOOLS * sports;
+        index = new SubscriberIndex();
+        int users = subscriptions / FOLLOWS_PER_USER;
+        index.expectUsers(users);
+        userIds = new int[subscriptions];
+        kinds = new Kind[subscriptions];
+        names = new String[subscriptions];
+        int n = 0;
+        for (int user = 1; user <= users; user++) {
+            for (int follow = 0; follow < FOLLOWS_PER_USER; follow++) {
+                Kind kind;
+                String name;
+                if (follow == 0) {
+                    kind = Kind.SCHOOL;
+                    name = school(popular(random, SCHOOLS));
+                } else if (follow == 1 && random.nextInt(10) == 0) {
+                    kind = Kind.SPORT;
+                    name = SyntheticData.SPORTS[random.nextInt(sports)];
+                } else {
+                    kind = Kind.TEAM;
+                    name = team(popular(random, teams));
+                }
+                if (index.add(kind, name, user)) {
+                    userIds[n] = user;
+                    kinds[n] = kind;
+                    names[n] = name;
+                    n++;
+                }
+            }
+        }
+        // Repeated follows were skipped; pad so both sides hold the same number of subscriptions
+        for (int user = 1; n < subscriptions; user++) {
+            String name = team(random.nextInt(teams));
+            if (index.add(Kind.TEAM, name, user)) {
+                userIds[n] = user;
+                kinds[n] = Kind.TEAM;
+                names[n] = name;
+                n++;
+            }
+        }
+
+        events = new Event[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            int sport = random.nextInt(sports);
+            int home = random.nextInt(SCHOOLS);
+            int away = (home + 1 + random.nextInt(SCHOOLS - 1)) % SCHOOLS;
+            events[i] = new Event(SyntheticData.SPORTS[sport],
+                    new String[] {team(home * sports + sport), team(away * sports + sport)},
+                    new String[] {school(home), school(away)});
+        }
+    }
+
+    @Benchmark
+    public int[] invertedIndex() {
+        Event event = nextEvent();
+        return index.match(event.sport(), event.teams(), event.schools());
+    }
+
+    @Benchmark
+    public int[] scanSubscriptions() {
+        Event event = nextEvent();
+        BitSet matched = new BitSet();
+        for (int i = 0; i < subscriptions; i++) {
+            String name = names[i];
+            boolean follows = switch (kinds[i]) {
+                case SPORT -> name.equals(event.sport());
+                case TEAM -> name.equals(event.teams()[0]) || name.equals(event.teams()[1]);
+                case SCHOOL -> name.equals(event.schools()[0]) || name.equals(event.schools()[1]);
+            };
+            if (follows) {
+                matched.set(userIds[i]);
+            }
+        }
+        return matched.stream().toArray();
+    }
+
+    private Event nextEvent() {
+        Event event = events[next];
+        next = (next + 1) & (EVENTS - 1);
+        return event;
+    }
+
+    /**
+     * Pick from [0, bound) with low values far more likely, as with popular teams
+     */
+    private static int popular(Random random, int bound) {
+        double r = random.nextDouble();
+        return (int) (bound * r * r);
+    }
+
+    private static String team(int team) {
+        return SubscriberIndex.normalize("Team " + team);
+    }
+
+    private static String school(int school) {
+        return SubscriberIndex.normalize("School " + school);
+    }
+
+    private record Event(String sport, String[] teams, String[] schools) {}
+}
@@ -0,0 +1,86 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import com.nepafootball.broadcast.service.LeaderboardIndex;
+import com.nepafootball.broadcast.service.StatsService;
+import com.nepafootball.broadcast.service.StatsWriteBehind;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Wires backend services without a Spring context or database
+ *
+ * @author NEPA Football Team
+ */
+final class Fixtures {
+
+    private Fixtures() {}
+
+    /**
+     * A StatsRepository backed by a map, supporting the methods StatsService uses on its hot paths
+     */
+    static StatsRepository inMemoryStatsRepository(List<Stats> rows) {
+        Map<Long, Stats> byId = new ConcurrentHashMap<>(rows.stream()
+                .collect(Collectors.toMap(Stats::getId, Function.identity())));
+        return (StatsRepository) Proxy.newProxyInstance(StatsRepository.class.getClassLoader(),
+                new Class<?>[]{StatsRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(byId.get((Long) args[0]));
+                    case "save" -> {
+                        Stats stats = (Stats) args[0];
+                        byId.put(stats.getId(), stats);
+                        yield stats;
+                    }
+                    case "forEachActive" -> {
+                        @SuppressWarnings("unchecked")
+                        Consumer<Stats> action = (Consumer<Stats>) args[0];
+                        byId.values().forEach(action);
+                        yield (long) byId.size();
+                    }
+                    case "findBySportAndDivisionAndIsActiveTrue" -> byId.values().stream()
+                            .filter(s -> s.getSport().equals(args[0]) && s.getDivision().equals(args[1]))
+                            .toList();
+                    case "findBySportAndDivisionAndSeasonAndIsActiveTrue" -> byId.values().stream()
+                            .filter(s -> s.getSport().equals(args[0]) && s.getDivision().equals(args[1])
+                                    && s.getSeason().equals(args[2]))
+                            .toList();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryStatsRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static LeaderboardIndex leaderboardIndex(StatsRepository repository, int size) {
+        LeaderboardIndex index = new LeaderboardIndex();
+        inject(index, "statsRepository", repository);
+        inject(index, "size", size);
+        index.rebuild();
+        return index;
+    }
+
+    static StatsService statsService(StatsRepository repository, LeaderboardIndex index) {
+        StatsService service = new StatsService();
+        inject(service, "statsRepository", repository);
+        inject(service, "leaderboardIndex", index);
+        // Disabled, as by default: updates go straight to the repository
+        inject(service, "statsWriteBehind", new StatsWriteBehind());
+        return service;
+    }
+
+    private static void inject(Object target, String name, Object value) {
+        Field field = Objects.requireNonNull(ReflectionUtils.findField(target.getClass(), name), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,135 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nepafootball.broadcast.dto.ClockTick;
+import com.nepafootball.broadcast.dto.Scoreboard;
+import com.nepafootball.broadcast.entity.GameEvent.Side;
+import com.nepafootball.broadcast.entity.GameSnapshot.Status;
+import com.nepafootball.broadcast.service.TimerWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One second of game time for many running clocks: LiveGameService's timer
+ * wheel with one batched clock frame per second, against a task per game that
+ * wakes every second to encode its own clock
+ *
+ * Time is simulated, so each operation is the CPU cost of one second of
+ * clocks. Clocks restart when they run out, so every clock keeps running.
+ *
+ * @author NEPA Football Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GameClockBenchmark {
+
+    private static final long PERIOD_MILLIS = Duration.ofMinutes(12).toMillis();
+    private static final Instant EPOCH = Instant.parse("2024-09-06T23:00:00Z");
+
+    @Param({"10", "100", "1000"})
+    public int clocks;
+
+    private ObjectMapper objectMapper;
+    private Scoreboard[] scoreboards;
+    private TimerWheel wheel;
+    private long simulatedNanos;
+    private long publishedBytes;
+    private ExecutorService perGameThreads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        scoreboards = new Scoreboard[clocks];
+        wheel = new TimerWheel(100, 512, () -> simulatedNanos);
+        for (int i = 0; i < clocks; i++) {
+            // Staggered so clocks run out at different times
+            start(i, EPOCH.minusMillis(i * PERIOD_MILLIS / clocks));
+        }
+        wheel.scheduleAtFixedRate(() -> publishedBytes += encode(runningClocks()).length, 1000);
+        perGameThreads = Executors.newFixedThreadPool(4);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        perGameThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public long timerWheel() {
+        simulatedNanos += TimeUnit.SECONDS.toNanos(1);
+        wheel.advance();
+        return publishedBytes;
+    }
+
+    @Benchmark
+    public long taskPerGame() throws InterruptedException {
+        simulatedNanos += TimeUnit.SECONDS.toNanos(1);
+        Instant now = now();
+        long[] bytes = new long[clocks];
+        CountDownLatch done = new CountDownLatch(clocks);
+        for (int i = 0; i < clocks; i++) {
+            int game = i;
+            perGameThreads.execute(() -> {
+                bytes[game] = encode(List.of(ClockTick.of(scoreboards[game], now))).length;
+                done.countDown();
+            });
+        }
+        done.await();
+        return bytes[clocks - 1];
+    }
+
+    private void start(int game, Instant startedAt) {
+        scoreboards[game] = new Scoreboard(game, "football", Status.LIVE, 1, 0, 0, Side.HOME,
+                PERIOD_MILLIS, startedAt, 0, startedAt);
+        long delay = Duration.between(now(), startedAt.plusMillis(PERIOD_MILLIS)).toMillis();
+        wheel.schedule(() -> start(game, now()), delay);
+    }
+
+    private List<ClockTick> runningClocks() {
+        Instant now = now();
+        List<ClockTick> ticks = new ArrayList<>(clocks);
+        for (Scoreboard scoreboard : scoreboards) {
+            ticks.add(ClockTick.of(scoreboard, now));
+        }
+        return ticks;
+    }
+
+    private byte[] encode(List<ClockTick> ticks) {
+        try {
+            return objectMapper.writeValueAsBytes(ticks);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Instant now() {
+        return EPOCH.plusNanos(simulatedNanos);
+    }
+}
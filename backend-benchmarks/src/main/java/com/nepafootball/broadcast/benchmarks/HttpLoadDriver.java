@@ -0,0 +1,188 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load against a running backend, for comparing the platform
+ * and virtual-thread request modes
+ *
+ * Each of N simulated clients sends a request, waits for the response and
+ * sends the next, cycling through the given paths; requests are issued
+ * asynchronously, so the driver itself needs no thread per client. Every
+ * concurrency level is warmed up, then measured, and reported as one
+ * markdown table row: throughput, latency percentiles, non-2xx responses, and
+ * the server's peak platform threads and committed heap from the actuator
+ * (virtual threads are not counted as live threads).
+ *
+ * <pre>
+ * java -cp backend-benchmarks/target/benchmarks.jar com.nepafootball.broadcast.benchmarks.HttpLoadDriver \
+ *     --url http://localhost:8080/api --user admin:admin123 --concurrency 50,200,1000,4000 \
+ *     --paths /api/teams/1,/api/stats/leaders/points --warmup 10 --duration 30
+ * </pre>
+ *
+ * @author NEPA Football Team
+ */
+public final class HttpLoadDriver {
+
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.eE+-]+)");
+    private static final int MAX_SAMPLES = 5_000_000;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final String baseUrl;
+    private final String authorization;
+    private final URI[] targets;
+    private final AtomicInteger nextTarget = new AtomicInteger();
+
+    private HttpLoadDriver(String baseUrl, String user, String[] paths) {
+        this.baseUrl = baseUrl;
+        this.authorization = user == null ? null
+                : "Basic " + Base64.getEncoder().encodeToString(user.getBytes(StandardCharsets.UTF_8));
+        this.targets = Arrays.stream(paths).map(path -> URI.create(baseUrl + path.trim())).toArray(URI[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>(Map.of(
+                "url", "http://localhost:8080/api",
+                "concurrency", "50,200,1000",
+                "paths", "/api/teams/1,/api/stats/leaders/points",
+                "warmup", "10",
+                "duration", "30"));
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        HttpLoadDriver driver = new HttpLoadDriver(options.get("url"), options.get("user"),
+                options.get("paths").split(","));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.get("warmup")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.get("duration")));
+
+        System.out.println("| Clients | Requests/s | p50 ms | p90 ms | p99 ms | Max ms | Errors | Server platform threads (peak) | Heap committed MB |");
+        System.out.println("|---------|------------|--------|--------|--------|--------|--------|--------------------------------|-------------------|");
+        for (String level : options.get("concurrency").split(",")) {
+            int clients = Integer.parseInt(level.trim());
+            driver.run(clients, warmup, null);
+            Result result = new Result();
+            long started = System.nanoTime();
+            driver.run(clients, duration, result);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            System.out.println(result.row(clients, seconds, driver.metric("jvm.threads.peak"),
+                    driver.metric("jvm.memory.committed?tag=area:heap") / (1024 * 1024)));
+        }
+    }
+
+    /**
+     * Keep the given number of requests in flight for the duration, recording into result if not null
+     */
+    private void run(int clients, Duration duration, Result result) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[clients];
+        for (int i = 0; i < clients; i++) {
+            loops[i] = loop(deadline, result);
+        }
+        CompletableFuture.allOf(loops).join();
+    }
+
+    private CompletableFuture<Void> loop(long deadline, Result result) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        URI target = targets[Math.floorMod(nextTarget.getAndIncrement(), targets.length)];
+        long sent = System.nanoTime();
+        return client.sendAsync(request(target), HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> {
+                    if (result != null) {
+                        result.record(System.nanoTime() - sent,
+                                failure != null ? failure.getClass().getSimpleName() : status(response));
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(deadline, result));
+    }
+
+    private HttpRequest request(URI target) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(60)).GET();
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    private static String status(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2 ? null : String.valueOf(response.statusCode());
+    }
+
+    /**
+     * Read one value from the server's actuator metrics, or NaN if it is not exposed
+     */
+    private double metric(String name) {
+        try {
+            HttpResponse<String> response = client.send(request(URI.create(baseUrl + "/actuator/metrics/" + name)),
+                    HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = METRIC_VALUE.matcher(response.body());
+            return response.statusCode() == 200 && matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Latencies and failures of one measured run
+     */
+    private static final class Result {
+
+        private final long[] latencies = new long[MAX_SAMPLES];
+        private final AtomicInteger samples = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        void record(long nanos, String error) {
+            requests.increment();
+            int index = samples.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = nanos;
+            }
+            if (error != null) {
+                errors.computeIfAbsent(error, key -> new LongAdder()).increment();
+            }
+        }
+
+        String row(int clients, double seconds, double serverThreads, double heapMegabytes) {
+            long[] sorted = Arrays.copyOf(latencies, Math.min(samples.get(), latencies.length));
+            Arrays.sort(sorted);
+            Map<String, Long> failed = new TreeMap<>();
+            errors.forEach((error, count) -> failed.put(error, count.sum()));
+            return String.format("| %d | %.0f | %.1f | %.1f | %.1f | %.1f | %s | %.0f | %.0f |", clients,
+                    requests.sum() / seconds, millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99),
+                    millis(sorted, 1.0), failed.isEmpty() ? "0" : failed.toString(), serverThreads, heapMegabytes);
+        }
+
+        private static double millis(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.nepafootball.broadcast.entity.StatColumn;
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import com.nepafootball.broadcast.service.StatsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatsService.getLeaderboard served from the top-K index, against sorting
+ * the whole sport/division slice with the registry comparator and with the
+ * legacy string-switch comparator
+ *
+ * @author NEPA Football Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LeaderboardBenchmark {
+
+    private static final String SPORT = "football";
+    private static final String DIVISION = "6A";
+    private static final String STAT = "passing_yards";
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private StatsService statsService;
+    private List<Stats> slice;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Stats> data = SyntheticData.stats(rows, 42L);
+        StatsRepository repository = Fixtures.inMemoryStatsRepository(data);
+        statsService = Fixtures.statsService(repository, Fixtures.leaderboardIndex(repository, 100));
+        slice = data.stream()
+                .filter(s -> SPORT.equals(s.getSport()) && DIVISION.equals(s.getDivision()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Stats> indexedLeaderboard() {
+        return statsService.getLeaderboard(SPORT, DIVISION, STAT);
+    }
+
+    @Benchmark
+    public List<Stats> registrySortedSlice() {
+        return slice.stream().sorted(StatColumn.PASSING_YARDS.comparator()).toList();
+    }
+
+    @Benchmark
+    public List<Stats> legacySwitchSortedSlice() {
+        return slice.stream().sorted((s1, s2) -> LegacyStatValue.compareDescending(s1, s2, STAT)).toList();
+    }
+}
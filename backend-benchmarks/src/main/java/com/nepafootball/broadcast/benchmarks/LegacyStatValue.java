@@ -0,0 +1,51 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.nepafootball.broadcast.entity.Stats;
+
+/**
+ * Copy of the string-switch stat lookup StatsService used before the
+ * StatColumn registry, kept as a baseline for comparison
+ *
+ * @author NEPA Football Team
+ */
+final class LegacyStatValue {
+
+    private LegacyStatValue() {}
+
+    static Integer get(Stats stats, String statType) {
+        return switch (statType.toLowerCase()) {
+            case "passing_yards" -> stats.getPassingYards();
+            case "rushing_yards" -> stats.getRushingYards();
+            case "receiving_yards" -> stats.getReceivingYards();
+            case "points" -> stats.getPoints();
+            case "rebounds" -> stats.getRebounds();
+            case "assists" -> stats.getAssists();
+            case "goals" -> stats.getGoals();
+            case "hits" -> stats.getHits();
+            case "runs" -> stats.getRuns();
+            case "rbis" -> stats.getRbis();
+            case "home_runs" -> stats.getHomeRuns();
+            case "stolen_bases" -> stats.getStolenBases();
+            case "tackles" -> stats.getTackles();
+            case "interceptions" -> stats.getInterceptions();
+            case "sacks" -> stats.getSacks();
+            case "steals" -> stats.getSteals();
+            case "blocks" -> stats.getBlocks();
+            case "saves" -> stats.getSaves();
+            case "shutouts" -> stats.getShutouts();
+            case "strikeouts" -> stats.getStrikeouts();
+            case "wins" -> stats.getWins();
+            case "losses" -> stats.getLosses();
+            default -> null;
+        };
+    }
+
+    static int compareDescending(Stats s1, Stats s2, String statType) {
+        Integer stat1 = get(s1, statType);
+        Integer stat2 = get(s2, statType);
+        if (stat1 == null && stat2 == null) return 0;
+        if (stat1 == null) return 1;
+        if (stat2 == null) return -1;
+        return stat2.compareTo(stat1);
+    }
+}
@@ -0,0 +1,60 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.nepafootball.broadcast.entity.StatColumn;
+import com.nepafootball.broadcast.entity.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single stat lookups: registry accessor against the legacy string switch
+ *
+ * @author NEPA Football Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatValueBenchmark {
+
+    private Stats[] rows;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Stats> data = SyntheticData.stats(1024, 7L);
+        rows = data.toArray(Stats[]::new);
+    }
+
+    private Stats nextRow() {
+        next = (next + 1) & (rows.length - 1);
+        return rows[next];
+    }
+
+    @Benchmark
+    public Number registryAccessor() {
+        return StatColumn.RUSHING_YARDS.get(nextRow());
+    }
+
+    @Benchmark
+    public double registrySortKey() {
+        return StatColumn.RUSHING_YARDS.sortKey(nextRow());
+    }
+
+    @Benchmark
+    public Integer legacySwitch() {
+        return LegacyStatValue.get(nextRow(), "RUSHING_YARDS");
+    }
+}
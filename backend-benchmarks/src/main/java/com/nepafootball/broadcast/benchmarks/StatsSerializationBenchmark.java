@@ -0,0 +1,81 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nepafootball.broadcast.entity.Game;
+import com.nepafootball.broadcast.entity.Player;
+import com.nepafootball.broadcast.entity.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the wide Stats entity, configured like application.yml
+ *
+ * @author NEPA Football Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StatsSerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private List<Stats> stats;
+    private List<Game> games;
+    private List<Player> players;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        stats = SyntheticData.stats(rows, 42L);
+        games = SyntheticData.games(rows, 42L);
+        players = SyntheticData.players(rows, 42L);
+    }
+
+    @Benchmark
+    public byte[] serializeOneStats() throws IOException {
+        return objectMapper.writeValueAsBytes(stats.get(0));
+    }
+
+    @Benchmark
+    public void serializeAllStats() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), stats);
+    }
+
+    @Benchmark
+    public void serializeAllGames() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), games);
+    }
+
+    @Benchmark
+    public void serializeAllPlayers() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), players);
+    }
+}
@@ -0,0 +1,110 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.nepafootball.broadcast.entity.Game;
+import com.nepafootball.broadcast.entity.Player;
+import com.nepafootball.broadcast.entity.Stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic datasets for benchmarks
+ *
+ * @author NEPA Football Team
+ */
+public final class SyntheticData {
+
+    static final String[] SPORTS = {"football", "basketball", "baseball", "softball", "boys-soccer", "girls-soccer"};
+    static final String[] DIVISIONS = {"6A", "5A", "4A", "3A", "2A", "1A"};
+    static final String[] SEASONS = {"2021", "2022", "2023", "2024"};
+    static final LocalDateTime CREATED = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    private SyntheticData() {}
+
+    /**
+     * Generate stats rows with sport-appropriate columns filled
+     */
+    public static List<Stats> stats(int rows, long seed) {
+        Random random = new Random(seed);
+        List<Stats> stats = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String sport = SPORTS[random.nextInt(SPORTS.length)];
+            Stats row = new Stats("Player " + i, "Team " + (i % 400), "School " + (i % 200), sport,
+                    DIVISIONS[random.nextInt(DIVISIONS.length)], SEASONS[random.nextInt(SEASONS.length)]);
+            row.setId((long) i + 1);
+            row.setIsActive(true);
+            row.setCreatedAt(CREATED);
+            row.setUpdatedAt(CREATED);
+            row.setGamesPlayed(1 + random.nextInt(12));
+            switch (sport) {
+                case "football" -> {
+                    row.setPassingYards(random.nextInt(3500));
+                    row.setPassingTouchdowns(random.nextInt(40));
+                    row.setRushingYards(random.nextInt(2000));
+                    row.setReceivingYards(random.nextInt(1500));
+                    row.setTackles(random.nextInt(120));
+                }
+                case "basketball" -> {
+                    row.setPoints(random.nextInt(700));
+                    row.setRebounds(random.nextInt(300));
+                    row.setAssists(random.nextInt(200));
+                    row.setFieldGoalsAttempted(100 + random.nextInt(400));
+                    row.setFieldGoalsMade(row.getFieldGoalsAttempted() / 2);
+                }
+                case "baseball", "softball" -> {
+                    row.setBattingAverage(random.nextInt(500) / 1000.0);
+                    row.setHits(random.nextInt(60));
+                    row.setInningsPitched(random.nextInt(600) / 10.0);
+                    row.setEarnedRunAverage(random.nextInt(900) / 100.0);
+                }
+                default -> {
+                    row.setGoals(random.nextInt(30));
+                    row.setAssistsSoccer(random.nextInt(20));
+                    row.setSaves(random.nextInt(150));
+                }
+            }
+            stats.add(row);
+        }
+        return stats;
+    }
+
+    /**
+     * Generate games spread across one season
+     */
+    public static List<Game> games(int rows, long seed) {
+        Random random = new Random(seed);
+        List<Game> games = new ArrayList<>(rows);
+        LocalDate opening = LocalDate.of(2024, 8, 23);
+        for (int i = 0; i < rows; i++) {
+            Game game = new Game("Team " + random.nextInt(400), "Team " + random.nextInt(400),
+                    opening.plusDays(random.nextInt(90)), LocalTime.of(17 + random.nextInt(3), 0),
+                    "Field " + random.nextInt(200), SPORTS[random.nextInt(SPORTS.length)]);
+            game.setId((long) i + 1);
+            game.setIsActive(true);
+            game.setCreatedAt(CREATED);
+            games.add(game);
+        }
+        return games;
+    }
+
+    /**
+     * Generate roster players
+     */
+    public static List<Player> players(int rows, long seed) {
+        Random random = new Random(seed);
+        List<Player> players = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Player player = new Player("Player " + i, String.valueOf(random.nextInt(99)), "QB",
+                    String.valueOf(9 + random.nextInt(4)), "6'0\"", "180", SPORTS[random.nextInt(SPORTS.length)]);
+            player.setId((long) i + 1);
+            player.setIsActive(true);
+            player.setCreatedAt(CREATED);
+            players.add(player);
+        }
+        return players;
+    }
+}
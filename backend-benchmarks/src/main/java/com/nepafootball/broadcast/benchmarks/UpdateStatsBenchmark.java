@@ -0,0 +1,57 @@
+package com.nepafootball.broadcast.benchmarks;
+
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import com.nepafootball.broadcast.service.StatsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatsService.updateStats against an in-memory repository: field copy plus
+ * leaderboard index maintenance, without database cost
+ *
+ * @author NEPA Football Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class UpdateStatsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private StatsService statsService;
+    private Stats[] updates;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Stats> data = SyntheticData.stats(rows, 42L);
+        StatsRepository repository = Fixtures.inMemoryStatsRepository(data);
+        statsService = Fixtures.statsService(repository, Fixtures.leaderboardIndex(repository, 100));
+        updates = SyntheticData.stats(Math.min(rows, 4096), 99L).toArray(Stats[]::new);
+    }
+
+    @Benchmark
+    public Stats updateStats() {
+        next = (next + 1) % updates.length;
+        Stats update = updates[next];
+        return statsService.updateStats(update.getId(), update, null);
+    }
+}
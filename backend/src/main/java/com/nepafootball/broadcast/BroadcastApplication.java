@@ -3,6 +3,7 @@ package com.nepafootball.broadcast;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Spring Boot Application class for NEPA Football Broadcast Backend
@@ -19,6 +20,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  */
 @SpringBootApplication
 @EnableJpaAuditing // Enables automatic timestamp management for entities
+@EnableScheduling // Runs background flushers such as the live game event writer
 public class BroadcastApplication {
 
     /**
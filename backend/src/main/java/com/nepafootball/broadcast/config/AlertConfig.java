@@ -0,0 +1,33 @@
+package com.nepafootball.broadcast.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nepafootball.broadcast.service.AlertSink;
+import com.nepafootball.broadcast.service.FileAlertSink;
+import com.nepafootball.broadcast.service.LogAlertSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Score alert sink selection
+ *
+ * With alerts.sink.file set, deliveries are appended to that file as JSON
+ * lines; otherwise they are logged. A gateway to push or email providers plugs
+ * in as another {@link AlertSink} bean in place of this one.
+ *
+ * @author NEPA Football Team
+ */
+@Configuration
+public class AlertConfig {
+
+    @Bean
+    public AlertSink alertSink(@Value("${alerts.sink.file:}") String file, ObjectMapper objectMapper) throws IOException {
+        if (file.isBlank()) {
+            return new LogAlertSink();
+        }
+        return new FileAlertSink(Path.of(file), objectMapper);
+    }
+}
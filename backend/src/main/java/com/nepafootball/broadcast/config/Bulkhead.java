@@ -0,0 +1,227 @@
+package com.nepafootball.broadcast.config;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Admission limit for one group of endpoints
+ *
+ * At most maxConcurrent requests of the group run at once. Up to maxQueued
+ * more wait at most maxWaitMillis for one of them to finish; anything beyond
+ * that is rejected at once, so a flood of slow leaderboard or bulk requests
+ * holds a bounded share of the server's request threads and leaves the rest
+ * to live scoring. The group's own JDBC connection quota and statement
+ * timeout are applied by {@link BulkheadDataSource} to work running on behalf
+ * of its requests, see {@link #current()}.
+ *
+ * @author NEPA Football Team
+ */
+public class Bulkhead {
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+    // Server-Sent Events streams stay open for the whole game; the hub limits them instead
+    private static final List<String> EVENT_STREAMS = List.of("/api/games/*/stream", "/api/stats/leaders/stream");
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Endpoint groups, matched in this order against the method and the path below
+     * the context path; a route without a method matches any method
+     */
+    public enum Group {
+        /** Bulk imports, full exports and roster replacement */
+        ADMIN("/api/*/bulk", "/api/games/stream", "/api/stats/season/*/stream", "PUT /api/players/roster/**"),
+        /** Games, live scoring, stat entry, overlays and offline scorer sync */
+        LIVE("/api/games", "/api/games/**", "/api/overlay/**", "/api/sync",
+                "POST /api/stats", "POST /api/stats/**", "PUT /api/stats/**", "PATCH /api/stats/**",
+                "DELETE /api/stats/**"),
+        /** Stats queries, including the paged GET /api/stats listing, and leaderboards */
+        STATS("/api/stats", "/api/stats/**");
+
+        private final List<Route> routes;
+
+        Group(String... routes) {
+            this.routes = Stream.of(routes).map(Route::parse).toList();
+        }
+
+        /**
+         * Get the group of a request, or null if it belongs to none
+         */
+        public static Group of(String method, String path) {
+            if (EVENT_STREAMS.stream().anyMatch(pattern -> PATHS.match(pattern, path))) {
+                return null;
+            }
+            for (Group group : values()) {
+                if (group.routes.stream().anyMatch(route -> route.matches(method, path))) {
+                    return group;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Property and metric tag name, e.g. "live"
+         */
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * A path pattern, optionally limited to one HTTP method, e.g. "PUT /api/stats/**"
+     */
+    private record Route(String method, String pattern) {
+
+        static Route parse(String route) {
+            int space = route.indexOf(' ');
+            return space < 0 ? new Route(null, route) : new Route(route.substring(0, space), route.substring(space + 1));
+        }
+
+        boolean matches(String method, String path) {
+            return (this.method == null || this.method.equalsIgnoreCase(method)) && PATHS.match(pattern, path);
+        }
+    }
+
+    private final Group group;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitMillis;
+    private final int connections;
+    private final int statementTimeoutSeconds;
+    private final Semaphore slots;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(Group group, int maxConcurrent, int maxQueued, long maxWaitMillis, int connections,
+                    int statementTimeoutSeconds) {
+        this.group = group;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitMillis = maxWaitMillis;
+        this.connections = connections;
+        this.statementTimeoutSeconds = statementTimeoutSeconds;
+        this.slots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Get the bulkhead of the request the current thread works for, or null
+     */
+    public static Bulkhead current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Make a bulkhead current on this thread
+     *
+     * @param bulkhead The bulkhead, or null to clear it
+     * @return The bulkhead that was current before, to restore afterwards
+     */
+    static Bulkhead bind(Bulkhead bulkhead) {
+        Bulkhead previous = CURRENT.get();
+        if (bulkhead == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(bulkhead);
+        }
+        return previous;
+    }
+
+    /**
+     * Run work on this thread for no group, so its queries borrow from the pool directly
+     *
+     * For shared work that a request merely triggers, such as flushing a write
+     * buffer, which must not spend the group's connection quota; a transactional
+     * request already holds one of those connections.
+     */
+    public static void runUnbound(Runnable work) {
+        Bulkhead previous = bind(null);
+        try {
+            work.run();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * Take a slot, waiting in the queue if it has room
+     *
+     * @return False if the request is rejected; otherwise {@link #exit()} must follow
+     */
+    public boolean tryEnter() throws InterruptedException {
+        if (slots.tryAcquire()) {
+            return true;
+        }
+        if (maxWaitMillis <= 0) {
+            rejected.increment();
+            return false;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        try {
+            if (slots.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            rejected.increment();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Give back a slot taken by {@link #tryEnter()}
+     */
+    public void exit() {
+        slots.release();
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public int getStatementTimeoutSeconds() {
+        return statementTimeoutSeconds;
+    }
+
+    /**
+     * Get the number of requests running
+     */
+    public int getActive() {
+        return maxConcurrent - slots.availablePermits();
+    }
+
+    /**
+     * Get the number of requests waiting for a slot
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * Get the number of requests rejected
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
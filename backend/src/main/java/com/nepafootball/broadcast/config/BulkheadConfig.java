@@ -0,0 +1,156 @@
+package com.nepafootball.broadcast.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+
+import javax.sql.DataSource;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Bulkheads between the live-game, stats and admin endpoint groups
+ *
+ * Every group is configured under bulkhead.&lt;group&gt;: max-concurrent requests
+ * running, max-queued more waiting at most max-wait-ms, a quota of JDBC
+ * connections and a statement-timeout-seconds for its queries. Requests of
+ * other endpoints are not limited. Metrics are exported per group under
+ * bulkhead.*, tagged with the group.
+ *
+ * @author NEPA Football Team
+ */
+@Configuration
+@ConditionalOnProperty(name = "bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    @Bean
+    public BulkheadFilter bulkheadFilter(Environment environment,
+            @Value("${bulkhead.retry-after-seconds:2}") long retryAfterSeconds) {
+        Map<Bulkhead.Group, Bulkhead> bulkheads = new EnumMap<>(Bulkhead.Group.class);
+        for (Bulkhead.Group group : Bulkhead.Group.values()) {
+            String prefix = "bulkhead." + group.key() + ".";
+            bulkheads.put(group, new Bulkhead(group,
+                    environment.getProperty(prefix + "max-concurrent", Integer.class, 20),
+                    environment.getProperty(prefix + "max-queued", Integer.class, 20),
+                    environment.getProperty(prefix + "max-wait-ms", Long.class, 1000L),
+                    environment.getProperty(prefix + "connections", Integer.class, 3),
+                    environment.getProperty(prefix + "statement-timeout-seconds", Integer.class, 0)));
+        }
+        return new BulkheadFilter(bulkheads, retryAfterSeconds);
+    }
+
+    /**
+     * Ahead of Spring Security, so rejected requests cost no authentication
+     */
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilterRegistration(BulkheadFilter bulkheadFilter) {
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(bulkheadFilter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    /**
+     * Carries the request's bulkhead to @Async and streaming response work, so
+     * its queries count against the group's connection quota
+     */
+    @Bean
+    public TaskDecorator bulkheadTaskDecorator() {
+        return task -> {
+            Bulkhead bulkhead = Bulkhead.current();
+            if (bulkhead == null) {
+                return task;
+            }
+            return () -> {
+                Bulkhead previous = Bulkhead.bind(bulkhead);
+                try {
+                    task.run();
+                } finally {
+                    Bulkhead.bind(previous);
+                }
+            };
+        };
+    }
+
+    @Bean
+    public static BulkheadDataSourcePostProcessor bulkheadDataSourcePostProcessor(
+            ObjectProvider<BulkheadFilter> bulkheadFilter) {
+        return new BulkheadDataSourcePostProcessor(bulkheadFilter);
+    }
+
+    @Bean
+    public MeterBinder bulkheadMetrics(BulkheadFilter bulkheadFilter, DataSource dataSource) {
+        BulkheadDataSource connections = DataSourceUnwrapper.unwrap(dataSource, BulkheadDataSource.class);
+        return registry -> bulkheadFilter.getBulkheads().forEach(bulkhead -> bind(bulkhead,
+                connections == null ? null : connections.getLimiter(bulkhead.getGroup()), registry));
+    }
+
+    private static void bind(Bulkhead bulkhead, ConnectionLimiter connections, MeterRegistry registry) {
+        Tags tags = Tags.of("group", bulkhead.getGroup().key());
+        Gauge.builder("bulkhead.active", bulkhead, Bulkhead::getActive)
+                .description("Requests running in the endpoint group")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                .description("Requests waiting for a slot in the endpoint group")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("bulkhead.saturation", bulkhead, b -> (double) b.getActive() / b.getMaxConcurrent())
+                .description("Share of the endpoint group's slots in use")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                .description("Requests rejected with 503 by the endpoint group")
+                .tags(tags)
+                .register(registry);
+        if (connections != null) {
+            Gauge.builder("bulkhead.connections.available", connections, ConnectionLimiter::getAvailablePermits)
+                    .description("Database connections the endpoint group may still take")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("bulkhead.connections.timeouts", connections, ConnectionLimiter::getTimeouts)
+                    .description("Queries of the endpoint group that gave up waiting for a connection")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Wraps the pool last, over the virtual-thread {@link ConnectionLimiter} if there is one
+     */
+    public static final class BulkheadDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<BulkheadFilter> bulkheadFilter;
+
+        BulkheadDataSourcePostProcessor(ObjectProvider<BulkheadFilter> bulkheadFilter) {
+            this.bulkheadFilter = bulkheadFilter;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                return new BulkheadDataSource(dataSource, bulkheadFilter.getObject().getBulkheads());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.nepafootball.broadcast.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Hands out connections within the quota of the current request's endpoint group
+ *
+ * Each {@link Bulkhead} gets its own {@link ConnectionLimiter} over the pool,
+ * with the group's connection quota, wait and statement timeout. Work that
+ * runs for no group, such as other endpoints and scheduled flushes, borrows
+ * from the pool directly. Quotas are caps, not reservations: they keep slow
+ * groups from holding every connection, so their sum may exceed the pool size.
+ *
+ * @author NEPA Football Team
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Map<Bulkhead.Group, ConnectionLimiter> limiters = new EnumMap<>(Bulkhead.Group.class);
+
+    public BulkheadDataSource(DataSource dataSource, Collection<Bulkhead> bulkheads) {
+        super(dataSource);
+        for (Bulkhead bulkhead : bulkheads) {
+            limiters.put(bulkhead.getGroup(), new ConnectionLimiter(dataSource, bulkhead.getConnections(),
+                    bulkhead.getMaxWaitMillis(), bulkhead.getStatementTimeoutSeconds()));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    /**
+     * Get the connection limiter of a group
+     */
+    public ConnectionLimiter getLimiter(Bulkhead.Group group) {
+        return limiters.get(group);
+    }
+
+    private DataSource target() {
+        Bulkhead bulkhead = Bulkhead.current();
+        ConnectionLimiter limiter = bulkhead == null ? null : limiters.get(bulkhead.getGroup());
+        return limiter != null ? limiter : obtainTargetDataSource();
+    }
+}
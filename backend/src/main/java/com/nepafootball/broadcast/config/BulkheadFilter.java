@@ -0,0 +1,120 @@
+package com.nepafootball.broadcast.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits each request through the bulkhead of its endpoint group
+ *
+ * A request the group cannot take is answered 503 with Retry-After before it
+ * reaches authentication or a controller. An admitted request keeps its slot
+ * until it completes, including the asynchronous part of a streamed export,
+ * and its bulkhead is current on the request thread meanwhile.
+ *
+ * @author NEPA Football Team
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final Map<Bulkhead.Group, Bulkhead> bulkheads;
+    private final long retryAfterSeconds;
+
+    public BulkheadFilter(Map<Bulkhead.Group, Bulkhead> bulkheads, long retryAfterSeconds) {
+        this.bulkheads = bulkheads;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Get the bulkhead of every endpoint group
+     */
+    public Collection<Bulkhead> getBulkheads() {
+        return bulkheads.values();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Bulkhead.Group group = Bulkhead.Group.of(request.getMethod(),
+                request.getRequestURI().substring(request.getContextPath().length()));
+        Bulkhead bulkhead = group == null ? null : bulkheads.get(group);
+        if (bulkhead == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean admitted;
+        try {
+            admitted = bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return;
+        }
+        boolean async = false;
+        Bulkhead previous = Bulkhead.bind(bulkhead);
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+            if (async) {
+                request.getAsyncContext().addListener(new Exit(bulkhead));
+            }
+        } finally {
+            Bulkhead.bind(previous);
+            if (!async) {
+                bulkhead.exit();
+            }
+        }
+    }
+
+    /**
+     * Gives back the slot of an asynchronous request once it ends, however it ends
+     */
+    private static final class Exit implements AsyncListener {
+
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean exited = new AtomicBoolean();
+
+        Exit(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            exit();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            exit();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            exit();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void exit() {
+            if (exited.compareAndSet(false, true)) {
+                bulkhead.exit();
+            }
+        }
+    }
+}
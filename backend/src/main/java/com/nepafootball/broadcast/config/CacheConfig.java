@@ -0,0 +1,60 @@
+package com.nepafootball.broadcast.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.TypesafeConfigurator;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.typesafe.config.ConfigFactory;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import java.util.Set;
+
+/**
+ * Hibernate second-level cache wiring
+ *
+ * Regions are Caffeine caches sized and expired per region in application.conf.
+ * The cache manager is created here and handed to Hibernate so the same caches
+ * can be bound to Micrometer: Hibernate statistics report per-region hits,
+ * misses and puts, and the JCache binder adds evictions and removals.
+ *
+ * @author NEPA Football Team
+ */
+@Configuration
+public class CacheConfig {
+
+    // Keys under caffeine.jcache that hold settings rather than caches
+    private static final Set<String> RESERVED_KEYS = Set.of("default", "listeners");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * Binds every region configured in application.conf; query regions are otherwise
+     * only created on first use
+     */
+    @Bean
+    public MeterBinder hibernateCacheRegionMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : TypesafeConfigurator.cacheNames(ConfigFactory.load())) {
+                if (RESERVED_KEYS.contains(region)) {
+                    continue;
+                }
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region), Tags.of("cacheManager", "hibernate"));
+            }
+        };
+    }
+}
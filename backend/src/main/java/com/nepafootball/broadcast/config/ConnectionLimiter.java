@@ -0,0 +1,162 @@
+package com.nepafootball.broadcast.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits at most a fixed number of threads to the connection pool at a time
+ *
+ * On platform threads Tomcat's thread pool bounds how many requests can wait
+ * for a JDBC connection. On virtual threads nothing does, so thousands of
+ * requests would contend inside the pool at once. This limiter queues them
+ * first, in arrival order, on a fair semaphore with one permit per pooled
+ * connection: a virtual thread waiting here parks without holding its
+ * carrier, the pool only ever sees as many borrowers as it has connections,
+ * and the queue length is observable. {@link BulkheadDataSource} also uses one
+ * per endpoint group, as that group's share of the pool.
+ *
+ * A permit is held from getConnection() until the connection is closed.
+ * Waiting longer than the timeout throws SQLTransientConnectionException,
+ * which Spring translates like a pool timeout. With a statement timeout, every
+ * statement created on a handed-out connection is cancelled by the driver if
+ * it runs longer.
+ *
+ * @author NEPA Football Team
+ */
+public class ConnectionLimiter extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutMillis;
+    private final int statementTimeoutSeconds;
+    private final LongAdder timeouts = new LongAdder();
+
+    public ConnectionLimiter(DataSource dataSource, int permits, long timeoutMillis) {
+        this(dataSource, permits, timeoutMillis, 0);
+    }
+
+    /**
+     * @param statementTimeoutSeconds Query timeout set on every statement, or 0 for none
+     */
+    public ConnectionLimiter(DataSource dataSource, int permits, long timeoutMillis, int statementTimeoutSeconds) {
+        super(dataSource);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.timeoutMillis = timeoutMillis;
+        this.statementTimeoutSeconds = statementTimeoutSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the number of connections that may be handed out at once
+     */
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    /**
+     * Get the number of connections that may be handed out right now
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Get the approximate number of threads waiting for a connection
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Get the number of threads that gave up waiting for a connection
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException("No database connection available within "
+                        + timeoutMillis + " ms; " + getWaiting() + " requests waiting");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    /**
+     * Wrap a pooled connection so closing it returns the permit, once, and its
+     * statements get the statement timeout
+     */
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionLimiter.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "Limited " + connection;
+                        case "close":
+                            try {
+                                connection.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                            return null;
+                        default:
+                            Object result;
+                            try {
+                                result = method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                            if (statementTimeoutSeconds > 0 && result instanceof Statement statement) {
+                                statement.setQueryTimeout(statementTimeoutSeconds);
+                            }
+                            return result;
+                    }
+                });
+    }
+}
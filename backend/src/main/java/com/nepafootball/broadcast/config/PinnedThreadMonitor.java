@@ -0,0 +1,111 @@
+package com.nepafootball.broadcast.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Logs virtual threads that block while pinned to their carrier thread
+ *
+ * A virtual thread that blocks inside a synchronized block or method, or
+ * under a native frame, cannot unmount: it holds one of the few carrier
+ * threads for as long as it waits, and enough of them stall every other
+ * request. The JVM reports each such wait longer than the threshold as a
+ * jdk.VirtualThreadPinned flight recorder event; this monitor streams them
+ * in-process and attributes each to the innermost frame of our code.
+ *
+ * The first pinning at a site is logged as a warning with our frames of its
+ * stack, later ones at debug level. Every pinning is counted in
+ * jvm.threads.virtual.pinned, tagged with its site, or "other" when none of
+ * the stack is ours (JFR keeps 64 frames unless started with
+ * -XX:FlightRecorderOptions:stackdepth=256, as the java21 build profile does).
+ *
+ * @author NEPA Football Team
+ */
+public class PinnedThreadMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String OUR_PACKAGE = "com.nepafootball.";
+    private static final String OTHER = "other";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final long thresholdMillis;
+    private final MeterRegistry registry;
+    private final Map<String, Counter> sites = new HashMap<>();
+    private final RecordingStream stream;
+
+    public PinnedThreadMonitor(Duration threshold, MeterRegistry registry) {
+        this.thresholdMillis = threshold.toMillis();
+        this.registry = registry;
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+    }
+
+    /**
+     * Start streaming pinning events on a background thread
+     */
+    public void start() {
+        stream.startAsync();
+        log.info("Watching for virtual threads pinned longer than {} ms", thresholdMillis);
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    void record(RecordedEvent event) {
+        List<RecordedFrame> ours = ourFrames(event.getStackTrace());
+        String site = ours.isEmpty() ? OTHER : describe(ours.get(0));
+        // Events are delivered on the stream's one thread
+        Counter counter = sites.get(site);
+        boolean first = counter == null;
+        if (first) {
+            counter = Counter.builder("jvm.threads.virtual.pinned")
+                    .description("Virtual threads that blocked while pinned to their carrier")
+                    .tag("site", site)
+                    .register(registry);
+            sites.put(site, counter);
+        }
+        counter.increment();
+        long millis = event.getDuration().toMillis();
+        if (first && !ours.isEmpty()) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n\tat {}", millis, site, ours.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(PinnedThreadMonitor::describe)
+                    .collect(Collectors.joining("\n\tat ")));
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", millis, site);
+        }
+    }
+
+    private static List<RecordedFrame> ourFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(OUR_PACKAGE))
+                .toList();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
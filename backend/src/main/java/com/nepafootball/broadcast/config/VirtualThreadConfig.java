@@ -0,0 +1,96 @@
+package com.nepafootball.broadcast.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+import java.time.Duration;
+
+/**
+ * Virtual-thread request mode
+ *
+ * Enabled by the virtual-threads profile (spring.threads.virtual.enabled) on a
+ * Java 21 runtime, built with mvn -Pjava21. Spring Boot then runs Tomcat
+ * requests, @Async methods, StreamingResponseBody writers and @Scheduled jobs
+ * on virtual threads; on Java 17 the property has no effect and neither does
+ * this class.
+ *
+ * Two additions make that safe here: the Hikari pool is fronted by a
+ * {@link ConnectionLimiter} with one permit per pooled connection, since
+ * server.tomcat.threads.max no longer bounds how many requests wait for one,
+ * and a {@link PinnedThreadMonitor} reports virtual threads that block while
+ * pinned to a carrier, with the site in our code responsible.
+ *
+ * @author NEPA Football Team
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Declared with its own type so Spring sees it is Ordered before creating it
+     */
+    @Bean
+    public static ConnectionLimiterPostProcessor connectionLimiterPostProcessor() {
+        return new ConnectionLimiterPostProcessor();
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        ConnectionLimiter limiter = DataSourceUnwrapper.unwrap(dataSource, ConnectionLimiter.class);
+        return registry -> {
+            if (limiter != null) {
+                bind(limiter, registry);
+            }
+        };
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            @Value("${virtual-threads.pinned-threshold-ms:20}") long thresholdMillis, MeterRegistry registry) {
+        return new PinnedThreadMonitor(Duration.ofMillis(thresholdMillis), registry);
+    }
+
+    private static void bind(ConnectionLimiter limiter, MeterRegistry registry) {
+        Gauge.builder("db.connection.limiter.waiting", limiter, ConnectionLimiter::getWaiting)
+                .description("Threads waiting for a database connection permit")
+                .register(registry);
+        Gauge.builder("db.connection.limiter.available", limiter, ConnectionLimiter::getAvailablePermits)
+                .description("Database connection permits not in use")
+                .register(registry);
+        FunctionCounter.builder("db.connection.limiter.timeouts", limiter, ConnectionLimiter::getTimeouts)
+                .description("Threads that gave up waiting for a database connection permit")
+                .register(registry);
+    }
+
+    /**
+     * Wraps the pool first, so {@link BulkheadDataSource} quotas sit on top of the limiter
+     */
+    public static final class ConnectionLimiterPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                return new ConnectionLimiter(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.nepafootball.broadcast.controller;
+
+import com.nepafootball.broadcast.entity.AlertSubscription;
+import com.nepafootball.broadcast.service.ScoreAlertService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for score-alert subscriptions
+ *
+ * Users follow teams, schools and sports and are alerted when their games
+ * score or go final
+ *
+ * @author NEPA Football Team
+ */
+@RestController
+@RequestMapping("/api/users/{userId}/alerts")
+@CrossOrigin(origins = "*")
+public class AlertController {
+
+    @Autowired
+    private ScoreAlertService scoreAlertService;
+
+    /**
+     * Get everything a user follows
+     *
+     * @param userId The user ID
+     * @return The user's subscriptions, 404 if the user does not exist
+     */
+    @GetMapping
+    public ResponseEntity<List<AlertSubscription>> getSubscriptions(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(scoreAlertService.getSubscriptions(userId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Follow a team, school or sport, e.g. {"kind": "TEAM", "name": "Scranton Knights"}
+     *
+     * @param userId The user ID
+     * @param subscription Kind and name to follow
+     * @return The subscription, 400 if it is invalid, 404 if the user does not exist,
+     *         409 if the user already follows it
+     */
+    @PostMapping
+    public ResponseEntity<AlertSubscription> subscribe(@PathVariable Long userId,
+                                                       @RequestBody AlertSubscription subscription) {
+        try {
+            return ResponseEntity.ok(scoreAlertService.subscribe(userId, subscription));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Stop following something
+     *
+     * @param userId The user ID
+     * @param subscriptionId The subscription ID
+     * @return 204 No Content on success, 404 if the user has no such subscription
+     */
+    @DeleteMapping("/{subscriptionId}")
+    public ResponseEntity<Void> unsubscribe(@PathVariable Long userId, @PathVariable Long subscriptionId) {
+        if (scoreAlertService.unsubscribe(userId, subscriptionId)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.nepafootball.broadcast.controller;
+
+import com.nepafootball.broadcast.service.PreconditionFailedException;
+
+/**
+ * Maps entity versions to HTTP entity tags
+ * 
+ * The ETag of a resource is its quoted @Version value. An If-Match header
+ * naming that tag turns an update into a conditional one.
+ * 
+ * @author NEPA Football Team
+ */
+final class EntityTags {
+
+    private EntityTags() {}
+
+    /**
+     * Entity tag for a version
+     */
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Version required by an If-Match header
+     * 
+     * @param ifMatch The header value, or null if absent
+     * @return The version, or null when the header is absent or "*"
+     * @throws PreconditionFailedException if the header names no usable version
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        // If-Match uses strong comparison, so weak tags never match
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // fall through; an unknown tag can never match
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not name a version: " + ifMatch);
+    }
+}
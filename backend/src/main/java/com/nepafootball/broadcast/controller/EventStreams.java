@@ -0,0 +1,48 @@
+package com.nepafootball.broadcast.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.time.Duration;
+
+/**
+ * Wraps broadcast hub streams in Server-Sent Events responses
+ * 
+ * The hub writes complete SSE frames, so the emitter is returned as a plain
+ * response body with the event-stream content type. Proxies are asked not to
+ * cache or buffer the stream.
+ * 
+ * @author NEPA Football Team
+ */
+final class EventStreams {
+
+    /**
+     * How long a client is asked to wait before reconnecting when the hub is full
+     */
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private EventStreams() {}
+
+    /**
+     * An open event stream
+     */
+    static ResponseEntity<ResponseBodyEmitter> ok(ResponseBodyEmitter emitter) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noCache())
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    /**
+     * The hub has no room for another subscriber
+     */
+    static ResponseEntity<ResponseBodyEmitter> full() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", String.valueOf(RETRY_AFTER.toSeconds()))
+                .build();
+    }
+}
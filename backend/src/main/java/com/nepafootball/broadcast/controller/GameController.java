@@ -1,10 +1,20 @@
 package com.nepafootball.broadcast.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.CursorPage;
+import com.nepafootball.broadcast.dto.ScheduleImportResult;
 import com.nepafootball.broadcast.entity.Game;
 import com.nepafootball.broadcast.service.GameService;
+import com.nepafootball.broadcast.service.MergePatcher;
+import com.nepafootball.broadcast.service.PreconditionFailedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,13 +35,36 @@ public class GameController {
     private GameService gameService;
     
     /**
-     * Get all games
+     * Get all games, one keyset page at a time
      * 
-     * @return List of all games
+     * @param after Cursor from the previous page, omitted for the first page
+     * @param limit Maximum number of games per page
+     * @return Page of games with the next cursor, 400 if the cursor is malformed
      */
     @GetMapping
-    public List<Game> getAllGames() {
-        return gameService.getAllGames();
+    public ResponseEntity<CursorPage<Game>> getAllGames(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        try {
+            return ResponseEntity.ok(gameService.getGamesPage(after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Stream all games as a JSON array or NDJSON (format=ndjson)
+     * 
+     * @param format json (default) or ndjson
+     * @return Streaming response body written row by row
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllGames(@RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        StreamingResponseBody body = out -> gameService.writeAllGames(out, ndjson);
+        return ResponseEntity.ok()
+            .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+            .body(body);
     }
     
     /**
@@ -53,7 +86,7 @@ public class GameController {
     @GetMapping("/{id}")
     public ResponseEntity<Game> getGameById(@PathVariable Long id) {
         return gameService.getGameById(id)
-            .map(ResponseEntity::ok)
+            .map(game -> ResponseEntity.ok().eTag(EntityTags.of(game.getVersion())).body(game))
             .orElse(ResponseEntity.notFound().build());
     }
     
@@ -68,17 +101,61 @@ public class GameController {
         return gameService.createGame(game);
     }
     
+    /**
+     * Import a schedule in one request
+     * 
+     * @param games The games to import
+     * @return The persisted games plus any double bookings and invalid games that were skipped
+     */
+    @PostMapping("/bulk")
+    public ScheduleImportResult importGames(@RequestBody List<Game> games) {
+        return gameService.importGames(games);
+    }
+    
     /**
      * Update an existing game
      * 
      * @param id The game ID
      * @param game The updated game data
-     * @return The updated game, 404 if not found
+     * @param ifMatch ETag of the version being replaced, if the update is conditional
+     * @return The updated game, 404 if not found, 409 if it changed concurrently, 412 if ifMatch is stale
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Game> updateGame(@PathVariable Long id, @RequestBody Game game) {
+    public ResponseEntity<Game> updateGame(@PathVariable Long id, @RequestBody Game game,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            Game updated = gameService.updateGame(id, game, EntityTags.expectedVersion(ifMatch));
+            return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Partially update a game with a JSON merge patch
+     * 
+     * @param id The game ID
+     * @param patch RFC 7396 merge patch of the fields to change
+     * @param ifMatch ETag of the version being patched, if the update is conditional
+     * @return The patched game, 400 if the patch is invalid, 404 if not found,
+     *         409 if it changed concurrently, 412 if ifMatch is stale
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Game> patchGame(@PathVariable Long id, @RequestBody JsonNode patch,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            return ResponseEntity.ok(gameService.updateGame(id, game));
+            Game patched = gameService.patchGame(id, patch, EntityTags.expectedVersion(ifMatch));
+            return ResponseEntity.ok().eTag(EntityTags.of(patched.getVersion())).body(patched);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -0,0 +1,107 @@
+package com.nepafootball.broadcast.controller;
+
+import com.nepafootball.broadcast.dto.Scoreboard;
+import com.nepafootball.broadcast.entity.GameEvent;
+import com.nepafootball.broadcast.service.LiveGameService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+
+/**
+ * REST controller for live game scoreboards
+ *
+ * Broadcast crews post play-by-play events; scoreboards are served from memory
+ *
+ * @author NEPA Football Team
+ */
+@RestController
+@RequestMapping("/api/games")
+@CrossOrigin(origins = "*")
+public class LiveGameController {
+
+    @Autowired
+    private LiveGameService liveGameService;
+
+    /**
+     * Get the scoreboards of every game in progress
+     *
+     * @return Live scoreboards ordered by game ID
+     */
+    @GetMapping("/live")
+    public List<Scoreboard> getLiveScoreboards() {
+        return liveGameService.getLiveScoreboards();
+    }
+
+    /**
+     * Get the current scoreboard of a game
+     *
+     * @param id The game ID
+     * @return The scoreboard, or 404 if the game does not exist
+     */
+    @GetMapping("/{id}/live")
+    public ResponseEntity<Scoreboard> getScoreboard(@PathVariable Long id) {
+        return liveGameService.getScoreboard(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Follow a game as Server-Sent Events
+     *
+     * @param id The game ID
+     * @return A stream that starts with the current scoreboard, then sends a "play" event and a
+     *         "scoreboard" event per recorded event; 404 if the game does not exist, 503 if the hub is full
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamGame(@PathVariable Long id) {
+        try {
+            return liveGameService.subscribe(id)
+                    .map(EventStreams::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return EventStreams.full();
+        }
+    }
+
+    /**
+     * Follow the clocks of every live game as Server-Sent Events
+     *
+     * @return A stream of "clocks" events, one per live.clock.publish-interval-ms, each listing
+     *         the time left on every running clock; 503 if the hub is full
+     */
+    @GetMapping(value = "/clocks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamClocks() {
+        try {
+            return EventStreams.ok(liveGameService.subscribeClocks());
+        } catch (IllegalStateException e) {
+            return EventStreams.full();
+        }
+    }
+
+    /**
+     * Record a play-by-play event
+     *
+     * @param id The game ID
+     * @param event The event
+     * @return The scoreboard after the event, 400 if the event is incomplete or invalid,
+     *         409 if it cannot happen in the game's current state, 404 if the game does not exist
+     */
+    @PostMapping("/{id}/events")
+    public ResponseEntity<Scoreboard> recordEvent(@PathVariable Long id, @Valid @RequestBody GameEvent event) {
+        try {
+            return liveGameService.recordEvent(id, event)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
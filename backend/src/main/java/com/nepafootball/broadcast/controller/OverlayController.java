@@ -0,0 +1,49 @@
+package com.nepafootball.broadcast.controller;
+
+import com.nepafootball.broadcast.service.LiveGameService;
+import com.nepafootball.broadcast.service.OverlayFeed;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * REST controller for broadcast graphics overlays
+ *
+ * Graphics machines poll these several times a second per game, so frames are
+ * served pre-rendered without touching the database or Jackson
+ *
+ * @author NEPA Football Team
+ */
+@RestController
+@RequestMapping("/api/overlay")
+@CrossOrigin(origins = "*")
+public class OverlayController {
+
+    @Autowired
+    private LiveGameService liveGameService;
+
+    /**
+     * Get the fixed-layout scoreboard frame of a game
+     *
+     * @param gameId The game ID
+     * @param response Written directly with the frame, or 404 if the game does not exist
+     */
+    @GetMapping("/{gameId}")
+    public void getOverlay(@PathVariable Long gameId, HttpServletResponse response) throws IOException {
+        Optional<ByteBuffer> frame = liveGameService.getOverlay(gameId);
+        if (frame.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(frame.get().remaining());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        OverlayFeed.write(frame.get(), response.getOutputStream());
+    }
+}
@@ -1,8 +1,17 @@
 package com.nepafootball.broadcast.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.CursorPage;
+import com.nepafootball.broadcast.dto.RosterSyncResult;
 import com.nepafootball.broadcast.entity.Player;
+import com.nepafootball.broadcast.service.MergePatcher;
 import com.nepafootball.broadcast.service.PlayerService;
+import com.nepafootball.broadcast.service.PreconditionFailedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,13 +33,21 @@ public class PlayerController {
     private PlayerService playerService;
     
     /**
-     * Get all players
+     * Get all players, one keyset page at a time
      * 
-     * @return List of all players
+     * @param after Cursor from the previous page, omitted for the first page
+     * @param limit Maximum number of players per page
+     * @return Page of players with the next cursor, 400 if the cursor is malformed
      */
     @GetMapping
-    public List<Player> getAllPlayers() {
-        return playerService.getAllPlayers();
+    public ResponseEntity<CursorPage<Player>> getAllPlayers(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        try {
+            return ResponseEntity.ok(playerService.getPlayersPage(after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     /**
@@ -52,7 +69,7 @@ public class PlayerController {
     @GetMapping("/{id}")
     public ResponseEntity<Player> getPlayerById(@PathVariable Long id) {
         return playerService.getPlayerById(id)
-            .map(ResponseEntity::ok)
+            .map(player -> ResponseEntity.ok().eTag(EntityTags.of(player.getVersion())).body(player))
             .orElse(ResponseEntity.notFound().build());
     }
     
@@ -72,12 +89,45 @@ public class PlayerController {
      * 
      * @param id The player ID
      * @param player The updated player data
-     * @return The updated player, 404 if not found
+     * @param ifMatch ETag of the version being replaced, if the update is conditional
+     * @return The updated player, 404 if not found, 409 if it changed concurrently, 412 if ifMatch is stale
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Player> updatePlayer(@PathVariable Long id, @RequestBody Player player) {
+    public ResponseEntity<Player> updatePlayer(@PathVariable Long id, @RequestBody Player player,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            Player updated = playerService.updatePlayer(id, player, EntityTags.expectedVersion(ifMatch));
+            return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Partially update a player with a JSON merge patch
+     * 
+     * @param id The player ID
+     * @param patch RFC 7396 merge patch of the fields to change
+     * @param ifMatch ETag of the version being patched, if the update is conditional
+     * @return The patched player, 400 if the patch is invalid, 404 if not found,
+     *         409 if it changed concurrently, 412 if ifMatch is stale
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Player> patchPlayer(@PathVariable Long id, @RequestBody JsonNode patch,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            return ResponseEntity.ok(playerService.updatePlayer(id, player));
+            Player patched = playerService.patchPlayer(id, patch, EntityTags.expectedVersion(ifMatch));
+            return ResponseEntity.ok().eTag(EntityTags.of(patched.getVersion())).body(patched);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -110,6 +160,37 @@ public class PlayerController {
         return playerService.getPlayersBySport(sport);
     }
     
+    /**
+     * Get the active players on a team roster
+     * 
+     * @param teamName The team the roster belongs to
+     * @param sport The sport of the roster
+     * @return Active roster players ordered by name
+     */
+    @GetMapping("/roster/team/{teamName}/sport/{sport}")
+    public List<Player> getRoster(@PathVariable String teamName, @PathVariable String sport) {
+        return playerService.getRoster(teamName, sport);
+    }
+    
+    /**
+     * Replace a team roster in a single round trip
+     * 
+     * @param teamName The team the roster belongs to
+     * @param sport The sport of the roster
+     * @param players The complete roster
+     * @return Counts of inserted, updated, unchanged and deactivated players,
+     *         400 if a player is invalid or a name appears twice
+     */
+    @PutMapping("/roster/team/{teamName}/sport/{sport}")
+    public ResponseEntity<RosterSyncResult> syncRoster(@PathVariable String teamName, @PathVariable String sport,
+                                                       @RequestBody List<Player> players) {
+        try {
+            return ResponseEntity.ok(playerService.syncRoster(teamName, sport, players));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * Find players by position
      * 
@@ -1,8 +1,16 @@
 package com.nepafootball.broadcast.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.CursorPage;
 import com.nepafootball.broadcast.entity.School;
+import com.nepafootball.broadcast.service.MergePatcher;
+import com.nepafootball.broadcast.service.PreconditionFailedException;
 import com.nepafootball.broadcast.service.SchoolService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,13 +32,21 @@ public class SchoolController {
     private SchoolService schoolService;
     
     /**
-     * Get all schools
+     * Get all schools, one keyset page at a time
      * 
-     * @return List of all schools
+     * @param after Cursor from the previous page, omitted for the first page
+     * @param limit Maximum number of schools per page
+     * @return Page of schools with the next cursor, 400 if the cursor is malformed
      */
     @GetMapping
-    public List<School> getAllSchools() {
-        return schoolService.getAllSchools();
+    public ResponseEntity<CursorPage<School>> getAllSchools(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        try {
+            return ResponseEntity.ok(schoolService.getSchoolsPage(after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     /**
@@ -52,7 +68,7 @@ public class SchoolController {
     @GetMapping("/{id}")
     public ResponseEntity<School> getSchoolById(@PathVariable Long id) {
         return schoolService.getSchoolById(id)
-            .map(ResponseEntity::ok)
+            .map(school -> ResponseEntity.ok().eTag(EntityTags.of(school.getVersion())).body(school))
             .orElse(ResponseEntity.notFound().build());
     }
     
@@ -72,12 +88,45 @@ public class SchoolController {
      * 
      * @param id The school ID
      * @param school The updated school data
-     * @return The updated school, 404 if not found
+     * @param ifMatch ETag of the version being replaced, if the update is conditional
+     * @return The updated school, 404 if not found, 409 if it changed concurrently, 412 if ifMatch is stale
      */
     @PutMapping("/{id}")
-    public ResponseEntity<School> updateSchool(@PathVariable Long id, @RequestBody School school) {
+    public ResponseEntity<School> updateSchool(@PathVariable Long id, @RequestBody School school,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            School updated = schoolService.updateSchool(id, school, EntityTags.expectedVersion(ifMatch));
+            return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Partially update a school with a JSON merge patch
+     * 
+     * @param id The school ID
+     * @param patch RFC 7396 merge patch of the fields to change
+     * @param ifMatch ETag of the version being patched, if the update is conditional
+     * @return The patched school, 400 if the patch is invalid, 404 if not found,
+     *         409 if it changed concurrently, 412 if ifMatch is stale
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<School> patchSchool(@PathVariable Long id, @RequestBody JsonNode patch,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            return ResponseEntity.ok(schoolService.updateSchool(id, school));
+            School patched = schoolService.patchSchool(id, patch, EntityTags.expectedVersion(ifMatch));
+            return ResponseEntity.ok().eTag(EntityTags.of(patched.getVersion())).body(patched);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -1,13 +1,29 @@
 package com.nepafootball.broadcast.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.BulkImportResult;
+import com.nepafootball.broadcast.dto.CursorPage;
 import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.service.LeaderboardIndex;
+import com.nepafootball.broadcast.service.LeaderboardStream;
+import com.nepafootball.broadcast.service.MergePatcher;
+import com.nepafootball.broadcast.service.PreconditionFailedException;
+import com.nepafootball.broadcast.service.StatsImportService;
 import com.nepafootball.broadcast.service.StatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,13 +41,24 @@ public class StatsController {
     @Autowired
     private StatsService statsService;
 
+    @Autowired
+    private StatsImportService statsImportService;
+
+    @Autowired
+    private LeaderboardStream leaderboardStream;
+
     /**
-     * Get all stats
+     * Get all stats, one keyset page at a time
      */
     @GetMapping
-    public ResponseEntity<List<Stats>> getAllStats() {
-        List<Stats> stats = statsService.getAllStats();
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<CursorPage<Stats>> getAllStats(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        try {
+            return ResponseEntity.ok(statsService.getStatsPage(after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     /**
@@ -40,7 +67,7 @@ public class StatsController {
     @GetMapping("/{id}")
     public ResponseEntity<Stats> getStatsById(@PathVariable Long id) {
         Optional<Stats> stats = statsService.getStatsById(id);
-        return stats.map(ResponseEntity::ok)
+        return stats.map(row -> ResponseEntity.ok().eTag(EntityTags.of(row.getVersion())).body(row))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -104,6 +131,20 @@ public class StatsController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Stream stats by season as a JSON array or NDJSON (format=ndjson)
+     */
+    @GetMapping("/season/{season}/stream")
+    public ResponseEntity<StreamingResponseBody> streamStatsBySeason(
+            @PathVariable String season,
+            @RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        StreamingResponseBody body = out -> statsService.writeStatsBySeason(season, out, ndjson);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     /**
      * Get top performers by passing yards
      */
@@ -176,6 +217,46 @@ public class StatsController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Follow a leaderboard as Server-Sent Events
+     * 
+     * The stream starts with the current leaders and sends a "leaders" event whenever they change
+     */
+    @GetMapping(value = "/leaders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamLeaders(
+            @RequestParam String stat,
+            @RequestParam(required = false) String sport,
+            @RequestParam(required = false) String division,
+            @RequestParam(required = false) String season,
+            @RequestParam(defaultValue = "" + StatsService.DEFAULT_LEADERS_LIMIT) int limit) {
+        try {
+            return EventStreams.ok(leaderboardStream.subscribe(stat, sport, division, season, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException e) {
+            return EventStreams.full();
+        }
+    }
+
+    /**
+     * Get top performers for any stat, optionally filtered by sport, division and season
+     */
+    @GetMapping("/leaders/{stat}")
+    public ResponseEntity<List<Stats>> getLeaders(
+            @PathVariable String stat,
+            @RequestParam(required = false) String sport,
+            @RequestParam(required = false) String division,
+            @RequestParam(required = false) String season,
+            @RequestParam(defaultValue = "" + StatsService.DEFAULT_LEADERS_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") int offset) {
+        try {
+            List<Stats> stats = statsService.getLeaders(stat, sport, division, season, limit, offset);
+            return ResponseEntity.ok(stats);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     /**
      * Get leaderboard for specific sport, division, and stat type
      */
@@ -183,11 +264,20 @@ public class StatsController {
     public ResponseEntity<List<Stats>> getLeaderboard(
             @PathVariable String sport,
             @PathVariable String division,
-            @PathVariable String statType) {
-        List<Stats> stats = statsService.getLeaderboard(sport, division, statType);
+            @PathVariable String statType,
+            @RequestParam(required = false) String season) {
+        List<Stats> stats = statsService.getLeaderboard(sport, division, season, statType);
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Get leaderboard index size and hit-rate counters
+     */
+    @GetMapping("/leaderboard/index")
+    public ResponseEntity<LeaderboardIndex.IndexStats> getLeaderboardIndexStats() {
+        return ResponseEntity.ok(statsService.getLeaderboardIndexStats());
+    }
+
     /**
      * Get all divisions for a sport
      */
@@ -229,22 +319,90 @@ public class StatsController {
     }
 
     /**
-     * Update existing stats
+     * Bulk-import a CSV stat sheet with a header row of column names
+     */
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResult> importStatsCsv(InputStream body) {
+        return importStats(body, StatsImportService.Format.CSV);
+    }
+
+    /**
+     * Bulk-import newline-delimited Stats JSON objects
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkImportResult> importStatsNdjson(InputStream body) {
+        return importStats(body, StatsImportService.Format.NDJSON);
+    }
+
+    private ResponseEntity<BulkImportResult> importStats(InputStream body, StatsImportService.Format format) {
+        try {
+            return ResponseEntity.ok(statsImportService.importStats(body, format));
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Update existing stats; with If-Match, only if the stored version is unchanged
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Stats> updateStats(@PathVariable Long id, @RequestBody Stats statsDetails) {
+    public ResponseEntity<Stats> updateStats(@PathVariable Long id, @RequestBody Stats statsDetails,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            Stats updatedStats = statsService.updateStats(id, statsDetails);
+            Stats updatedStats = statsService.updateStats(id, statsDetails, EntityTags.expectedVersion(ifMatch));
             if (updatedStats != null) {
-                return ResponseEntity.ok(updatedStats);
+                return ResponseEntity.ok().eTag(EntityTags.of(updatedStats.getVersion())).body(updatedStats);
             } else {
                 return ResponseEntity.notFound().build();
             }
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
 
+    /**
+     * Partially update stats with a JSON merge patch, writing only the changed columns
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Stats> patchStats(@PathVariable Long id, @RequestBody JsonNode patch,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            Stats patchedStats = statsService.patchStats(id, patch, EntityTags.expectedVersion(ifMatch));
+            if (patchedStats != null) {
+                return ResponseEntity.ok().eTag(EntityTags.of(patchedStats.getVersion())).body(patchedStats);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Atomically add to stat values, e.g. {"rushingYards": 12, "rushingTouchdowns": 1}
+     */
+    @PostMapping("/{id}/increment")
+    public ResponseEntity<Stats> incrementStats(@PathVariable Long id, @RequestBody Map<String, Number> deltas) {
+        try {
+            Stats updatedStats = statsService.incrementStats(id, deltas);
+            if (updatedStats != null) {
+                return ResponseEntity.ok(updatedStats);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     /**
      * Soft delete stats
      */
@@ -0,0 +1,53 @@
+package com.nepafootball.broadcast.controller;
+
+import com.nepafootball.broadcast.dto.SyncResult;
+import com.nepafootball.broadcast.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * REST controller for offline scorer sync
+ *
+ * A scorer's client that lost connectivity sends everything it recorded in
+ * one request when it reconnects, instead of replaying each update
+ *
+ * @author NEPA Football Team
+ */
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin(origins = "*")
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    /**
+     * Apply an ordered batch of game and stats updates, deduplicated by client event id
+     *
+     * @param body JSON batch, gzip-compressed when Content-Encoding is gzip
+     * @param contentEncoding gzip or identity
+     * @return The outcome and server version of each update, 400 if the batch is malformed or too large,
+     *         415 for other encodings
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SyncResult> sync(InputStream body,
+                                           @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding) {
+        boolean gzip = "gzip".equalsIgnoreCase(contentEncoding);
+        if (!gzip && contentEncoding != null && !"identity".equalsIgnoreCase(contentEncoding)) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        try {
+            return ResponseEntity.ok(syncService.sync(gzip ? new GZIPInputStream(body) : body));
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
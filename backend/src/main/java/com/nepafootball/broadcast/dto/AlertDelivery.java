@@ -0,0 +1,14 @@
+package com.nepafootball.broadcast.dto;
+
+/**
+ * One alert and the users it goes to
+ *
+ * An alert followed by more users than fit in one sink batch is split over
+ * several deliveries.
+ *
+ * @param alert The alert
+ * @param userIds Recipients in ascending order, each at most once per alert
+ *
+ * @author NEPA Football Team
+ */
+public record AlertDelivery(ScoreAlert alert, int[] userIds) {}
@@ -0,0 +1,26 @@
+package com.nepafootball.broadcast.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import
+ * 
+ * @param received Data rows read from the body
+ * @param imported Rows persisted
+ * @param failed Rows rejected
+ * @param errors Per-row errors, capped at {@link #MAX_REPORTED_ERRORS}
+ * 
+ * @author NEPA Football Team
+ */
+public record BulkImportResult(long received, long imported, long failed, List<RowError> errors) {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * A rejected row
+     * 
+     * @param line 1-based line number in the request body
+     * @param message Why the row was rejected
+     */
+    public record RowError(long line, String message) {}
+}
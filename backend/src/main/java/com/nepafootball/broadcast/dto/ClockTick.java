@@ -0,0 +1,16 @@
+package com.nepafootball.broadcast.dto;
+
+import java.time.Instant;
+
+/**
+ * Time left on one game's clock, as published in a batched clock tick
+ *
+ * @author NEPA Football Team
+ */
+public record ClockTick(long gameId, int period, long clockMillis, boolean running) {
+
+    public static ClockTick of(Scoreboard scoreboard, Instant now) {
+        return new ClockTick(scoreboard.gameId(), scoreboard.period(), scoreboard.clockMillisAt(now),
+                scoreboard.isClockRunning());
+    }
+}
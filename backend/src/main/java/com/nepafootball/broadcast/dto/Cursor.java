@@ -0,0 +1,43 @@
+package com.nepafootball.broadcast.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor
+ * 
+ * Encodes the (sort key, id) of the last row on a page so the next page
+ * can be fetched with an index seek instead of an OFFSET scan.
+ * 
+ * @author NEPA Football Team
+ */
+public record Cursor(String key, long id) {
+
+    private static final char SEPARATOR = '\n';
+
+    /**
+     * Encode a cursor as a URL-safe token
+     */
+    public String encode() {
+        String raw = (key == null ? "" : key) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     * 
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static Cursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        try {
+            return new Cursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
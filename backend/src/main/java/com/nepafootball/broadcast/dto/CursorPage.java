@@ -0,0 +1,40 @@
+package com.nepafootball.broadcast.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list
+ * 
+ * @param items The rows on this page
+ * @param next Cursor for the following page, or null on the last page
+ * 
+ * @author NEPA Football Team
+ */
+public record CursorPage<T>(List<T> items, String next) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    /**
+     * Clamp a requested page size to the supported range
+     */
+    public static int boundedLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Build a page from rows fetched with one extra row of look-ahead
+     * 
+     * @param rows Up to limit + 1 rows in keyset order
+     * @param limit The page size
+     * @param cursor Extracts the cursor of a row
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Cursor> cursor) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, cursor.apply(items.get(limit - 1)).encode());
+    }
+}
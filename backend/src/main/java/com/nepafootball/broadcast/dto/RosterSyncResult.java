@@ -0,0 +1,13 @@
+package com.nepafootball.broadcast.dto;
+
+/**
+ * Outcome of a roster sync
+ * 
+ * @param inserted Players added to the roster
+ * @param updated Existing players whose details changed or who were reactivated
+ * @param unchanged Existing players already matching the submitted roster
+ * @param deactivated Active players missing from the submitted roster
+ * 
+ * @author NEPA Football Team
+ */
+public record RosterSyncResult(long inserted, long updated, long unchanged, long deactivated) {}
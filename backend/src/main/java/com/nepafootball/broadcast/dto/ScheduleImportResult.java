@@ -0,0 +1,45 @@
+package com.nepafootball.broadcast.dto;
+
+import com.nepafootball.broadcast.entity.Game;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk schedule import
+ * 
+ * @param received Games in the request body
+ * @param games Games persisted, with their ids
+ * @param conflicts Double bookings that kept games from being persisted
+ * @param errors Games rejected as invalid
+ * 
+ * @author NEPA Football Team
+ */
+public record ScheduleImportResult(int received, List<Game> games, List<Conflict> conflicts, List<GameError> errors) {
+
+    /**
+     * What a conflict double-books
+     */
+    public enum Resource {
+        LOCATION,
+        TEAM
+    }
+
+    /**
+     * A submitted game overlapping another game at the same location or for the same team
+     * 
+     * @param index 0-based position of the game in the request body
+     * @param resource Whether the location or a team is double-booked
+     * @param key The location or team name
+     * @param otherIndex Position of the overlapping submitted game, or null
+     * @param otherGameId Id of the overlapping existing game, or null
+     */
+    public record Conflict(int index, Resource resource, String key, Integer otherIndex, Long otherGameId) {}
+
+    /**
+     * A submitted game that failed validation
+     * 
+     * @param index 0-based position of the game in the request body
+     * @param message Why the game was rejected
+     */
+    public record GameError(int index, String message) {}
+}
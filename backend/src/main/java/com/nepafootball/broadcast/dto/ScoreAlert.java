@@ -0,0 +1,24 @@
+package com.nepafootball.broadcast.dto;
+
+import com.nepafootball.broadcast.entity.GameEvent;
+
+import java.time.Instant;
+
+/**
+ * A score change or final result that followers of a game are alerted to
+ *
+ * @param gameId The game ID
+ * @param sequence Sequence number of the event in the game's play log
+ * @param type SCORE or FINAL
+ * @param sport The game's sport
+ * @param homeTeam Home team name
+ * @param awayTeam Away team name
+ * @param homeScore Home score after the event
+ * @param awayScore Away score after the event
+ * @param period Period after the event
+ * @param occurredAt When the event was recorded
+ *
+ * @author NEPA Football Team
+ */
+public record ScoreAlert(long gameId, long sequence, GameEvent.Type type, String sport, String homeTeam,
+                         String awayTeam, int homeScore, int awayScore, int period, Instant occurredAt) {}
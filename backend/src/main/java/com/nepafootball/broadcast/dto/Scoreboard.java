@@ -0,0 +1,176 @@
+package com.nepafootball.broadcast.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nepafootball.broadcast.entity.GameEvent;
+import com.nepafootball.broadcast.entity.GameEvent.Side;
+import com.nepafootball.broadcast.entity.GameSnapshot.Status;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Live state of one game, derived from its play log
+ *
+ * Instances are immutable; {@link #apply(GameEvent)} returns the state after
+ * one more event. While the clock runs, clockMillis holds the time left when it
+ * was started at clockStartedAt, so the state only changes when an event arrives
+ * and the time left is computed on read.
+ *
+ * @author NEPA Football Team
+ */
+public record Scoreboard(
+        long gameId,
+        String sport,
+        Status status,
+        int period,
+        int homeScore,
+        int awayScore,
+        Side possession,
+        long clockMillis,
+        Instant clockStartedAt,
+        long lastSequence,
+        Instant updatedAt) {
+
+    private static final Map<String, Duration> PERIOD_LENGTHS = Map.of(
+            "football", Duration.ofMinutes(12),
+            "basketball", Duration.ofMinutes(8),
+            "boys-soccer", Duration.ofMinutes(40),
+            "girls-soccer", Duration.ofMinutes(40));
+
+    /**
+     * State of a game before its START event
+     */
+    public static Scoreboard scheduled(long gameId, String sport) {
+        return new Scoreboard(gameId, sport, Status.SCHEDULED, 0, 0, 0, null, 0, null, 0, null);
+    }
+
+    /**
+     * Length of a regulation period, or zero for sports played without a clock
+     */
+    public static long periodMillis(String sport) {
+        if (sport == null) {
+            return 0;
+        }
+        return PERIOD_LENGTHS.getOrDefault(sport.toLowerCase(Locale.ROOT), Duration.ZERO).toMillis();
+    }
+
+    /**
+     * State after one more event
+     *
+     * @param event The next event; its sequence must follow lastSequence and its
+     *        occurredAt drives the clock
+     * @throws IllegalArgumentException if the event is missing a required field
+     * @throws IllegalStateException if the event cannot happen in the current state
+     */
+    public Scoreboard apply(GameEvent event) {
+        if (event.getType() == null) {
+            throw new IllegalArgumentException("Event type is required");
+        }
+        if (event.getSequence() == null || event.getSequence() != lastSequence + 1) {
+            throw new IllegalStateException("Event " + event.getSequence() + " does not follow " + lastSequence);
+        }
+        Instant at = event.getOccurredAt();
+        if (event.getType() == GameEvent.Type.START) {
+            if (status != Status.SCHEDULED) {
+                throw new IllegalStateException("Game " + gameId + " has already started");
+            }
+            long clock = event.getClockSeconds() != null ? clockSeconds(event) : periodMillis(sport);
+            return new Scoreboard(gameId, sport, Status.LIVE, 1, homeScore, awayScore, event.getSide(),
+                    clock, null, event.getSequence(), at);
+        }
+        if (status != Status.LIVE) {
+            throw new IllegalStateException("Game " + gameId + " is " + status + "; " + event.getType() + " needs a live game");
+        }
+        long remaining = clockMillisAt(at);
+        return switch (event.getType()) {
+            case SCORE -> {
+                int points = event.getPoints() == null ? 0 : event.getPoints();
+                if (points == 0) {
+                    throw new IllegalArgumentException("SCORE needs non-zero points");
+                }
+                int home = homeScore + (side(event) == Side.HOME ? points : 0);
+                int away = awayScore + (side(event) == Side.AWAY ? points : 0);
+                if (home < 0 || away < 0) {
+                    throw new IllegalArgumentException("Score correction would go below zero");
+                }
+                yield next(event, period, home, away, possession, clockMillis, clockStartedAt);
+            }
+            case PENALTY -> {
+                side(event);
+                yield next(event, period, homeScore, awayScore, possession, clockMillis, clockStartedAt);
+            }
+            case POSSESSION -> next(event, period, homeScore, awayScore, event.getSide(), clockMillis, clockStartedAt);
+            case CLOCK_START -> {
+                if (clockStartedAt != null) {
+                    throw new IllegalStateException("Clock is already running");
+                }
+                if (remaining == 0) {
+                    throw new IllegalStateException("Clock has no time left");
+                }
+                yield next(event, period, homeScore, awayScore, possession, remaining, at);
+            }
+            case CLOCK_STOP -> {
+                if (clockStartedAt == null) {
+                    throw new IllegalStateException("Clock is not running");
+                }
+                yield next(event, period, homeScore, awayScore, possession, remaining, null);
+            }
+            case CLOCK_SET -> {
+                if (event.getClockSeconds() == null) {
+                    throw new IllegalArgumentException("CLOCK_SET needs clockSeconds");
+                }
+                yield next(event, period, homeScore, awayScore, possession, clockSeconds(event),
+                        clockStartedAt == null ? null : at);
+            }
+            case PERIOD_END -> next(event, period + 1, homeScore, awayScore, possession, periodMillis(sport), null);
+            case FINAL -> new Scoreboard(gameId, sport, Status.FINAL, period, homeScore, awayScore, possession,
+                    remaining, null, event.getSequence(), at);
+            case START -> throw new IllegalStateException("unreachable");
+        };
+    }
+
+    /**
+     * Time left in the period at the given instant
+     */
+    public long clockMillisAt(Instant now) {
+        if (clockStartedAt == null) {
+            return clockMillis;
+        }
+        return Math.max(0, clockMillis - Duration.between(clockStartedAt, now).toMillis());
+    }
+
+    /**
+     * Whole seconds left in the period now, rounded up the way a scoreboard shows them
+     */
+    @JsonProperty("clockSeconds")
+    public long clockSeconds() {
+        return (clockMillisAt(Instant.now()) + 999) / 1000;
+    }
+
+    @JsonProperty("clockRunning")
+    public boolean isClockRunning() {
+        return clockStartedAt != null;
+    }
+
+    private Scoreboard next(GameEvent event, int period, int home, int away, Side possession,
+                            long clockMillis, Instant clockStartedAt) {
+        return new Scoreboard(gameId, sport, status, period, home, away, possession,
+                clockMillis, clockStartedAt, event.getSequence(), event.getOccurredAt());
+    }
+
+    private static Side side(GameEvent event) {
+        if (event.getSide() == null) {
+            throw new IllegalArgumentException(event.getType() + " needs a side");
+        }
+        return event.getSide();
+    }
+
+    private static long clockSeconds(GameEvent event) {
+        if (event.getClockSeconds() < 0) {
+            throw new IllegalArgumentException("clockSeconds must not be negative");
+        }
+        return event.getClockSeconds() * 1000L;
+    }
+}
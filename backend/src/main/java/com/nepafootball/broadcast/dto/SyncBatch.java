@@ -0,0 +1,30 @@
+package com.nepafootball.broadcast.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.entity.SyncReceipt;
+
+import java.util.List;
+
+/**
+ * Ordered batch of mutations recorded by a scorer's client while offline
+ *
+ * @param mutations Applied in the order given
+ *
+ * @author NEPA Football Team
+ */
+public record SyncBatch(List<Mutation> mutations) {
+
+    /**
+     * One full update, with the same meaning as PUT /api/games/{id} or PUT /api/stats/{id}
+     *
+     * @param eventId Client-stamped id, unique per mutation; a replayed id is not applied again
+     * @param target Kind of row to update
+     * @param id Id of the game or stats row
+     * @param gameId Game being scored, which puts a stats mutation in that game's transaction;
+     *               game mutations always go in their own game's
+     * @param version Version the client last saw, like If-Match; omitted for an unconditional update
+     * @param data The game or stats body
+     */
+    public record Mutation(String eventId, SyncReceipt.Target target, Long id, Long gameId, Long version,
+                           JsonNode data) {}
+}
@@ -0,0 +1,45 @@
+package com.nepafootball.broadcast.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch sync
+ *
+ * @param received Mutations in the batch
+ * @param applied Mutations written by this request
+ * @param duplicates Mutations already applied by an earlier request or earlier in the batch
+ * @param rejected Mutations not applied
+ * @param outcomes One per mutation, in batch order
+ *
+ * @author NEPA Football Team
+ */
+public record SyncResult(int received, int applied, int duplicates, int rejected, List<Outcome> outcomes) {
+
+    /**
+     * What happened to a mutation
+     */
+    public enum Status {
+        /** Written; version is the row's new version */
+        APPLIED,
+        /** Already applied; version is the one it produced */
+        DUPLICATE,
+        /** The row changed since the version the client last saw */
+        CONFLICT,
+        /** No row has the id */
+        NOT_FOUND,
+        /** The mutation or its body is malformed or invalid */
+        INVALID,
+        /** The database rejected its game's transaction; safe to resend */
+        FAILED
+    }
+
+    /**
+     * Result of one mutation
+     *
+     * @param eventId The client event id
+     * @param status What happened
+     * @param version Server version of the row after the mutation, if applied
+     * @param message Why it was not applied
+     */
+    public record Outcome(String eventId, Status status, Long version, String message) {}
+}
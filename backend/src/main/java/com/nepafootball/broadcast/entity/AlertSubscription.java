@@ -0,0 +1,115 @@
+package com.nepafootball.broadcast.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * AlertSubscription entity representing a team, school or sport a user follows
+ *
+ * A user following something is alerted when any game it plays in scores or
+ * goes final. Names are stored trimmed and lower-cased so they match game and
+ * team names regardless of spelling case.
+ *
+ * @author NEPA Football Team
+ */
+@Entity
+@Table(name = "alert_subscriptions",
+       uniqueConstraints = @UniqueConstraint(name = "uq_alert_subscriptions_follow", columnNames = {"user_id", "kind", "name"}))
+@EntityListeners(AuditingEntityListener.class)
+public class AlertSubscription {
+
+    /**
+     * What a subscription follows
+     */
+    public enum Kind {
+        TEAM, SCHOOL, SPORT
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alert_subscriptions_seq")
+    @SequenceGenerator(name = "alert_subscriptions_seq", sequenceName = "alert_subscriptions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotNull(message = "Kind is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 10)
+    private Kind kind;
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 200, message = "Name must not exceed 200 characters")
+    @Column(name = "name", nullable = false, length = 200)
+    private String name;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public AlertSubscription() {}
+
+    public AlertSubscription(Long userId, Kind kind, String name) {
+        this.userId = userId;
+        this.kind = kind;
+        this.name = name;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public void setKind(Kind kind) {
+        this.kind = kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AlertSubscription{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", kind=" + kind +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
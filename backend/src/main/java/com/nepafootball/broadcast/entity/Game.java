@@ -3,6 +3,8 @@ package com.nepafootball.broadcast.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,12 +22,14 @@ import java.time.LocalTime;
  * @author NEPA Football Team
  */
 @Entity
-@Table(name = "games")
+@DynamicUpdate
+@Table(name = "games", indexes = @Index(name = "idx_games_date_id", columnList = "game_date, id"))
 @EntityListeners(AuditingEntityListener.class)
 public class Game {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Home team is required")
@@ -61,6 +65,11 @@ public class Game {
     @Column(name = "is_active")
     private Boolean isActive = true;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -154,6 +163,14 @@ public class Game {
         this.isActive = isActive;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
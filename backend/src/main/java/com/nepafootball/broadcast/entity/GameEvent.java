@@ -0,0 +1,162 @@
+package com.nepafootball.broadcast.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+/**
+ * GameEvent entity representing one entry in a game's play log
+ *
+ * Events are append-only. Each game numbers its events from 1 with no gaps,
+ * and replaying them in sequence order rebuilds the live scoreboard.
+ *
+ * @author NEPA Football Team
+ */
+@Entity
+@Table(name = "game_events",
+       uniqueConstraints = @UniqueConstraint(name = "uq_game_events_game_seq", columnNames = {"game_id", "seq"}))
+public class GameEvent {
+
+    /**
+     * What happened in the game
+     */
+    public enum Type {
+        START, SCORE, PENALTY, POSSESSION, CLOCK_START, CLOCK_STOP, CLOCK_SET, PERIOD_END, FINAL
+    }
+
+    /**
+     * Which team an event belongs to
+     */
+    public enum Side {
+        HOME, AWAY
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_events_seq")
+    @SequenceGenerator(name = "game_events_seq", sequenceName = "game_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(name = "seq", nullable = false)
+    private Long sequence;
+
+    @NotNull(message = "Event type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "side", length = 4)
+    private Side side;
+
+    @Column(name = "points")
+    private Integer points;
+
+    @Column(name = "clock_seconds")
+    private Integer clockSeconds;
+
+    @Size(max = 500, message = "Note must not exceed 500 characters")
+    @Column(name = "note", length = 500)
+    private String note;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    // Constructors
+    public GameEvent() {}
+
+    public GameEvent(Type type, Side side, Integer points) {
+        this.type = type;
+        this.side = side;
+        this.points = points;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public void setSide(Side side) {
+        this.side = side;
+    }
+
+    public Integer getPoints() {
+        return points;
+    }
+
+    public void setPoints(Integer points) {
+        this.points = points;
+    }
+
+    public Integer getClockSeconds() {
+        return clockSeconds;
+    }
+
+    public void setClockSeconds(Integer clockSeconds) {
+        this.clockSeconds = clockSeconds;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "GameEvent{" +
+                "gameId=" + gameId +
+                ", sequence=" + sequence +
+                ", type=" + type +
+                ", side=" + side +
+                ", points=" + points +
+                ", clockSeconds=" + clockSeconds +
+                '}';
+    }
+}
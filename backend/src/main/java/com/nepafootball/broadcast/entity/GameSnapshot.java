@@ -0,0 +1,153 @@
+package com.nepafootball.broadcast.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * GameSnapshot entity holding a game's scoreboard as of one play log entry
+ *
+ * A snapshot lets a restart replay only the events after lastSequence instead
+ * of the whole log. There is one row per game and it is overwritten in place.
+ *
+ * @author NEPA Football Team
+ */
+@Entity
+@Table(name = "game_snapshots")
+public class GameSnapshot {
+
+    /**
+     * Where a game is in its lifecycle
+     */
+    public enum Status {
+        SCHEDULED, LIVE, FINAL
+    }
+
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSequence;
+
+    @Column(name = "sport", length = 50)
+    private String sport;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status;
+
+    @Column(name = "period", nullable = false)
+    private Integer period;
+
+    @Column(name = "home_score", nullable = false)
+    private Integer homeScore;
+
+    @Column(name = "away_score", nullable = false)
+    private Integer awayScore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "possession", length = 4)
+    private GameEvent.Side possession;
+
+    @Column(name = "clock_millis", nullable = false)
+    private Long clockMillis;
+
+    @Column(name = "clock_started_at")
+    private Instant clockStartedAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    // Constructors
+    public GameSnapshot() {}
+
+    // Getters and Setters
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public Long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(Long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public String getSport() {
+        return sport;
+    }
+
+    public void setSport(String sport) {
+        this.sport = sport;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public Integer getHomeScore() {
+        return homeScore;
+    }
+
+    public void setHomeScore(Integer homeScore) {
+        this.homeScore = homeScore;
+    }
+
+    public Integer getAwayScore() {
+        return awayScore;
+    }
+
+    public void setAwayScore(Integer awayScore) {
+        this.awayScore = awayScore;
+    }
+
+    public GameEvent.Side getPossession() {
+        return possession;
+    }
+
+    public void setPossession(GameEvent.Side possession) {
+        this.possession = possession;
+    }
+
+    public Long getClockMillis() {
+        return clockMillis;
+    }
+
+    public void setClockMillis(Long clockMillis) {
+        this.clockMillis = clockMillis;
+    }
+
+    public Instant getClockStartedAt() {
+        return clockStartedAt;
+    }
+
+    public void setClockStartedAt(Instant clockStartedAt) {
+        this.clockStartedAt = clockStartedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -3,6 +3,8 @@ package com.nepafootball.broadcast.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,7 +20,8 @@ import java.time.LocalDateTime;
  * @author NEPA Football Team
  */
 @Entity
-@Table(name = "players")
+@DynamicUpdate
+@Table(name = "players", indexes = @Index(name = "idx_players_name_id", columnList = "name, id"))
 @EntityListeners(AuditingEntityListener.class)
 public class Player {
 
@@ -59,9 +62,18 @@ public class Player {
     @Column(name = "sport", nullable = false)
     private String sport;
 
+    @Size(max = 100, message = "Team name must not exceed 100 characters")
+    @Column(name = "team_name")
+    private String teamName;
+
     @Column(name = "is_active")
     private Boolean isActive = true;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -156,6 +168,14 @@ public class Player {
         this.sport = sport;
     }
 
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public void setTeamName(String teamName) {
+        this.teamName = teamName;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
@@ -164,6 +184,14 @@ public class Player {
         this.isActive = isActive;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -191,6 +219,7 @@ public class Player {
                 ", height='" + height + '\'' +
                 ", weight='" + weight + '\'' +
                 ", sport='" + sport + '\'' +
+                ", teamName='" + teamName + '\'' +
                 ", isActive=" + isActive +
                 '}';
     }
@@ -3,6 +3,11 @@ package com.nepafootball.broadcast.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,8 +24,11 @@ import java.util.List;
  * @author NEPA Football Team
  */
 @Entity
-@Table(name = "schools")
+@DynamicUpdate
+@Table(name = "schools", indexes = @Index(name = "idx_schools_name_id", columnList = "name, id"))
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schools")
 public class School {
 
     @Id
@@ -37,14 +45,23 @@ public class School {
     @Column(name = "location", nullable = false)
     private String location;
 
+    // Lists initialize the sports of up to 100 schools per query instead of one query per school
     @ElementCollection
-    @CollectionTable(name = "school_sports", joinColumns = @JoinColumn(name = "school_id"))
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "school-sports")
+    @CollectionTable(name = "school_sports", joinColumns = @JoinColumn(name = "school_id"),
+            indexes = @Index(name = "idx_school_sports_sport", columnList = "sport, school_id"))
     @Column(name = "sport")
     private List<String> sports;
 
     @Column(name = "is_active")
     private Boolean isActive = true;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -108,6 +125,14 @@ public class School {
         this.isActive = isActive;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
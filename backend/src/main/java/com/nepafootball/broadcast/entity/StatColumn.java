@@ -0,0 +1,290 @@
+package com.nepafootball.broadcast.entity;
+
+import jakarta.persistence.Column;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of the numeric columns of the Stats entity
+ *
+ * Each entry carries a pre-resolved typed accessor along with the metadata
+ * leaderboards, exports, validation and queries need, so callers never
+ * switch on stat names. It is also the only source of stat names that may
+ * be used to build ORDER BY clauses, so client input never reaches SQL.
+ *
+ * The entity keeps every stat as a nullable Integer or Double, so get() hands
+ * back the stored wrapper as is. Ranking goes through a primitive sort key
+ * instead, which folds direction and "not recorded" into one double, so
+ * comparators never touch a Number. Nullability is read from the entity's
+ * {@link Column} definitions.
+ *
+ * @author NEPA Football Team
+ */
+public enum StatColumn {
+
+    // Football stats
+    PASSING_YARDS("passingYards", "passing_yards", Direction.DESC, intStat(Stats::getPassingYards, Stats::setPassingYards), "football"),
+    PASSING_TOUCHDOWNS("passingTouchdowns", "passing_touchdowns", Direction.DESC, intStat(Stats::getPassingTouchdowns, Stats::setPassingTouchdowns), "football"),
+    RUSHING_YARDS("rushingYards", "rushing_yards", Direction.DESC, intStat(Stats::getRushingYards, Stats::setRushingYards), "football"),
+    RUSHING_TOUCHDOWNS("rushingTouchdowns", "rushing_touchdowns", Direction.DESC, intStat(Stats::getRushingTouchdowns, Stats::setRushingTouchdowns), "football"),
+    RECEIVING_YARDS("receivingYards", "receiving_yards", Direction.DESC, intStat(Stats::getReceivingYards, Stats::setReceivingYards), "football"),
+    RECEIVING_TOUCHDOWNS("receivingTouchdowns", "receiving_touchdowns", Direction.DESC, intStat(Stats::getReceivingTouchdowns, Stats::setReceivingTouchdowns), "football"),
+    TACKLES("tackles", "tackles", Direction.DESC, intStat(Stats::getTackles, Stats::setTackles), "football"),
+    INTERCEPTIONS("interceptions", "interceptions", Direction.DESC, intStat(Stats::getInterceptions, Stats::setInterceptions), "football"),
+    SACKS("sacks", "sacks", Direction.DESC, intStat(Stats::getSacks, Stats::setSacks), "football"),
+
+    // Basketball stats
+    POINTS("points", "points", Direction.DESC, intStat(Stats::getPoints, Stats::setPoints), "basketball"),
+    REBOUNDS("rebounds", "rebounds", Direction.DESC, intStat(Stats::getRebounds, Stats::setRebounds), "basketball"),
+    ASSISTS("assists", "assists", Direction.DESC, intStat(Stats::getAssists, Stats::setAssists), "basketball"),
+    STEALS("steals", "steals", Direction.DESC, intStat(Stats::getSteals, Stats::setSteals), "basketball"),
+    BLOCKS("blocks", "blocks", Direction.DESC, intStat(Stats::getBlocks, Stats::setBlocks), "basketball"),
+    FIELD_GOALS_MADE("fieldGoalsMade", "field_goals_made", Direction.DESC, intStat(Stats::getFieldGoalsMade, Stats::setFieldGoalsMade), "basketball"),
+    FIELD_GOALS_ATTEMPTED("fieldGoalsAttempted", "field_goals_attempted", Direction.DESC, intStat(Stats::getFieldGoalsAttempted, Stats::setFieldGoalsAttempted), "basketball"),
+    THREE_POINTERS_MADE("threePointersMade", "three_pointers_made", Direction.DESC, intStat(Stats::getThreePointersMade, Stats::setThreePointersMade), "basketball"),
+    THREE_POINTERS_ATTEMPTED("threePointersAttempted", "three_pointers_attempted", Direction.DESC, intStat(Stats::getThreePointersAttempted, Stats::setThreePointersAttempted), "basketball"),
+    FREE_THROWS_MADE("freeThrowsMade", "free_throws_made", Direction.DESC, intStat(Stats::getFreeThrowsMade, Stats::setFreeThrowsMade), "basketball"),
+    FREE_THROWS_ATTEMPTED("freeThrowsAttempted", "free_throws_attempted", Direction.DESC, intStat(Stats::getFreeThrowsAttempted, Stats::setFreeThrowsAttempted), "basketball"),
+
+    // Baseball/Softball stats
+    BATTING_AVERAGE("battingAverage", "batting_average", Direction.DESC, doubleStat(Stats::getBattingAverage, Stats::setBattingAverage), "baseball", "softball"),
+    HITS("hits", "hits", Direction.DESC, intStat(Stats::getHits, Stats::setHits), "baseball", "softball"),
+    RUNS("runs", "runs", Direction.DESC, intStat(Stats::getRuns, Stats::setRuns), "baseball", "softball"),
+    RBIS("rbis", "rbis", Direction.DESC, intStat(Stats::getRbis, Stats::setRbis), "baseball", "softball"),
+    HOME_RUNS("homeRuns", "home_runs", Direction.DESC, intStat(Stats::getHomeRuns, Stats::setHomeRuns), "baseball", "softball"),
+    STOLEN_BASES("stolenBases", "stolen_bases", Direction.DESC, intStat(Stats::getStolenBases, Stats::setStolenBases), "baseball", "softball"),
+    INNINGS_PITCHED("inningsPitched", "innings_pitched", Direction.DESC, doubleStat(Stats::getInningsPitched, Stats::setInningsPitched), "baseball", "softball"),
+    EARNED_RUN_AVERAGE("earnedRunAverage", "earned_run_average", Direction.ASC, doubleStat(Stats::getEarnedRunAverage, Stats::setEarnedRunAverage), "baseball", "softball"),
+    STRIKEOUTS("strikeouts", "strikeouts", Direction.DESC, intStat(Stats::getStrikeouts, Stats::setStrikeouts), "baseball", "softball"),
+    WINS("wins", "wins", Direction.DESC, intStat(Stats::getWins, Stats::setWins), "baseball", "softball"),
+    LOSSES("losses", "losses", Direction.ASC, intStat(Stats::getLosses, Stats::setLosses), "baseball", "softball"),
+
+    // Soccer stats
+    GOALS("goals", "goals", Direction.DESC, intStat(Stats::getGoals, Stats::setGoals), "boys-soccer", "girls-soccer"),
+    ASSISTS_SOCCER("assistsSoccer", "assists_soccer", Direction.DESC, intStat(Stats::getAssistsSoccer, Stats::setAssistsSoccer), "boys-soccer", "girls-soccer"),
+    SAVES("saves", "saves", Direction.DESC, intStat(Stats::getSaves, Stats::setSaves), "boys-soccer", "girls-soccer"),
+    SHUTOUTS("shutouts", "shutouts", Direction.DESC, intStat(Stats::getShutouts, Stats::setShutouts), "boys-soccer", "girls-soccer"),
+
+    // General stats
+    GAMES_PLAYED("gamesPlayed", "games_played", Direction.DESC, intStat(Stats::getGamesPlayed, Stats::setGamesPlayed)),
+    MINUTES_PLAYED("minutesPlayed", "minutes_played", Direction.DESC, intStat(Stats::getMinutesPlayed, Stats::setMinutesPlayed));
+
+    /**
+     * Sort direction that ranks the best performers first
+     */
+    public enum Direction {
+        ASC,
+        DESC
+    }
+
+    private static final Map<String, StatColumn> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(column -> normalize(column.attribute), Function.identity()));
+
+    private final String attribute;
+    private final String column;
+    private final Direction direction;
+    private final Accessor accessor;
+    private final boolean nullable;
+    private final Set<String> sports;
+    private final ToDoubleFunction<Stats> sortKey;
+    private final Comparator<Stats> comparator;
+
+    StatColumn(String attribute, String column, Direction direction, Accessor accessor, String... sports) {
+        this.attribute = attribute;
+        this.column = column;
+        this.direction = direction;
+        this.accessor = accessor;
+        this.nullable = columnDefinition(attribute).nullable();
+        this.sports = Set.of(sports);
+        this.sortKey = direction == Direction.DESC ? accessor.descending() : accessor.ascending();
+        this.comparator = Comparator.comparingDouble(sortKey)
+                .thenComparing(Stats::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    // Double.compare orders NaN after every number, so unrecorded stats rank last
+    private static Accessor intStat(Function<Stats, Integer> getter, BiConsumer<Stats, Integer> setter) {
+        return new Accessor(Integer.class, getter,
+                (stats, value) -> setter.accept(stats, value == null ? null : value.intValue()),
+                stats -> {
+                    Integer value = getter.apply(stats);
+                    return value == null ? Double.NaN : value;
+                },
+                stats -> {
+                    Integer value = getter.apply(stats);
+                    return value == null ? Double.NaN : -value;
+                });
+    }
+
+    private static Accessor doubleStat(Function<Stats, Double> getter, BiConsumer<Stats, Double> setter) {
+        return new Accessor(Double.class, getter,
+                (stats, value) -> setter.accept(stats, value == null ? null : value.doubleValue()),
+                stats -> {
+                    Double value = getter.apply(stats);
+                    return value == null ? Double.NaN : value;
+                },
+                stats -> {
+                    Double value = getter.apply(stats);
+                    return value == null ? Double.NaN : -value;
+                });
+    }
+
+    private static Column columnDefinition(String attribute) {
+        try {
+            Column definition = Stats.class.getDeclaredField(attribute).getAnnotation(Column.class);
+            if (definition == null) {
+                throw new IllegalStateException("Stats." + attribute + " has no @Column");
+            }
+            return definition;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Stats has no field " + attribute, e);
+        }
+    }
+
+    /**
+     * Look up a stat by any of its spellings (passingYards, passing_yards, passing-yards)
+     *
+     * @param key The stat name supplied by the client
+     * @return The matching column, or empty if the stat is not whitelisted
+     */
+    public static Optional<StatColumn> fromKey(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(BY_KEY.get(normalize(key)));
+    }
+
+    private static String normalize(String key) {
+        return key.replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * JPA attribute name on the Stats entity
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Column name in the player_stats table
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Java type of the column, Integer or Double
+     */
+    public Class<? extends Number> getType() {
+        return accessor.type();
+    }
+
+    /**
+     * Whether the column accepts null, per its {@link Column} definition; a null means the stat was not recorded
+     */
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    /**
+     * Sports the stat applies to; empty when it applies to every sport
+     */
+    public Set<String> getSports() {
+        return sports;
+    }
+
+    /**
+     * Read the stat from a row
+     */
+    public Number get(Stats stats) {
+        return accessor.getter().apply(stats);
+    }
+
+    /**
+     * Write the stat to a row, converting to the column type
+     *
+     * @throws IllegalArgumentException if the value is null and the column is not nullable
+     */
+    public void set(Stats stats, Number value) {
+        if (value == null && !nullable) {
+            throw new IllegalArgumentException(attribute + " is required");
+        }
+        accessor.setter().accept(stats, value);
+    }
+
+    /**
+     * Parse a textual value into the column type
+     *
+     * @return The parsed value, or null for a blank string
+     * @throws NumberFormatException if the text is not a valid number for the column
+     */
+    public Number parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        return accessor.type() == Integer.class ? Integer.valueOf(text.trim()) : Double.valueOf(text.trim());
+    }
+
+    /**
+     * Convert an increment to the column type
+     *
+     * @throws IllegalArgumentException if the value is not finite, or not a whole
+     *         number in int range for an integer stat
+     */
+    public Number toDelta(Number value) {
+        if (value == null || !Double.isFinite(value.doubleValue())) {
+            throw new IllegalArgumentException(attribute + ": increment must be a finite number");
+        }
+        if (accessor.type() == Double.class) {
+            return value.doubleValue();
+        }
+        try {
+            return new BigDecimal(value.toString()).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(attribute + ": increment must be a whole number", e);
+        }
+    }
+
+    /**
+     * Sort key where smaller is better, for rows with a non-null value
+     */
+    public double rank(Number value) {
+        return direction == Direction.DESC ? -value.doubleValue() : value.doubleValue();
+    }
+
+    /**
+     * Sort key of a row where smaller is better, NaN if the stat was not recorded
+     */
+    public double sortKey(Stats stats) {
+        return sortKey.applyAsDouble(stats);
+    }
+
+    /**
+     * Comparator ranking the best performers first, nulls last, ties by id
+     */
+    public Comparator<Stats> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Typed getter and setter, plus primitive sort keys for each direction
+     */
+    private record Accessor(Class<? extends Number> type,
+                            Function<Stats, ? extends Number> getter,
+                            BiConsumer<Stats, Number> setter,
+                            ToDoubleFunction<Stats> ascending,
+                            ToDoubleFunction<Stats> descending) {}
+}
@@ -3,6 +3,8 @@ package com.nepafootball.broadcast.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,12 +20,15 @@ import java.time.LocalDateTime;
  * @author NEPA Football Team
  */
 @Entity
+@DynamicUpdate
 @Table(name = "player_stats")
 @EntityListeners(AuditingEntityListener.class)
 public class Stats {
 
+    // Pooled sequence so inserts can be JDBC-batched; schema.sql keeps it ahead of existing ids
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_stats_seq")
+    @SequenceGenerator(name = "player_stats_seq", sequenceName = "player_stats_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Player name is required")
@@ -175,6 +180,11 @@ public class Stats {
     @Column(name = "is_active")
     private Boolean isActive = true;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -561,6 +571,14 @@ public class Stats {
         this.isActive = isActive;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,107 @@
+package com.nepafootball.broadcast.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * SyncReceipt entity recording a client mutation applied by batch sync
+ *
+ * The client-stamped event id is the key, so a mutation replayed after a lost
+ * response is recognized and answered with the version it produced instead of
+ * being applied twice. Receipts are written in the same transaction as the
+ * mutation and purged after the retention period.
+ *
+ * @author NEPA Football Team
+ */
+@Entity
+@Table(name = "sync_receipts", indexes = @Index(name = "idx_sync_receipts_received", columnList = "received_at"))
+public class SyncReceipt implements Persistable<String> {
+
+    /**
+     * Kind of row a mutation changed
+     */
+    public enum Target {
+        GAME, STATS
+    }
+
+    @Id
+    @Column(name = "event_id", length = 64)
+    private String eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", nullable = false, length = 10)
+    private Target target;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    // Receipts are only ever inserted; without this, saving one with its assigned id would select it first
+    @Transient
+    private boolean loaded;
+
+    // Constructors
+    public SyncReceipt() {}
+
+    public SyncReceipt(String eventId, Target target, Long targetId, Long version, LocalDateTime receivedAt) {
+        this.eventId = eventId;
+        this.target = target;
+        this.targetId = targetId;
+        this.version = version;
+        this.receivedAt = receivedAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markLoaded() {
+        this.loaded = true;
+    }
+
+    @Override
+    public String getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !loaded;
+    }
+
+    // Getters
+    public String getEventId() {
+        return eventId;
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncReceipt{" +
+                "eventId='" + eventId + '\'' +
+                ", target=" + target +
+                ", targetId=" + targetId +
+                ", version=" + version +
+                '}';
+    }
+}
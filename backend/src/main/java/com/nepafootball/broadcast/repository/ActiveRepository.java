@@ -0,0 +1,35 @@
+package com.nepafootball.broadcast.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base repository for soft-deleted entities
+ * 
+ * Provides the active view shared by every entity with an is_active flag,
+ * so inactive rows are filtered by Postgres (backed by partial indexes in
+ * schema.sql) instead of being loaded and discarded in Java.
+ * 
+ * @author NEPA Football Team
+ */
+@NoRepositoryBean
+public interface ActiveRepository<T> extends JpaRepository<T, Long> {
+
+    /**
+     * Find all active entities
+     * 
+     * @return List of active entities
+     */
+    List<T> findByIsActiveTrue();
+
+    /**
+     * Find an entity by ID if it is active
+     * 
+     * @param id The entity ID
+     * @return Optional containing the entity if found and active
+     */
+    Optional<T> findByIdAndIsActiveTrue(Long id);
+}
@@ -0,0 +1,63 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.entity.AlertSubscription;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for AlertSubscription entity
+ *
+ * Provides data access methods for score-alert subscriptions
+ *
+ * @author NEPA Football Team
+ */
+@Repository
+public interface AlertSubscriptionRepository extends JpaRepository<AlertSubscription, Long> {
+
+    /**
+     * Get everything a user follows, oldest first
+     */
+    List<AlertSubscription> findByUserIdOrderByIdAsc(Long userId);
+
+    /**
+     * Find one of a user's subscriptions
+     */
+    Optional<AlertSubscription> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Check whether a user already follows something
+     */
+    boolean existsByUserIdAndKindAndName(Long userId, AlertSubscription.Kind kind, String name);
+
+    /**
+     * Stream every subscription as a projection, without loading entities
+     *
+     * Must be consumed inside a transaction.
+     */
+    @Query("SELECT s.userId AS userId, s.kind AS kind, s.name AS name FROM AlertSubscription s")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    Stream<Follow> streamFollows();
+
+    /**
+     * Get the highest user id with a subscription
+     */
+    @Query("SELECT MAX(s.userId) FROM AlertSubscription s")
+    Optional<Long> findMaxUserId();
+
+    /**
+     * Who follows what
+     */
+    interface Follow {
+        Long getUserId();
+        AlertSubscription.Kind getKind();
+        String getName();
+    }
+}
@@ -0,0 +1,36 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.entity.GameEvent;
+import com.nepafootball.broadcast.entity.GameSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for GameEvent entity
+ * 
+ * Provides data access methods for the append-only play log
+ * 
+ * @author NEPA Football Team
+ */
+@Repository
+public interface GameEventRepository extends JpaRepository<GameEvent, Long> {
+
+    /**
+     * Get one game's events after a sequence number, in order
+     */
+    List<GameEvent> findByGameIdAndSequenceGreaterThanOrderBySequenceAsc(Long gameId, Long sequence);
+
+    /**
+     * Get the events that unfinished games need replayed on top of their snapshots,
+     * ordered by game and sequence
+     *
+     * @param finished Status of games whose snapshot is final
+     */
+    @Query("SELECT e FROM GameEvent e WHERE NOT EXISTS (SELECT 1 FROM GameSnapshot s WHERE s.gameId = e.gameId "
+            + "AND (s.status = :finished OR s.lastSequence >= e.sequence)) ORDER BY e.gameId, e.sequence")
+    List<GameEvent> findUnsnapshottedEvents(@Param("finished") GameSnapshot.Status finished);
+}
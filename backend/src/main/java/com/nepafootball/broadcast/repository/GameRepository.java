@@ -1,11 +1,17 @@
 package com.nepafootball.broadcast.repository;
 
 import com.nepafootball.broadcast.entity.Game;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Game entity
@@ -15,14 +21,7 @@ import java.util.List;
  * @author NEPA Football Team
  */
 @Repository
-public interface GameRepository extends JpaRepository<Game, Long> {
-    
-    /**
-     * Find all active games
-     * 
-     * @return List of active games
-     */
-    List<Game> findByIsActiveTrue();
+public interface GameRepository extends ActiveRepository<Game> {
     
     /**
      * Find games by sport
@@ -40,6 +39,15 @@ public interface GameRepository extends JpaRepository<Game, Long> {
      */
     List<Game> findByDate(LocalDate date);
     
+    /**
+     * Find active games in a date range
+     * 
+     * @param from First date, inclusive
+     * @param to Last date, inclusive
+     * @return Active games on or between the dates
+     */
+    List<Game> findByIsActiveTrueAndDateBetween(LocalDate from, LocalDate to);
+    
     /**
      * Find games by sport and date
      * 
@@ -56,4 +64,38 @@ public interface GameRepository extends JpaRepository<Game, Long> {
      * @return List of games involving the specified team
      */
     List<Game> findByHomeTeamContainingIgnoreCaseOrAwayTeamContainingIgnoreCase(String teamName, String teamName2);
+    
+    /**
+     * Find the first page of games in (date, id) order
+     * 
+     * @param limit Maximum number of games to return
+     * @return Games ordered by date then id
+     */
+    @Query("SELECT g FROM Game g ORDER BY g.date, g.id")
+    List<Game> findPage(Limit limit);
+    
+    /**
+     * Find the page of games following a keyset position
+     * 
+     * @param date The date of the last game on the previous page
+     * @param id The id of the last game on the previous page
+     * @param limit Maximum number of games to return
+     * @return Games after the position, ordered by date then id
+     */
+    @Query("SELECT g FROM Game g WHERE (g.date, g.id) > (cast(:date as LocalDate), cast(:id as Long)) ORDER BY g.date, g.id")
+    List<Game> findPageAfter(@Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+    
+    /**
+     * Stream all games in (date, id) order through a JDBC cursor
+     * 
+     * Must be consumed inside a read-only transaction and closed afterwards.
+     * 
+     * @return Stream of all games
+     */
+    @Query("SELECT g FROM Game g ORDER BY g.date, g.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Game> streamAll();
 } 
\ No newline at end of file
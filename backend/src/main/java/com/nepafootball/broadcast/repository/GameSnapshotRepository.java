@@ -0,0 +1,23 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.entity.GameSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for GameSnapshot entity
+ * 
+ * Provides data access methods for persisted scoreboards
+ * 
+ * @author NEPA Football Team
+ */
+@Repository
+public interface GameSnapshotRepository extends JpaRepository<GameSnapshot, Long> {
+
+    /**
+     * Get the snapshots of games that have not finished
+     */
+    List<GameSnapshot> findByStatusNot(GameSnapshot.Status status);
+}
@@ -1,7 +1,9 @@
 package com.nepafootball.broadcast.repository;
 
 import com.nepafootball.broadcast.entity.Player;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,14 +16,7 @@ import java.util.List;
  * @author NEPA Football Team
  */
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
-    
-    /**
-     * Find all active players
-     * 
-     * @return List of active players
-     */
-    List<Player> findByIsActiveTrue();
+public interface PlayerRepository extends ActiveRepository<Player>, PlayerRepositoryCustom {
     
     /**
      * Find players by sport
@@ -31,6 +26,15 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
      */
     List<Player> findBySport(String sport);
     
+    /**
+     * Find the active players on a team roster
+     * 
+     * @param teamName The team the roster belongs to
+     * @param sport The sport of the roster
+     * @return Active roster players ordered by name
+     */
+    List<Player> findByTeamNameAndSportAndIsActiveTrueOrderByName(String teamName, String sport);
+    
     /**
      * Find players by position
      * 
@@ -63,4 +67,24 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
      * @return List of players with matching names
      */
     List<Player> findByNameContainingIgnoreCase(String name);
+    
+    /**
+     * Find the first page of players in (name, id) order
+     * 
+     * @param limit Maximum number of players to return
+     * @return Players ordered by name then id
+     */
+    @Query("SELECT p FROM Player p ORDER BY p.name, p.id")
+    List<Player> findPage(Limit limit);
+    
+    /**
+     * Find the page of players following a keyset position
+     * 
+     * @param name The name of the last player on the previous page
+     * @param id The id of the last player on the previous page
+     * @param limit Maximum number of players to return
+     * @return Players after the position, ordered by name then id
+     */
+    @Query("SELECT p FROM Player p WHERE (p.name, p.id) > (cast(:name as String), cast(:id as Long)) ORDER BY p.name, p.id")
+    List<Player> findPageAfter(@Param("name") String name, @Param("id") Long id, Limit limit);
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.dto.RosterSyncResult;
+import com.nepafootball.broadcast.entity.Player;
+
+import java.util.List;
+
+/**
+ * Custom data access for Player that cannot be expressed as derived queries
+ * 
+ * @author NEPA Football Team
+ */
+public interface PlayerRepositoryCustom {
+
+    /**
+     * Reconcile a team roster against the players table in one round trip
+     * 
+     * Submitted players are inserted or updated by name and reactivated; active
+     * roster players missing from the submission are deactivated. Requires
+     * PostgreSQL and must run inside a transaction.
+     * 
+     * @param teamName The team the roster belongs to
+     * @param sport The sport of the roster
+     * @param players The complete roster, with unique names
+     * @return Counts of inserted, updated, unchanged and deactivated players
+     */
+    RosterSyncResult syncRoster(String teamName, String sport, List<Player> players);
+}
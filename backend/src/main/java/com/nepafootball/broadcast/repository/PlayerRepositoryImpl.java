@@ -0,0 +1,113 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.dto.RosterSyncResult;
+import com.nepafootball.broadcast.entity.Player;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * PostgreSQL implementation of {@link PlayerRepositoryCustom}
+ * 
+ * The roster is streamed into the unlogged player_roster_staging table with
+ * COPY under a fresh batch id, then a single statement upserts it into players,
+ * deactivates players who left the roster, and clears the batch from staging.
+ * 
+ * @author NEPA Football Team
+ */
+public class PlayerRepositoryImpl implements PlayerRepositoryCustom {
+
+    private static final String COPY = "COPY player_roster_staging (batch_id, name, number, position, grade, height, weight) "
+            + "FROM STDIN (FORMAT csv)";
+
+    // Unchanged rows are skipped by the DO UPDATE filter, so they neither create dead tuples
+    // nor appear in RETURNING; (xmax = 0) is true only for freshly inserted rows
+    private static final String MERGE = """
+            WITH incoming AS (
+                SELECT name, number, position, grade, height, weight
+                FROM player_roster_staging
+                WHERE batch_id = ?
+            ), upserted AS (
+                INSERT INTO players AS p (team_name, sport, name, number, position, grade, height, weight,
+                                          is_active, version, created_at, updated_at)
+                SELECT ?, ?, name, number, position, grade, height, weight, true, 0, now(), now()
+                FROM incoming
+                ON CONFLICT (team_name, sport, name) WHERE team_name IS NOT NULL DO UPDATE
+                SET number = EXCLUDED.number, position = EXCLUDED.position, grade = EXCLUDED.grade,
+                    height = EXCLUDED.height, weight = EXCLUDED.weight, is_active = true,
+                    version = p.version + 1, updated_at = now()
+                WHERE (p.number, p.position, p.grade, p.height, p.weight, p.is_active)
+                      IS DISTINCT FROM (EXCLUDED.number, EXCLUDED.position, EXCLUDED.grade,
+                                        EXCLUDED.height, EXCLUDED.weight, true)
+                RETURNING (xmax = 0) AS inserted
+            ), deactivated AS (
+                UPDATE players
+                SET is_active = false, version = version + 1, updated_at = now()
+                WHERE team_name = ? AND sport = ? AND is_active
+                  AND name NOT IN (SELECT name FROM incoming)
+                RETURNING id
+            ), cleared AS (
+                DELETE FROM player_roster_staging WHERE batch_id = ?
+            )
+            SELECT (SELECT count(*) FROM upserted WHERE inserted) AS inserted,
+                   (SELECT count(*) FROM upserted WHERE NOT inserted) AS updated,
+                   (SELECT count(*) FROM deactivated) AS deactivated
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public RosterSyncResult syncRoster(String teamName, String sport, List<Player> players) {
+        UUID batchId = UUID.randomUUID();
+        return jdbcTemplate.execute((Connection connection) -> {
+            try {
+                connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY, new StringReader(toCsv(batchId, players)));
+            } catch (IOException e) {
+                throw new SQLException("Failed to stream roster to staging", e);
+            }
+            try (PreparedStatement merge = connection.prepareStatement(MERGE)) {
+                merge.setObject(1, batchId);
+                merge.setString(2, teamName);
+                merge.setString(3, sport);
+                merge.setString(4, teamName);
+                merge.setString(5, sport);
+                merge.setObject(6, batchId);
+                try (ResultSet rs = merge.executeQuery()) {
+                    rs.next();
+                    long inserted = rs.getLong("inserted");
+                    long updated = rs.getLong("updated");
+                    return new RosterSyncResult(inserted, updated, players.size() - inserted - updated,
+                            rs.getLong("deactivated"));
+                }
+            }
+        });
+    }
+
+    private static String toCsv(UUID batchId, List<Player> players) {
+        StringBuilder csv = new StringBuilder(players.size() * 64);
+        for (Player player : players) {
+            csv.append(batchId);
+            for (String value : new String[] {player.getName(), player.getNumber(), player.getPosition(),
+                    player.getGrade(), player.getHeight(), player.getWeight()}) {
+                csv.append(',');
+                // An unquoted empty field is NULL in CSV format; quoted values keep empty strings
+                if (value != null) {
+                    csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+                }
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+}
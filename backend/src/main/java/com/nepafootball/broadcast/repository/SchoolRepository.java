@@ -1,7 +1,12 @@
 package com.nepafootball.broadcast.repository;
 
 import com.nepafootball.broadcast.entity.School;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,13 +19,18 @@ import java.util.List;
  * @author NEPA Football Team
  */
 @Repository
-public interface SchoolRepository extends JpaRepository<School, Long> {
+public interface SchoolRepository extends ActiveRepository<School> {
     
     /**
-     * Find all active schools
+     * Find all active schools, served from the query cache
      * 
      * @return List of active schools
      */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lists")
+    })
     List<School> findByIsActiveTrue();
     
     /**
@@ -29,6 +39,10 @@ public interface SchoolRepository extends JpaRepository<School, Long> {
      * @param sport The sport to search for
      * @return List of schools that offer the specified sport
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lists")
+    })
     List<School> findBySportsContaining(String sport);
     
     /**
@@ -38,4 +52,32 @@ public interface SchoolRepository extends JpaRepository<School, Long> {
      * @return List of schools with matching names
      */
     List<School> findByNameContainingIgnoreCase(String name);
+    
+    /**
+     * Find the first page of schools in (name, id) order
+     * 
+     * @param limit Maximum number of schools to return
+     * @return Schools ordered by name then id
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lists")
+    })
+    @Query("SELECT s FROM School s ORDER BY s.name, s.id")
+    List<School> findPage(Limit limit);
+    
+    /**
+     * Find the page of schools following a keyset position
+     * 
+     * @param name The name of the last school on the previous page
+     * @param id The id of the last school on the previous page
+     * @param limit Maximum number of schools to return
+     * @return Schools after the position, ordered by name then id
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lists")
+    })
+    @Query("SELECT s FROM School s WHERE (s.name, s.id) > (cast(:name as String), cast(:id as Long)) ORDER BY s.name, s.id")
+    List<School> findPageAfter(@Param("name") String name, @Param("id") Long id, Limit limit);
 } 
\ No newline at end of file
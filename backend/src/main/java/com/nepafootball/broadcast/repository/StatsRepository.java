@@ -1,13 +1,17 @@
 package com.nepafootball.broadcast.repository;
 
 import com.nepafootball.broadcast.entity.Stats;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Stats entity
@@ -17,7 +21,17 @@ import java.util.Optional;
  * @author NEPA Football Team
  */
 @Repository
-public interface StatsRepository extends JpaRepository<Stats, Long> {
+public interface StatsRepository extends ActiveRepository<Stats>, StatsRepositoryCustom {
+
+    /**
+     * Find the first page of active stats in id order
+     */
+    List<Stats> findByIsActiveTrueOrderByIdAsc(Limit limit);
+
+    /**
+     * Find the page of active stats following a keyset position
+     */
+    List<Stats> findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 
     /**
      * Find all stats for a specific sport
@@ -29,6 +43,11 @@ public interface StatsRepository extends JpaRepository<Stats, Long> {
      */
     List<Stats> findBySportAndDivisionAndIsActiveTrue(String sport, String division);
 
+    /**
+     * Find all stats for a specific sport, division and season
+     */
+    List<Stats> findBySportAndDivisionAndSeasonAndIsActiveTrue(String sport, String division, String season);
+
     /**
      * Find all stats for a specific team
      */
@@ -50,74 +69,46 @@ public interface StatsRepository extends JpaRepository<Stats, Long> {
     List<Stats> findBySeasonAndIsActiveTrue(String season);
 
     /**
-     * Find top performers by passing yards for football
-     */
-    @Query("SELECT s FROM Stats s WHERE s.sport = 'football' AND s.passingYards IS NOT NULL AND s.isActive = true ORDER BY s.passingYards DESC")
-    List<Stats> findTopPassingYards();
-
-    /**
-     * Find top performers by rushing yards for football
-     */
-    @Query("SELECT s FROM Stats s WHERE s.sport = 'football' AND s.rushingYards IS NOT NULL AND s.isActive = true ORDER BY s.rushingYards DESC")
-    List<Stats> findTopRushingYards();
-
-    /**
-     * Find top performers by receiving yards for football
-     */
-    @Query("SELECT s FROM Stats s WHERE s.sport = 'football' AND s.receivingYards IS NOT NULL AND s.isActive = true ORDER BY s.receivingYards DESC")
-    List<Stats> findTopReceivingYards();
-
-    /**
-     * Find top performers by points for basketball
+     * Stream all stats for a specific season through a JDBC cursor
+     * 
+     * Must be consumed inside a read-only transaction and closed afterwards.
      */
-    @Query("SELECT s FROM Stats s WHERE s.sport = 'basketball' AND s.points IS NOT NULL AND s.isActive = true ORDER BY s.points DESC")
-    List<Stats> findTopPoints();
-
-    /**
-     * Find top performers by rebounds for basketball
-     */
-    @Query("SELECT s FROM Stats s WHERE s.sport = 'basketball' AND s.rebounds IS NOT NULL AND s.isActive = true ORDER BY s.rebounds DESC")
-    List<Stats> findTopRebounds();
-
-    /**
-     * Find top performers by assists for basketball
-     */
-    @Query("SELECT s FROM Stats s WHERE s.sport = 'basketball' AND s.assists IS NOT NULL AND s.isActive = true ORDER BY s.assists DESC")
-    List<Stats> findTopAssists();
-
-    /**
-     * Find top performers by batting average for baseball/softball
-     */
-    @Query("SELECT s FROM Stats s WHERE s.sport IN ('baseball', 'softball') AND s.battingAverage IS NOT NULL AND s.isActive = true ORDER BY s.battingAverage DESC")
-    List<Stats> findTopBattingAverage();
-
-    /**
-     * Find top performers by goals for soccer
-     */
-    @Query("SELECT s FROM Stats s WHERE s.sport IN ('boys-soccer', 'girls-soccer') AND s.goals IS NOT NULL AND s.isActive = true ORDER BY s.goals DESC")
-    List<Stats> findTopGoals();
-
-    /**
-     * Find top performers by a specific stat for a specific sport and division
-     */
-    @Query("SELECT s FROM Stats s WHERE s.sport = :sport AND s.division = :division AND s.isActive = true ORDER BY :statField DESC")
-    List<Stats> findTopPerformersByStat(@Param("sport") String sport, @Param("division") String division, @Param("statField") String statField);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Stats> streamBySeasonAndIsActiveTrue(String season);
 
     /**
      * Find all unique divisions for a sport
-     */
+     * 
+     * The distinct lookups are query-cached; Hibernate invalidates them on any
+     * Stats write, and the region TTL bounds staleness after raw JDBC loads.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "stats-lookups")
+    })
     @Query("SELECT DISTINCT s.division FROM Stats s WHERE s.sport = :sport AND s.isActive = true")
     List<String> findDistinctDivisionsBySport(@Param("sport") String sport);
 
     /**
      * Find all unique seasons
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "stats-lookups")
+    })
     @Query("SELECT DISTINCT s.season FROM Stats s WHERE s.isActive = true ORDER BY s.season DESC")
     List<String> findDistinctSeasons();
 
     /**
      * Find all unique sports
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "stats-lookups")
+    })
     @Query("SELECT DISTINCT s.sport FROM Stats s WHERE s.isActive = true ORDER BY s.sport")
     List<String> findDistinctSports();
 }
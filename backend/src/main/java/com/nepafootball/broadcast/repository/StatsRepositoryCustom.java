@@ -0,0 +1,88 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.entity.StatColumn;
+import com.nepafootball.broadcast.entity.Stats;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Custom query methods for Stats that cannot be expressed as derived queries
+ * 
+ * @author NEPA Football Team
+ */
+public interface StatsRepositoryCustom {
+
+    /**
+     * Find the top performers for a stat, ordered and limited in the database
+     * 
+     * @param column The whitelisted stat column to rank by
+     * @param sport The sport to filter by, or null for every sport the stat applies to
+     * @param division The division to filter by, or null for all divisions
+     * @param season The season to filter by, or null for all seasons
+     * @param limit Maximum number of rows to return
+     * @param offset Number of ranked rows to skip
+     * @return Active stats with a non-null value for the column, best first
+     */
+    List<Stats> findLeaders(StatColumn column, String sport, String division, String season, int limit, int offset);
+
+    /**
+     * Find active rows that have no value for a stat, which rank after every leader
+     * 
+     * @param column The whitelisted stat column
+     * @param sport The sport to filter by, or null for every sport the stat applies to
+     * @param division The division to filter by, or null for all divisions
+     * @param season The season to filter by, or null for all seasons
+     * @param limit Maximum number of rows to return
+     * @return Active stats with a null value for the column, ordered by id
+     */
+    List<Stats> findUnrecorded(StatColumn column, String sport, String division, String season, int limit);
+
+    /**
+     * Pass every active row to an action through a JDBC cursor, in a read-only transaction
+     * 
+     * Rows are detached once the action returns, so memory stays flat however
+     * large the table is; the action keeps only the rows it needs.
+     * 
+     * @param action Called once per active row
+     * @return Number of rows passed to the action
+     */
+    long forEachActive(Consumer<Stats> action);
+
+    /**
+     * Insert new rows with batched JDBC statements, bypassing the persistence context
+     * 
+     * Ids are drawn from the same pooled generator Hibernate uses and set on the
+     * rows, along with the audit timestamps. Must run inside a transaction.
+     * 
+     * @param rows New rows without ids
+     */
+    void insertAll(List<Stats> rows);
+
+    /**
+     * Overwrite whole rows with batched JDBC updates, bypassing the persistence context
+     * 
+     * Each row carries the version it should be stored with. A row is only written
+     * while the stored version is older, so replaying an already written row is a
+     * no-op. Must run inside a transaction.
+     * 
+     * @param rows Complete rows with ids and their new versions
+     * @return Ids of the rows that were not written, because the stored row is gone
+     *         or already at or past the given version
+     */
+    List<Long> updateAll(List<Stats> rows);
+
+    /**
+     * Atomically add deltas to stat columns in a single UPDATE ... RETURNING
+     * 
+     * Missing values count as zero and the row version is bumped. Concurrent
+     * increments to the same row are serialized by the row lock, so none are lost.
+     * 
+     * @param id The row to update
+     * @param deltas Increments already converted to each column's type; must not be empty
+     * @return The updated row, or empty if no active row has the id
+     */
+    Optional<Stats> increment(Long id, Map<StatColumn, Number> deltas);
+}
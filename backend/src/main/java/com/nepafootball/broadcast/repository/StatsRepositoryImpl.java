@@ -0,0 +1,260 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.entity.StatColumn;
+import com.nepafootball.broadcast.entity.Stats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API and JDBC implementation of {@link StatsRepositoryCustom}
+ * 
+ * @author NEPA Football Team
+ */
+public class StatsRepositoryImpl implements StatsRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO player_stats (id, player_name, team_name, school_name, sport, "
+            + "division, season, " + Stream.of(StatColumn.values()).map(StatColumn::getColumn).collect(Collectors.joining(", "))
+            + ", is_active, version, created_at, updated_at) VALUES ("
+            + "?, ".repeat(8 + StatColumn.values().length) + "?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE player_stats SET player_name = ?, team_name = ?, school_name = ?, "
+            + "sport = ?, division = ?, season = ?, "
+            + Stream.of(StatColumn.values()).map(column -> column.getColumn() + " = ?").collect(Collectors.joining(", "))
+            + ", version = ?, updated_at = ? WHERE id = ? AND version < ?";
+
+    private static final String RETURNING = " RETURNING id, player_name, team_name, school_name, sport, division, season, "
+            + Stream.of(StatColumn.values()).map(StatColumn::getColumn).collect(Collectors.joining(", "))
+            + ", is_active, version, created_at, updated_at";
+
+    private static final String LOOKUP_REGION = "stats-lookups";
+
+    private static final int SCAN_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Stats> findLeaders(StatColumn column, String sport, String division, String season, int limit, int offset) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Stats> query = cb.createQuery(Stats.class);
+        Root<Stats> stats = query.from(Stats.class);
+        Path<Number> stat = stats.get(column.getAttribute());
+
+        List<Predicate> predicates = slice(cb, stats, column, sport, division, season);
+        predicates.add(cb.isNotNull(stat));
+
+        query.select(stats)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(column.getDirection() == StatColumn.Direction.ASC ? cb.asc(stat) : cb.desc(stat),
+                        cb.asc(stats.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Stats> findUnrecorded(StatColumn column, String sport, String division, String season, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Stats> query = cb.createQuery(Stats.class);
+        Root<Stats> stats = query.from(Stats.class);
+
+        List<Predicate> predicates = slice(cb, stats, column, sport, division, season);
+        predicates.add(cb.isNull(stats.get(column.getAttribute())));
+
+        query.select(stats)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(stats.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Restrict a query to the active rows of a leaderboard slice
+     */
+    private static List<Predicate> slice(CriteriaBuilder cb, Root<Stats> stats, StatColumn column,
+                                         String sport, String division, String season) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(stats.get("isActive")));
+        if (sport != null) {
+            predicates.add(cb.equal(stats.get("sport"), sport));
+        } else if (!column.getSports().isEmpty()) {
+            predicates.add(stats.get("sport").in(column.getSports()));
+        }
+        if (division != null) {
+            predicates.add(cb.equal(stats.get("division"), division));
+        }
+        if (season != null) {
+            predicates.add(cb.equal(stats.get("season"), season));
+        }
+        return predicates;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachActive(Consumer<Stats> action) {
+        long count = 0;
+        try (Stream<Stats> rows = entityManager.createQuery("SELECT s FROM Stats s WHERE s.isActive = true", Stats.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, SCAN_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            for (Stats row : (Iterable<Stats>) rows::iterator) {
+                action.accept(row);
+                entityManager.detach(row);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void insertAll(List<Stats> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator ids = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Stats.class).getGenerator();
+        LocalDateTime now = LocalDateTime.now();
+        for (Stats row : rows) {
+            row.setId((Long) ids.generate(session, row));
+            row.setVersion(0L);
+            row.setCreatedAt(now);
+            row.setUpdatedAt(now);
+            if (row.getIsActive() == null) {
+                row.setIsActive(true);
+            }
+        }
+
+        Timestamp stamp = Timestamp.valueOf(now);
+        StatColumn[] columns = StatColumn.values();
+        jdbcTemplate.batchUpdate(INSERT, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getId());
+            ps.setString(2, row.getPlayerName());
+            ps.setString(3, row.getTeamName());
+            ps.setString(4, row.getSchoolName());
+            ps.setString(5, row.getSport());
+            ps.setString(6, row.getDivision());
+            ps.setString(7, row.getSeason());
+            int index = 8;
+            for (StatColumn column : columns) {
+                setStat(ps, index++, column, row);
+            }
+            ps.setBoolean(index++, row.getIsActive());
+            ps.setLong(index++, row.getVersion());
+            ps.setTimestamp(index++, stamp);
+            ps.setTimestamp(index, stamp);
+        });
+
+        // Hibernate cannot see these inserts, so cached distinct lookups would go stale
+        session.getFactory().getCache().evictQueryRegion(LOOKUP_REGION);
+    }
+
+    @Override
+    public List<Long> updateAll(List<Stats> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        StatColumn[] columns = StatColumn.values();
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getPlayerName());
+            ps.setString(2, row.getTeamName());
+            ps.setString(3, row.getSchoolName());
+            ps.setString(4, row.getSport());
+            ps.setString(5, row.getDivision());
+            ps.setString(6, row.getSeason());
+            int index = 7;
+            for (StatColumn column : columns) {
+                setStat(ps, index++, column, row);
+            }
+            ps.setLong(index++, row.getVersion());
+            ps.setTimestamp(index++, Timestamp.valueOf(row.getUpdatedAt()));
+            ps.setLong(index++, row.getId());
+            ps.setLong(index, row.getVersion());
+        });
+
+        // Sport, division or season may have changed under the cached distinct lookups
+        entityManager.unwrap(SharedSessionContractImplementor.class).getFactory().getCache().evictQueryRegion(LOOKUP_REGION);
+        // Batches follow the order of the rows; a driver that cannot tell reports SUCCESS_NO_INFO
+        List<Long> unmatched = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    unmatched.add(rows.get(index).getId());
+                }
+                index++;
+            }
+        }
+        return unmatched;
+    }
+
+    @Override
+    public Optional<Stats> increment(Long id, Map<StatColumn, Number> deltas) {
+        StringBuilder sql = new StringBuilder("UPDATE player_stats SET ");
+        List<Object> args = new ArrayList<>(deltas.size() + 1);
+        for (Map.Entry<StatColumn, Number> delta : deltas.entrySet()) {
+            String column = delta.getKey().getColumn();
+            sql.append(column).append(" = COALESCE(").append(column).append(", 0) + ?, ");
+            args.add(delta.getValue());
+        }
+        sql.append("version = version + 1, updated_at = now() WHERE id = ? AND is_active = true").append(RETURNING);
+        args.add(id);
+        return jdbcTemplate.query(sql.toString(), StatsRepositoryImpl::mapRow, args.toArray()).stream().findFirst();
+    }
+
+    private static void setStat(PreparedStatement ps, int index, StatColumn column, Stats row) throws SQLException {
+        Number value = column.get(row);
+        int sqlType = column.getType() == Integer.class ? Types.INTEGER : Types.DOUBLE;
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+
+    private static Stats mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Stats stats = new Stats(rs.getString("player_name"), rs.getString("team_name"), rs.getString("school_name"),
+                rs.getString("sport"), rs.getString("division"), rs.getString("season"));
+        stats.setId(rs.getLong("id"));
+        for (StatColumn column : StatColumn.values()) {
+            column.set(stats, rs.getObject(column.getColumn(), column.getType()));
+        }
+        stats.setIsActive(rs.getObject("is_active", Boolean.class));
+        stats.setVersion(rs.getLong("version"));
+        stats.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        stats.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        return stats;
+    }
+}
@@ -0,0 +1,37 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.entity.SyncReceipt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for SyncReceipt entity
+ *
+ * Provides data access methods for batch sync deduplication
+ *
+ * @author NEPA Football Team
+ */
+@Repository
+public interface SyncReceiptRepository extends JpaRepository<SyncReceipt, String> {
+
+    /**
+     * Get the receipts of any of the given client event ids
+     */
+    List<SyncReceipt> findByEventIdIn(Collection<String> eventIds);
+
+    /**
+     * Delete receipts older than a cutoff in one statement
+     *
+     * @return Receipts deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SyncReceipt r WHERE r.receivedAt < :cutoff")
+    int deleteReceivedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
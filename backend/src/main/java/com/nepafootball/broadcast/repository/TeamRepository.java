@@ -1,12 +1,43 @@
 package com.nepafootball.broadcast.repository;
 
 import com.nepafootball.broadcast.entity.Team;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends ActiveRepository<Team> {
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lists")
+    })
+    List<Team> findByIsActiveTrue();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lists")
+    })
     Optional<Team> findByTeamName(String teamName);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lists")
+    })
+    @Query("SELECT t FROM Team t ORDER BY t.teamName, t.id")
+    List<Team> findPage(Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lists")
+    })
+    @Query("SELECT t FROM Team t WHERE (t.teamName, t.id) > (cast(:teamName as String), cast(:id as Long)) ORDER BY t.teamName, t.id")
+    List<Team> findPageAfter(@Param("teamName") String teamName, @Param("id") Long id, Limit limit);
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.entity.User;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for User entity
+ *
+ * Provides data access methods for user operations
+ *
+ * @author NEPA Football Team
+ */
+@Repository
+public interface UserRepository extends ActiveRepository<User> {
+}
@@ -0,0 +1,456 @@
+package com.nepafootball.broadcast.seed;
+
+import com.nepafootball.broadcast.entity.Game;
+import com.nepafootball.broadcast.entity.Player;
+import com.nepafootball.broadcast.entity.School;
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.entity.Team;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator of realistic school, team, roster, schedule and stats data
+ *
+ * Every school fields one team and offers most sports. Rosters and stat lines are
+ * derived from a random stream keyed by (seed, school, sport, season), so the same
+ * spec always yields the same rows and any table can be generated on its own.
+ * Stat columns are filled by sport and position (quarterbacks pass, keepers save,
+ * pitchers carry innings and ERA) and left null otherwise, with a small share of
+ * recorded stats missing the way hand-entered box scores are. Large tables are
+ * emitted in chunks so memory stays flat regardless of dataset size.
+ *
+ * A season is the school year starting in the fall of its year: fall sports play
+ * in that year, basketball over the winter, baseball and softball the next spring.
+ *
+ * @author NEPA Football Team
+ */
+public class DatasetGenerator {
+
+    static final String[] SPORTS = {"football", "basketball", "baseball", "softball", "boys-soccer", "girls-soccer"};
+
+    private static final double[] OFFERED = {0.85, 1.0, 0.9, 0.9, 0.8, 0.8};
+    private static final String[] DIVISIONS = {"6A", "5A", "4A", "3A", "2A", "1A"};
+    private static final double[] DIVISION_WEIGHTS = {0.10, 0.15, 0.20, 0.20, 0.20, 0.15};
+
+    private static final String[] TOWNS = {
+            "Abington Heights", "Delaware Valley", "North Pocono", "Scranton", "Valley View", "Wallenpaupack",
+            "Dunmore", "Honesdale", "Lakeland", "Old Forge", "Riverside", "Mid Valley", "Carbondale",
+            "Lackawanna Trail", "Western Wayne", "Blue Ridge", "Susquehanna", "Elk Lake", "Montrose", "Forest City",
+            "Wilkes-Barre", "Hazleton", "Pittston", "Dallas", "Lake-Lehman", "Wyoming Valley", "Nanticoke",
+            "Hanover", "Crestwood", "Berwick", "Tunkhannock", "Stroudsburg", "Pocono Mountain", "East Stroudsburg"};
+    private static final String[] SCHOOL_SUFFIXES = {
+            "High School", "Area High School", "Regional High School", "Catholic High School", "Preparatory School"};
+    private static final String[] MASCOTS = {
+            "Comets", "Warriors", "Trojans", "Knights", "Cougars", "Buckhorns", "Bucks", "Hornets", "Chiefs",
+            "Blue Devils", "Vikings", "Spartans", "Chargers", "Raiders", "Eagles", "Panthers", "Lions", "Rams",
+            "Tigers", "Wolverines", "Bulldogs", "Patriots", "Titans", "Falcons"};
+    private static final String[] CONFERENCES = {
+            "Lackawanna League", "Wyoming Valley Conference", "Eastern Pennsylvania Conference",
+            "Schuylkill League", "Mountain Valley Conference"};
+    private static final String[] FIELDS = {"Memorial Stadium", "Stadium", "Field", "Athletic Complex"};
+    private static final String[] FIRST_NAMES = {
+            "Michael", "Matthew", "Joseph", "Ryan", "Nicholas", "Anthony", "Tyler", "Jacob", "Brandon", "Kevin",
+            "Daniel", "Christopher", "Jake", "Luke", "Owen", "Connor", "Evan", "Dylan", "Logan", "Mason",
+            "Emily", "Sarah", "Olivia", "Emma", "Ava", "Madison", "Hannah", "Abigail", "Grace", "Chloe",
+            "Sophia", "Isabella", "Mia", "Lily", "Natalie", "Kayla", "Lauren", "Megan", "Julia", "Rachel"};
+    private static final String[] LAST_NAMES = {
+            "Kowalski", "Nowak", "Wisniewski", "Kaminski", "Lewandowski", "Zielinski", "Mancini", "Rinaldi",
+            "Esposito", "Russo", "Romano", "Colombo", "Murphy", "Kelly", "Sullivan", "Walsh", "O'Brien", "McGrath",
+            "Gallagher", "Brennan", "Smith", "Johnson", "Williams", "Brown", "Miller", "Davis", "Wilson", "Moore",
+            "Taylor", "Anderson", "Thomas", "Jackson", "White", "Harris", "Martin", "Thompson", "Garcia",
+            "Martinez", "Robinson", "Clark", "Lewis", "Lee", "Walker", "Hall", "Young", "Hernandez", "King"};
+
+    private static final String[][] POSITIONS = {
+            {"QB", "RB", "WR", "WR", "TE", "OL", "OL", "OL", "DL", "DL", "LB", "LB", "DB", "DB", "DB",
+                    "RB", "WR", "OL", "OL", "DL", "LB", "DB", "K", "QB"},
+            {"G", "G", "F", "F", "C", "G", "F", "G", "F", "C"},
+            {"P", "C", "1B", "2B", "SS", "3B", "OF", "OF", "OF", "P", "P", "OF", "C"},
+            {"P", "C", "1B", "2B", "SS", "3B", "OF", "OF", "OF", "P", "P", "OF", "C"},
+            {"GK", "DF", "DF", "DF", "DF", "MF", "MF", "MF", "MF", "FW", "FW", "DF", "MF", "FW", "GK"},
+            {"GK", "DF", "DF", "DF", "DF", "MF", "MF", "MF", "MF", "FW", "FW", "DF", "MF", "FW", "GK"}};
+
+    // Regular season per sport: start of window, window length in days, games, first pitch/kickoff
+    private static final MonthDay[] SEASON_START = {
+            MonthDay.of(8, 25), MonthDay.of(12, 5), MonthDay.of(3, 20), MonthDay.of(3, 20),
+            MonthDay.of(8, 25), MonthDay.of(8, 25)};
+    private static final int[] SEASON_DAYS = {77, 80, 70, 70, 65, 65};
+    private static final int[] SEASON_GAMES = {10, 22, 20, 20, 18, 18};
+    private static final LocalTime[] GAME_TIMES = {
+            LocalTime.of(19, 0), LocalTime.of(19, 30), LocalTime.of(16, 0), LocalTime.of(16, 0),
+            LocalTime.of(15, 30), LocalTime.of(15, 30)};
+
+    /**
+     * Share of recorded stats that are missing from the box score anyway
+     */
+    private static final double MISSING = 0.05;
+
+    private final DatasetSpec spec;
+    private final List<Profile> profiles;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.profiles = profiles();
+    }
+
+    public DatasetSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * Generate every school with the sports it offers
+     */
+    public List<School> schools() {
+        List<School> schools = new ArrayList<>(profiles.size());
+        for (Profile profile : profiles) {
+            List<String> sports = new ArrayList<>();
+            for (int sport = 0; sport < SPORTS.length; sport++) {
+                if (profile.offers(sport)) {
+                    sports.add(SPORTS[sport]);
+                }
+            }
+            schools.add(new School(profile.schoolName(), profile.town() + ", PA", sports));
+        }
+        return schools;
+    }
+
+    /**
+     * Generate one team per school
+     */
+    public List<Team> teams() {
+        List<Team> teams = new ArrayList<>(profiles.size());
+        for (Profile profile : profiles) {
+            Team team = new Team(profile.teamName(), profile.schoolName(), profile.mascot(),
+                    profile.division(), profile.conference());
+            team.setHomeField(profile.homeField());
+            team.setCity(profile.town());
+            team.setState("PA");
+            teams.add(team);
+        }
+        return teams;
+    }
+
+    /**
+     * Generate the current rosters, which match the stat lines of the last season
+     */
+    public void players(int chunkSize, Consumer<List<Player>> sink) {
+        Chunker<Player> chunker = new Chunker<>(chunkSize, sink);
+        for (Profile profile : profiles) {
+            for (int sport = 0; sport < SPORTS.length; sport++) {
+                if (!profile.offers(sport)) {
+                    continue;
+                }
+                for (Member member : roster(profile, sport, spec.lastSeason())) {
+                    chunker.add(new Player(member.name(), member.number(), member.position(), member.grade(),
+                            member.height(), member.weight(), SPORTS[sport]));
+                }
+            }
+        }
+        chunker.finish();
+    }
+
+    /**
+     * Generate every season's schedule; each team hosts half its games
+     */
+    public void games(int chunkSize, Consumer<List<Game>> sink) {
+        Chunker<Game> chunker = new Chunker<>(chunkSize, sink);
+        for (int season = spec.firstSeason(); season <= spec.lastSeason(); season++) {
+            for (int sport = 0; sport < SPORTS.length; sport++) {
+                List<Profile> field = new ArrayList<>();
+                for (Profile profile : profiles) {
+                    if (profile.offers(sport)) {
+                        field.add(profile);
+                    }
+                }
+                if (field.size() < 2) {
+                    continue;
+                }
+                SplittableRandom random = random(season, sport, -1, 2);
+                LocalDate opening = SEASON_START[sport].atYear(
+                        SEASON_START[sport].getMonthValue() < 8 ? season + 1 : season);
+                for (Profile home : field) {
+                    for (int game = 0; game < spec.gamesPerTeam() / 2; game++) {
+                        Profile away = field.get(random.nextInt(field.size() - 1));
+                        if (away == home) {
+                            away = field.get(field.size() - 1);
+                        }
+                        LocalDate date = opening.plusDays(random.nextInt(SEASON_DAYS[sport]));
+                        if (sport == 0) {
+                            date = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY));
+                        }
+                        chunker.add(new Game(home.teamName(), away.teamName(), date, GAME_TIMES[sport],
+                                home.homeField(), SPORTS[sport]));
+                    }
+                }
+            }
+        }
+        chunker.finish();
+    }
+
+    /**
+     * Generate a stat line for every rostered player in every season
+     */
+    public void stats(int chunkSize, Consumer<List<Stats>> sink) {
+        Chunker<Stats> chunker = new Chunker<>(chunkSize, sink);
+        for (int season = spec.firstSeason(); season <= spec.lastSeason(); season++) {
+            String label = String.valueOf(season);
+            for (Profile profile : profiles) {
+                for (int sport = 0; sport < SPORTS.length; sport++) {
+                    if (!profile.offers(sport)) {
+                        continue;
+                    }
+                    SplittableRandom random = random(season, sport, profile.index(), 1);
+                    for (Member member : roster(profile, sport, season)) {
+                        Stats row = new Stats(member.name(), profile.teamName(), profile.schoolName(),
+                                SPORTS[sport], profile.division(), label);
+                        fill(row, sport, member.position(), random);
+                        chunker.add(row);
+                    }
+                }
+            }
+        }
+        chunker.finish();
+    }
+
+    /**
+     * Number of stat rows {@link #stats} will emit
+     */
+    public long statsRows() {
+        long teams = profiles.stream().mapToLong(p -> Long.bitCount(p.sports())).sum();
+        return teams * spec.seasons() * spec.rosterSize();
+    }
+
+    private List<Profile> profiles() {
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        List<Profile> profiles = new ArrayList<>(spec.schools());
+        int combinations = TOWNS.length * SCHOOL_SUFFIXES.length;
+        for (int i = 0; i < spec.schools(); i++) {
+            String town = TOWNS[i % TOWNS.length];
+            int round = i / combinations;
+            String suffix = SCHOOL_SUFFIXES[(i / TOWNS.length) % SCHOOL_SUFFIXES.length];
+            String schoolName = town + " " + suffix + (round > 0 ? " " + (round + 1) : "");
+            String mascot = MASCOTS[random.nextInt(MASCOTS.length)];
+            String teamName = town + (i >= TOWNS.length ? " " + suffix.split(" ")[0] : "") + " " + mascot
+                    + (round > 0 ? " " + (round + 1) : "");
+            int sports = 0;
+            for (int sport = 0; sport < SPORTS.length; sport++) {
+                if (random.nextDouble() < OFFERED[sport]) {
+                    sports |= 1 << sport;
+                }
+            }
+            profiles.add(new Profile(i, schoolName, teamName, town, mascot, pick(DIVISIONS, DIVISION_WEIGHTS, random),
+                    CONFERENCES[i % CONFERENCES.length], town + " " + FIELDS[random.nextInt(FIELDS.length)], sports));
+        }
+        return profiles;
+    }
+
+    private List<Member> roster(Profile profile, int sport, int season) {
+        SplittableRandom random = random(season, sport, profile.index(), 0);
+        String[] positions = POSITIONS[sport];
+        boolean girls = sport == 3 || sport == 5 || (sport == 1 && random.nextBoolean());
+        List<Member> roster = new ArrayList<>(spec.rosterSize());
+        for (int slot = 0; slot < spec.rosterSize(); slot++) {
+            String first = FIRST_NAMES[(girls ? 20 : 0) + random.nextInt(20)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            int inches = (girls ? 62 : 66) + random.nextInt(10);
+            int pounds = (girls ? 110 : 140) + random.nextInt(girls ? 60 : 120);
+            roster.add(new Member(first + " " + last, String.valueOf(1 + (slot * 7 + random.nextInt(7)) % 99),
+                    positions[slot % positions.length], String.valueOf(9 + random.nextInt(4)),
+                    inches / 12 + "'" + inches % 12 + "\"", String.valueOf(pounds)));
+        }
+        return roster;
+    }
+
+    private void fill(Stats row, int sport, String position, SplittableRandom random) {
+        int games = Math.max(1, SEASON_GAMES[sport] - random.nextInt(SEASON_GAMES[sport] / 2 + 1));
+        row.setGamesPlayed(recorded(random) ? games : null);
+        switch (SPORTS[sport]) {
+            case "football" -> fillFootball(row, position, games, random);
+            case "basketball" -> fillBasketball(row, position, games, random);
+            case "baseball", "softball" -> fillBaseball(row, position, games, random);
+            default -> fillSoccer(row, position, games, random);
+        }
+    }
+
+    private void fillFootball(Stats row, String position, int games, SplittableRandom random) {
+        switch (position) {
+            case "QB" -> {
+                int yards = games * between(random, 40, 260);
+                row.setPassingYards(stat(random, yards));
+                row.setPassingTouchdowns(stat(random, yards / between(random, 90, 180)));
+                row.setRushingYards(stat(random, games * between(random, 0, 40)));
+                row.setRushingTouchdowns(stat(random, between(random, 0, games / 2)));
+            }
+            case "RB" -> {
+                row.setRushingYards(stat(random, games * between(random, 15, 140)));
+                row.setRushingTouchdowns(stat(random, between(random, 0, games * 2)));
+                row.setReceivingYards(stat(random, games * between(random, 0, 25)));
+            }
+            case "WR", "TE" -> {
+                int yards = games * between(random, 5, 100);
+                row.setReceivingYards(stat(random, yards));
+                row.setReceivingTouchdowns(stat(random, yards / between(random, 80, 200)));
+            }
+            case "DL" -> {
+                row.setTackles(stat(random, games * between(random, 1, 5)));
+                row.setSacks(stat(random, between(random, 0, games)));
+            }
+            case "LB" -> {
+                row.setTackles(stat(random, games * between(random, 3, 11)));
+                row.setSacks(stat(random, between(random, 0, games / 2)));
+                row.setInterceptions(stat(random, between(random, 0, 2)));
+            }
+            case "DB" -> {
+                row.setTackles(stat(random, games * between(random, 2, 6)));
+                row.setInterceptions(stat(random, between(random, 0, games / 2)));
+            }
+            default -> {
+                // Linemen and kickers have no tracked stats beyond games played
+            }
+        }
+    }
+
+    private void fillBasketball(Stats row, String position, int games, SplittableRandom random) {
+        boolean guard = position.equals("G");
+        boolean center = position.equals("C");
+        int fieldGoalsAttempted = games * between(random, 1, 15);
+        int threesAttempted = center ? 0 : fieldGoalsAttempted * between(random, 10, guard ? 50 : 30) / 100;
+        int threesMade = threesAttempted * between(random, 20, 42) / 100;
+        int fieldGoalsMade = threesMade + (fieldGoalsAttempted - threesAttempted) * between(random, 35, 58) / 100;
+        int freeThrowsAttempted = games * between(random, 0, 6);
+        int freeThrowsMade = freeThrowsAttempted * between(random, 50, 88) / 100;
+        row.setFieldGoalsAttempted(stat(random, fieldGoalsAttempted));
+        row.setFieldGoalsMade(stat(random, fieldGoalsMade));
+        row.setThreePointersAttempted(center ? null : stat(random, threesAttempted));
+        row.setThreePointersMade(center ? null : stat(random, threesMade));
+        row.setFreeThrowsAttempted(stat(random, freeThrowsAttempted));
+        row.setFreeThrowsMade(stat(random, freeThrowsMade));
+        row.setPoints(stat(random, 2 * fieldGoalsMade + threesMade + freeThrowsMade));
+        row.setRebounds(stat(random, games * between(random, 0, center ? 12 : guard ? 4 : 8)));
+        row.setAssists(stat(random, games * between(random, 0, guard ? 7 : 3)));
+        row.setSteals(stat(random, games * between(random, 0, guard ? 3 : 2)));
+        row.setBlocks(stat(random, games * between(random, 0, center ? 3 : 1)));
+        row.setMinutesPlayed(stat(random, games * between(random, 4, 32)));
+    }
+
+    private void fillBaseball(Stats row, String position, int games, SplittableRandom random) {
+        boolean pitcher = position.equals("P");
+        // Most pitchers also hit; the ones who do not leave the batting columns empty
+        if (!pitcher || random.nextDouble() < 0.5) {
+            int atBats = games * between(random, 2, 4);
+            int hits = atBats * between(random, 120, 450) / 1000;
+            row.setHits(stat(random, hits));
+            row.setBattingAverage(recorded(random) ? Math.round(hits * 1000.0 / atBats) / 1000.0 : null);
+            row.setRuns(stat(random, hits * between(random, 30, 80) / 100));
+            row.setRbis(stat(random, hits * between(random, 20, 90) / 100));
+            row.setHomeRuns(stat(random, hits * between(random, 0, 15) / 100));
+            row.setStolenBases(stat(random, between(random, 0, games / 2)));
+        }
+        if (pitcher) {
+            int outs = games * between(random, 3, 15);
+            int earnedRuns = outs * between(random, 3, 25) / 100;
+            int decisions = between(random, 0, games / 2);
+            int wins = between(random, 0, decisions);
+            // Innings are written whole.thirds, so 20 outs is 6.2
+            row.setInningsPitched(recorded(random) ? outs / 3 + (outs % 3) / 10.0 : null);
+            row.setEarnedRunAverage(recorded(random) ? Math.round(earnedRuns * 2700.0 / outs) / 100.0 : null);
+            row.setStrikeouts(stat(random, outs * between(random, 15, 45) / 100));
+            row.setWins(stat(random, wins));
+            row.setLosses(stat(random, decisions - wins));
+        }
+    }
+
+    private void fillSoccer(Stats row, String position, int games, SplittableRandom random) {
+        if (position.equals("GK")) {
+            row.setSaves(stat(random, games * between(random, 2, 9)));
+            row.setShutouts(stat(random, between(random, 0, games / 3)));
+            row.setMinutesPlayed(stat(random, games * 80));
+            return;
+        }
+        int attacking = switch (position) {
+            case "FW" -> 12;
+            case "MF" -> 6;
+            default -> 2;
+        };
+        row.setGoals(stat(random, between(random, 0, games * attacking / 10)));
+        row.setAssistsSoccer(stat(random, between(random, 0, games * attacking / 15)));
+        row.setMinutesPlayed(stat(random, games * between(random, 15, 80)));
+    }
+
+    private static Integer stat(SplittableRandom random, int value) {
+        return recorded(random) ? value : null;
+    }
+
+    private static boolean recorded(SplittableRandom random) {
+        return random.nextDouble() >= MISSING;
+    }
+
+    private static int between(SplittableRandom random, int min, int max) {
+        return max <= min ? min : random.nextInt(min, max + 1);
+    }
+
+    private static String pick(String[] values, double[] weights, SplittableRandom random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < values.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private SplittableRandom random(int season, int sport, int school, int stream) {
+        long key = spec.seed();
+        for (long part : new long[] {season, sport, school, stream}) {
+            key = key * 0x9E3779B97F4A7C15L + part;
+        }
+        return new SplittableRandom(key);
+    }
+
+    private record Profile(int index, String schoolName, String teamName, String town, String mascot,
+                           String division, String conference, String homeField, int sports) {
+        boolean offers(int sport) {
+            return (sports & (1 << sport)) != 0;
+        }
+    }
+
+    private record Member(String name, String number, String position, String grade, String height, String weight) {}
+
+    /**
+     * Buffers rows and hands them to the sink a chunk at a time
+     */
+    private static final class Chunker<T> {
+
+        private final int size;
+        private final Consumer<List<T>> sink;
+        private List<T> chunk;
+
+        Chunker(int size, Consumer<List<T>> sink) {
+            this.size = size;
+            this.sink = sink;
+            this.chunk = new ArrayList<>(size);
+        }
+
+        void add(T row) {
+            chunk.add(row);
+            if (chunk.size() == size) {
+                sink.accept(chunk);
+                chunk = new ArrayList<>(size);
+            }
+        }
+
+        void finish() {
+            if (!chunk.isEmpty()) {
+                sink.accept(chunk);
+            }
+        }
+    }
+}
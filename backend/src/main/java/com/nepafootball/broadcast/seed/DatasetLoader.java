@@ -0,0 +1,188 @@
+package com.nepafootball.broadcast.seed;
+
+import com.nepafootball.broadcast.entity.Game;
+import com.nepafootball.broadcast.entity.Player;
+import com.nepafootball.broadcast.entity.School;
+import com.nepafootball.broadcast.entity.Team;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk-loads a generated dataset over plain JDBC
+ *
+ * Rows bypass the persistence context and are written with batched multi-row
+ * inserts, one transaction per chunk, so tens of millions of stat rows load
+ * with flat memory. Works against PostgreSQL (enable reWriteBatchedInserts for
+ * best throughput) or any embedded database created by the JPA schema.
+ *
+ * @author NEPA Football Team
+ */
+@Component
+public class DatasetLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetLoader.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    /**
+     * Check whether stat rows already exist, so a second seed run can be skipped
+     */
+    public boolean hasStats() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM player_stats)", Boolean.class));
+    }
+
+    /**
+     * Generate and insert every table of the dataset
+     *
+     * @param generator The dataset to load
+     * @param chunkSize Rows per insert batch and transaction
+     */
+    public void load(DatasetGenerator generator, int chunkSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        log.info("Seeding {} with about {} stat rows", generator.getSpec(), generator.statsRows());
+
+        timed("schools", () -> {
+            List<School> schools = generator.schools();
+            insertSchools(schools, now, chunkSize);
+            return schools.size();
+        });
+        timed("teams", () -> {
+            List<Team> teams = generator.teams();
+            insert("INSERT INTO teams (team_name, school_name, mascot, division, conference, home_field, city, state, "
+                    + "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", teams, chunkSize, (ps, team) -> {
+                ps.setString(1, team.getTeamName());
+                ps.setString(2, team.getSchoolName());
+                ps.setString(3, team.getMascot());
+                ps.setString(4, team.getDivision());
+                ps.setString(5, team.getConference());
+                ps.setString(6, team.getHomeField());
+                ps.setString(7, team.getCity());
+                ps.setString(8, team.getState());
+                ps.setBoolean(9, true);
+                ps.setTimestamp(10, now);
+                ps.setTimestamp(11, now);
+            });
+            return teams.size();
+        });
+        timed("players", () -> {
+            AtomicLong rows = new AtomicLong();
+            generator.players(chunkSize, chunk -> {
+                insert("INSERT INTO players (name, number, position, grade, height, weight, sport, is_active, created_at, "
+                        + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", chunk, chunkSize, (ps, player) -> {
+                    ps.setString(1, player.getName());
+                    ps.setString(2, player.getNumber());
+                    ps.setString(3, player.getPosition());
+                    ps.setString(4, player.getGrade());
+                    ps.setString(5, player.getHeight());
+                    ps.setString(6, player.getWeight());
+                    ps.setString(7, player.getSport());
+                    ps.setBoolean(8, true);
+                    ps.setTimestamp(9, now);
+                    ps.setTimestamp(10, now);
+                });
+                rows.addAndGet(chunk.size());
+            });
+            return rows.get();
+        });
+        timed("games", () -> {
+            AtomicLong rows = new AtomicLong();
+            generator.games(chunkSize, chunk -> {
+                insertGames(chunk, now, chunkSize);
+                rows.addAndGet(chunk.size());
+            });
+            return rows.get();
+        });
+        timed("player_stats", () -> {
+            AtomicLong rows = new AtomicLong();
+            generator.stats(chunkSize, chunk -> {
+                transactionTemplate.executeWithoutResult(status -> statsRepository.insertAll(chunk));
+                long total = rows.addAndGet(chunk.size());
+                if (total % 1_000_000 < chunk.size()) {
+                    log.info("Inserted {} stat rows", total);
+                }
+            });
+            return rows.get();
+        });
+    }
+
+    private void insertSchools(List<School> schools, Timestamp now, int chunkSize) {
+        insert("INSERT INTO schools (name, location, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                schools, chunkSize, (ps, school) -> {
+                    ps.setString(1, school.getName());
+                    ps.setString(2, school.getLocation());
+                    ps.setBoolean(3, true);
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+        // Identity keys are assigned by the database; read them back to attach the sports
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM schools ORDER BY id",
+                rs -> { ids.put(rs.getString("name"), rs.getLong("id")); });
+        List<Object[]> sports = new ArrayList<>();
+        for (School school : schools) {
+            for (String sport : school.getSports()) {
+                sports.add(new Object[] {ids.get(school.getName()), sport});
+            }
+        }
+        insert("INSERT INTO school_sports (school_id, sport) VALUES (?, ?)", sports, chunkSize, (ps, row) -> {
+            ps.setLong(1, (Long) row[0]);
+            ps.setString(2, (String) row[1]);
+        });
+    }
+
+    private void insertGames(List<Game> games, Timestamp now, int chunkSize) {
+        insert("INSERT INTO games (home_team, away_team, game_date, game_time, location, sport, notes, is_active, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", games, chunkSize, (ps, game) -> {
+            ps.setString(1, game.getHomeTeam());
+            ps.setString(2, game.getAwayTeam());
+            ps.setDate(3, Date.valueOf(game.getDate()));
+            ps.setTime(4, Time.valueOf(game.getTime()));
+            ps.setString(5, game.getLocation());
+            ps.setString(6, game.getSport());
+            ps.setString(7, game.getNotes());
+            ps.setBoolean(8, true);
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    private <T> void insert(String sql, List<T> rows, int chunkSize, ParameterizedPreparedStatementSetter<T> setter) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows, chunkSize, setter));
+    }
+
+    private void timed(String table, LoadStep step) {
+        long started = System.nanoTime();
+        long rows = step.load();
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Loaded {} {} rows in {} ms ({} rows/s)", rows, table, millis, rows * 1000 / millis);
+    }
+
+    @FunctionalInterface
+    private interface LoadStep {
+        long load();
+    }
+}
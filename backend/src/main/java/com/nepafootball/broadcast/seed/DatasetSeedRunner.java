@@ -0,0 +1,73 @@
+package com.nepafootball.broadcast.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the database with a synthetic dataset when the "seed" profile is active
+ *
+ * The application exits once loading finishes, before the leaderboard index
+ * would be rebuilt from millions of rows. Dataset shape comes from the
+ * dataset.* properties.
+ *
+ * @author NEPA Football Team
+ */
+@Component
+@Profile("seed")
+public class DatasetSeedRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeedRunner.class);
+
+    @Autowired
+    private DatasetLoader datasetLoader;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${dataset.seed:42}")
+    private long seed;
+
+    @Value("${dataset.schools:400}")
+    private int schools;
+
+    @Value("${dataset.seasons:10}")
+    private int seasons;
+
+    @Value("${dataset.first-season:2015}")
+    private int firstSeason;
+
+    @Value("${dataset.roster-size:25}")
+    private int rosterSize;
+
+    @Value("${dataset.games-per-team:10}")
+    private int gamesPerTeam;
+
+    @Value("${dataset.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${dataset.skip-if-present:true}")
+    private boolean skipIfPresent;
+
+    @Value("${dataset.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(String... args) {
+        if (skipIfPresent && datasetLoader.hasStats()) {
+            log.info("player_stats already has rows; skipping seed (set dataset.skip-if-present=false to load anyway)");
+        } else {
+            DatasetSpec spec = new DatasetSpec(seed, schools, seasons, firstSeason, rosterSize, gamesPerTeam);
+            datasetLoader.load(new DatasetGenerator(spec), chunkSize);
+        }
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
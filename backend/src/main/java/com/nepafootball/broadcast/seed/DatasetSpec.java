@@ -0,0 +1,32 @@
+package com.nepafootball.broadcast.seed;
+
+/**
+ * Shape of a synthetic dataset
+ *
+ * Stat rows scale as schools x sports offered (about 5 of 6) x seasons x roster size,
+ * so 2,000 schools over 40 seasons with 25-player rosters yields roughly 10M rows.
+ *
+ * @param seed Random seed; the same spec always generates the same rows
+ * @param schools Number of schools, each with one team
+ * @param seasons Number of seasons of stats and games
+ * @param firstSeason Year of the first season
+ * @param rosterSize Players per team per sport
+ * @param gamesPerTeam Games each team plays per sport per season
+ *
+ * @author NEPA Football Team
+ */
+public record DatasetSpec(long seed, int schools, int seasons, int firstSeason, int rosterSize, int gamesPerTeam) {
+
+    public DatasetSpec {
+        if (schools < 2 || seasons < 1 || rosterSize < 1 || gamesPerTeam < 0) {
+            throw new IllegalArgumentException("Dataset needs at least 2 schools, 1 season and 1 player per roster");
+        }
+    }
+
+    /**
+     * Year of the most recent season, whose rosters become the players table
+     */
+    public int lastSeason() {
+        return firstSeason + seasons - 1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.dto.AlertDelivery;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of score alerts, such as a push or email gateway
+ *
+ * ScoreAlertService calls it from a single dispatcher thread with batches of
+ * at most alerts.batch-size recipients. A failed batch is logged and dropped.
+ *
+ * @author NEPA Football Team
+ */
+public interface AlertSink {
+
+    /**
+     * Deliver a batch of alerts
+     */
+    void deliver(List<AlertDelivery> batch) throws IOException;
+}
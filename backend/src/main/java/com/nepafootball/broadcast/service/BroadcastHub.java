@@ -0,0 +1,490 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-Sent Events fan-out to many subscribers per topic
+ *
+ * A change is encoded into a complete SSE frame once and the same bytes are
+ * queued for every subscriber of its topic. Each subscriber has a bounded
+ * queue drained by a small pool of writer threads; each turn writes everything
+ * queued for one subscriber in a single write. State frames coalesce: a newer frame
+ * replaces a queued one of the same event name, since only the latest state
+ * matters. When a queue is still full, its oldest frame is dropped.
+ *
+ * Publishing only hands the frame to its topic, so the publisher never walks
+ * the subscribers; one writer task at a time fans the topic's frames out in
+ * publish order. A new subscriber joins in that same order: it gets its
+ * initial frame first, then every frame published after it subscribed.
+ *
+ * Servlet writes block while the client's socket buffer is full and cannot be
+ * interrupted; they return only when the client reads or the connector's write
+ * timeout (server.tomcat.connection-timeout) closes the socket. A subscriber whose
+ * write has not finished within hub.write-timeout-ms is evicted, so it is never
+ * given a writer again, and another writer is started in place of the blocked one
+ * until that write returns. Up to hub.max-stalled-writers writers are replaced this
+ * way, so a handful of stalled clients cannot starve everyone else.
+ *
+ * Metrics are published under broadcast.hub.*: subscriber and topic gauges,
+ * published, delivered, coalesced and dropped frame counters, evicted subscribers,
+ * stalled writers, and a lag timer from publish to write.
+ *
+ * @author NEPA Football Team
+ */
+@Component
+public class BroadcastHub implements MeterBinder {
+
+    private static final byte[] HEARTBEAT = ": keepalive\n\n".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${hub.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${hub.max-subscribers:20000}")
+    private int maxSubscribers;
+
+    @Value("${hub.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${hub.writer-threads:4}")
+    private int writerThreads;
+
+    @Value("${hub.write-timeout-ms:5000}")
+    private long writeTimeoutMillis;
+
+    @Value("${hub.max-stalled-writers:64}")
+    private int maxStalledWriters;
+
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    // Subscribers with a write in progress, watched for writes that outlast hub.write-timeout-ms
+    private final Set<Subscriber> writing = ConcurrentHashMap.newKeySet();
+    // Writers added in place of ones blocked on a stalled client; resized under the pool's lock
+    private final AtomicInteger stalledWriters = new AtomicInteger();
+    private final AtomicLong writerThreadIds = new AtomicLong();
+    private ThreadPoolExecutor writers;
+    private volatile Timer lag;
+
+    @PostConstruct
+    void startWriters() {
+        writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "broadcast-hub-" + writerThreadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopWriters() throws InterruptedException {
+        topics.values().forEach(topic -> topic.subscribers.forEach(Subscriber::close));
+        writers.shutdown();
+        writers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Encode a payload as an SSE frame
+     *
+     * @param event The SSE event name
+     * @param payload Serialized as one line of JSON
+     * @param coalesce Whether a later frame with the same event name may replace this one
+     *        while it is still queued
+     */
+    public Frame encode(String event, Object payload, boolean coalesce) {
+        try {
+            String frame = "event: " + event + "\ndata: " + objectMapper.writeValueAsString(payload) + "\n\n";
+            return new Frame(event, frame.getBytes(StandardCharsets.UTF_8), coalesce, System.nanoTime());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode " + event + " event", e);
+        }
+    }
+
+    /**
+     * Open a stream on a topic
+     *
+     * @param topic The topic to follow
+     * @param initial Frame sent to this subscriber first, usually the current state
+     * @return The response body to return from the controller
+     * @throws IllegalStateException if the hub already has hub.max-subscribers subscribers
+     */
+    public ResponseBodyEmitter subscribe(String topic, Frame initial) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new IllegalStateException("Too many subscribers");
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(topic, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        // A member from now on, so the topic stays; frames reach it once it has joined
+        Topic joined = topics.compute(topic, (key, existing) -> {
+            Topic members = existing != null ? existing : new Topic();
+            members.subscribers.add(subscriber);
+            return members;
+        });
+        joined.submit(() -> {
+            if (initial != null) {
+                subscriber.offer(initial);
+            }
+            subscriber.joined = true;
+        });
+        return emitter;
+    }
+
+    /**
+     * Queue a frame for every subscriber of a topic
+     *
+     * Returns at once; the frame is fanned out on a writer thread, after every
+     * frame published to the topic before it.
+     */
+    public void publish(String topic, Frame frame) {
+        Topic members = topics.get(topic);
+        if (members == null) {
+            return;
+        }
+        published.increment();
+        members.submit(() -> {
+            for (Subscriber subscriber : members.subscribers) {
+                if (subscriber.joined) {
+                    subscriber.offer(frame);
+                }
+            }
+        });
+    }
+
+    /**
+     * Check whether anyone is following a topic, so publishers can skip encoding
+     */
+    public boolean hasSubscribers(String topic) {
+        return topics.containsKey(topic);
+    }
+
+    /**
+     * Get the topics that currently have subscribers
+     */
+    public Set<String> getTopics() {
+        return topics.keySet();
+    }
+
+    /**
+     * Get the number of open streams
+     */
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+
+    /**
+     * Send a comment to every subscriber so proxies keep idle streams open and
+     * closed connections are noticed
+     */
+    @Scheduled(fixedDelayString = "${hub.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Frame frame = new Frame("", HEARTBEAT, true, System.nanoTime());
+        topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.offer(frame)));
+    }
+
+    /**
+     * Evict subscribers whose current write has taken longer than hub.write-timeout-ms,
+     * starting a writer in place of each blocked one
+     */
+    @Scheduled(fixedDelayString = "${hub.stall-check-ms:1000}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : writing) {
+            if (subscriber.stall(now)) {
+                evicted.increment();
+                subscriber.close();
+            }
+        }
+    }
+
+    private boolean addWriter() {
+        synchronized (writers) {
+            if (stalledWriters.get() >= maxStalledWriters) {
+                return false;
+            }
+            int size = writerThreads + stalledWriters.incrementAndGet();
+            writers.setMaximumPoolSize(size);
+            writers.setCorePoolSize(size);
+            return true;
+        }
+    }
+
+    private void removeWriter() {
+        synchronized (writers) {
+            int size = writerThreads + stalledWriters.decrementAndGet();
+            writers.setCorePoolSize(size);
+            writers.setMaximumPoolSize(size);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("broadcast.hub.subscribers", subscribers, AtomicInteger::get)
+                .description("Open SSE streams").register(registry);
+        Gauge.builder("broadcast.hub.topics", topics, Map::size)
+                .description("Topics with at least one subscriber").register(registry);
+        FunctionCounter.builder("broadcast.hub.frames.published", published, LongAdder::sum)
+                .description("Frames published to a topic with subscribers").register(registry);
+        FunctionCounter.builder("broadcast.hub.frames.delivered", delivered, LongAdder::sum)
+                .description("Frames written to a subscriber").register(registry);
+        FunctionCounter.builder("broadcast.hub.frames.coalesced", coalesced, LongAdder::sum)
+                .description("Queued frames replaced by a newer state").register(registry);
+        FunctionCounter.builder("broadcast.hub.frames.dropped", dropped, LongAdder::sum)
+                .description("Frames dropped from a full subscriber queue").register(registry);
+        FunctionCounter.builder("broadcast.hub.subscribers.evicted", evicted, LongAdder::sum)
+                .description("Subscribers evicted because a write to them stalled").register(registry);
+        Gauge.builder("broadcast.hub.writers.stalled", stalledWriters, AtomicInteger::get)
+                .description("Writer threads blocked on an evicted subscriber").register(registry);
+        lag = Timer.builder("broadcast.hub.lag")
+                .description("Time from encoding a frame to writing it to a subscriber")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    /**
+     * An encoded SSE frame; the bytes are shared by every subscriber
+     */
+    public record Frame(String event, byte[] bytes, boolean coalesce, long encodedAt) {}
+
+    /**
+     * Subscribers of one topic, and the frames and joins waiting to reach them in publish order
+     */
+    private final class Topic {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Queue<Runnable> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean dispatching = new AtomicBoolean();
+
+        void submit(Runnable dispatch) {
+            outbox.add(dispatch);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!dispatching.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                writers.execute(this::dispatch);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; every subscriber is being closed
+                outbox.clear();
+                dispatching.set(false);
+            }
+        }
+
+        /**
+         * Run what is queued, then yield the writer thread so writes to subscribers can proceed
+         */
+        private void dispatch() {
+            for (Runnable next; (next = outbox.poll()) != null; ) {
+                next.run();
+            }
+            dispatching.set(false);
+            // Work queued after the last poll but before the flag was cleared
+            if (!outbox.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final String topic;
+        private final ResponseBodyEmitter emitter;
+        // Set by the topic's dispatcher once the initial frame is queued
+        private volatile boolean joined;
+        private final ArrayDeque<Frame> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        // When the write in progress started, if any
+        private long writeStartedAt;
+        private boolean inWrite;
+        private boolean stalled;
+        private boolean replaced;
+
+        Subscriber(String topic, ResponseBodyEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        void offer(Frame frame) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (frame.coalesce() && queue.removeIf(queued -> queued.coalesce() && queued.event().equals(frame.event()))) {
+                    coalesced.increment();
+                }
+                queue.addLast(frame);
+                while (queue.size() > queueCapacity) {
+                    queue.pollFirst();
+                    dropped.increment();
+                }
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        /**
+         * Write everything queued as one buffer, then yield the writer thread so a
+         * subscriber whose socket is backed up cannot starve the others
+         */
+        private void drain() {
+            Frame[] frames;
+            synchronized (this) {
+                if (queue.isEmpty() || closed) {
+                    draining = false;
+                    return;
+                }
+                frames = queue.toArray(new Frame[0]);
+                queue.clear();
+                inWrite = true;
+                writeStartedAt = System.nanoTime();
+            }
+            writing.add(this);
+            Exception failure = null;
+            try {
+                emitter.send(concat(frames), MediaType.TEXT_EVENT_STREAM);
+            } catch (IOException | IllegalStateException e) {
+                failure = e;
+            } finally {
+                writing.remove(this);
+            }
+            boolean evictedWhileWriting;
+            synchronized (this) {
+                inWrite = false;
+                evictedWhileWriting = stalled;
+            }
+            if (evictedWhileWriting) {
+                if (replaced) {
+                    removeWriter();
+                }
+                // Already closed; end the response so the client reconnects for the current state
+                if (failure == null) {
+                    emitter.complete();
+                } else {
+                    emitter.completeWithError(failure);
+                }
+                return;
+            }
+            if (failure != null) {
+                close();
+                emitter.completeWithError(failure);
+                return;
+            }
+            delivered.add(frames.length);
+            Timer timer = lag;
+            if (timer != null) {
+                long now = System.nanoTime();
+                for (Frame frame : frames) {
+                    timer.record(now - frame.encodedAt(), TimeUnit.NANOSECONDS);
+                }
+            }
+            synchronized (this) {
+                if (queue.isEmpty() || closed) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        /**
+         * Mark the subscriber as stalled if its write has taken longer than hub.write-timeout-ms
+         *
+         * @return Whether it was marked now
+         */
+        synchronized boolean stall(long now) {
+            if (!inWrite || stalled || now - writeStartedAt < TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis)) {
+                return false;
+            }
+            stalled = true;
+            replaced = addWriter();
+            return true;
+        }
+
+        private static byte[] concat(Frame[] frames) {
+            if (frames.length == 1) {
+                return frames[0].bytes();
+            }
+            int length = 0;
+            for (Frame frame : frames) {
+                length += frame.bytes().length;
+            }
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            for (Frame frame : frames) {
+                System.arraycopy(frame.bytes(), 0, bytes, offset, frame.bytes().length);
+                offset += frame.bytes().length;
+            }
+            return bytes;
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            subscribers.decrementAndGet();
+            topics.computeIfPresent(topic, (key, members) -> {
+                members.subscribers.remove(this);
+                return members.subscribers.isEmpty() ? null : members;
+            });
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nepafootball.broadcast.dto.AlertDelivery;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Alert sink that appends each delivery as one JSON line to a local file
+ *
+ * Meant for tests and local runs, where the file shows exactly who was alerted.
+ *
+ * @author NEPA Football Team
+ */
+public class FileAlertSink implements AlertSink, Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+
+    public FileAlertSink(Path file, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void deliver(List<AlertDelivery> batch) throws IOException {
+        for (AlertDelivery delivery : batch) {
+            writer.write(objectMapper.writeValueAsString(delivery));
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -1,13 +1,31 @@
 package com.nepafootball.broadcast.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.Cursor;
+import com.nepafootball.broadcast.dto.CursorPage;
+import com.nepafootball.broadcast.dto.ScheduleImportResult;
+import com.nepafootball.broadcast.dto.ScheduleImportResult.Conflict;
+import com.nepafootball.broadcast.dto.ScheduleImportResult.GameError;
 import com.nepafootball.broadcast.entity.Game;
 import com.nepafootball.broadcast.repository.GameRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Game entity operations
@@ -22,6 +40,18 @@ public class GameService {
     @Autowired
     private GameRepository gameRepository;
     
+    @Autowired
+    private MergePatcher mergePatcher;
+    
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Value("${schedule.default-duration-minutes:120}")
+    private long defaultDurationMinutes;
+    
     /**
      * Get all games
      * 
@@ -31,6 +61,17 @@ public class GameService {
         return gameRepository.findAll();
     }
     
+    /**
+     * Write all games as JSON without materializing the result
+     * 
+     * @param out The response body
+     * @param ndjson True for newline-delimited JSON, false for a JSON array
+     */
+    @Transactional(readOnly = true)
+    public void writeAllGames(OutputStream out, boolean ndjson) throws IOException {
+        jsonStreamWriter.write(gameRepository.streamAll(), out, ndjson);
+    }
+    
     /**
      * Get all active games
      * 
@@ -61,18 +102,110 @@ public class GameService {
         return gameRepository.save(game);
     }
     
+    /**
+     * Import a batch of games, persisting only those that are not double-booked
+     * 
+     * Every valid game is checked against the rest of the batch and against active
+     * games around the same dates for overlaps at its location or with either team.
+     * Games involved in any overlap are reported and skipped; the rest are inserted
+     * in JDBC batches.
+     * 
+     * @param games The games to import
+     * @return The persisted games, conflicts and validation errors
+     */
+    @Transactional
+    public ScheduleImportResult importGames(List<Game> games) {
+        List<GameError> errors = new ArrayList<>();
+        ScheduleConflictIndex index = new ScheduleConflictIndex(Duration.ofMinutes(defaultDurationMinutes));
+        List<Integer> valid = new ArrayList<>();
+        LocalDate first = null;
+        LocalDate last = null;
+        for (int i = 0; i < games.size(); i++) {
+            Game game = games.get(i);
+            String message = validate(game);
+            if (message != null) {
+                errors.add(new GameError(i, message));
+                continue;
+            }
+            valid.add(i);
+            index.addSubmitted(game, i);
+            first = first == null || game.getDate().isBefore(first) ? game.getDate() : first;
+            last = last == null || game.getDate().isAfter(last) ? game.getDate() : last;
+        }
+        if (valid.isEmpty()) {
+            return new ScheduleImportResult(games.size(), List.of(), List.of(), errors);
+        }
+        
+        // A game started the day before can still be running
+        for (Game existing : gameRepository.findByIsActiveTrueAndDateBetween(first.minusDays(1), last)) {
+            index.addExisting(existing);
+        }
+        List<Conflict> conflicts = index.conflicts();
+        Set<Integer> conflicting = conflicts.stream().map(Conflict::index).collect(Collectors.toSet());
+        
+        List<Game> accepted = new ArrayList<>(valid.size());
+        for (int i : valid) {
+            if (!conflicting.contains(i)) {
+                Game game = games.get(i);
+                game.setId(null);
+                game.setIsActive(true);
+                accepted.add(game);
+            }
+        }
+        return new ScheduleImportResult(games.size(), gameRepository.saveAll(accepted), conflicts, errors);
+    }
+    
+    /**
+     * Check a game against its constraints and the schedule rules
+     * 
+     * @return Every problem, or null if the game is valid
+     */
+    String validate(Game game) {
+        if (game == null) {
+            return "Game is null";
+        }
+        Set<ConstraintViolation<Game>> violations = validator.validate(game);
+        List<String> messages = new ArrayList<>();
+        for (ConstraintViolation<Game> violation : violations) {
+            messages.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (game.getDate() == null) {
+            messages.add("date: Date is required");
+        }
+        if (game.getTime() == null) {
+            messages.add("time: Time is required");
+        }
+        if (game.getHomeTeam() != null && game.getAwayTeam() != null
+                && game.getHomeTeam().trim().equalsIgnoreCase(game.getAwayTeam().trim())) {
+            messages.add("awayTeam: Home and away teams must differ");
+        }
+        return messages.isEmpty() ? null : messages.stream().sorted().collect(Collectors.joining("; "));
+    }
+    
     /**
      * Update an existing game
      * 
      * @param id The game ID
      * @param game The updated game data
+     * @param expectedVersion Version from If-Match, or null for an unconditional update
      * @return The updated game
      * @throws RuntimeException if game not found
+     * @throws PreconditionFailedException if expectedVersion is not the current version
      */
-    public Game updateGame(Long id, Game game) {
+    public Game updateGame(Long id, Game game, Long expectedVersion) {
         Game existingGame = gameRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Game not found with id: " + id));
+        PreconditionFailedException.check(expectedVersion, existingGame.getVersion());
+        
+        copyDetails(game, existingGame);
         
+        return gameRepository.save(existingGame);
+    }
+    
+    /**
+     * Copy every field of a full update
+     */
+    static void copyDetails(Game game, Game existingGame) {
         existingGame.setHomeTeam(game.getHomeTeam());
         existingGame.setAwayTeam(game.getAwayTeam());
         existingGame.setDate(game.getDate());
@@ -81,8 +214,26 @@ public class GameService {
         existingGame.setSport(game.getSport());
         existingGame.setNotes(game.getNotes());
         existingGame.setIsActive(game.getIsActive());
+    }
+    
+    /**
+     * Apply a JSON merge patch; only the changed columns are written
+     * 
+     * @param id The game ID
+     * @param patch RFC 7396 merge patch
+     * @param expectedVersion Version from If-Match, or null for an unconditional update
+     * @return The patched game
+     * @throws IllegalArgumentException if the patch is malformed or leaves the game invalid
+     * @throws RuntimeException if game not found
+     * @throws PreconditionFailedException if expectedVersion is not the current version
+     */
+    @Transactional
+    public Game patchGame(Long id, JsonNode patch, Long expectedVersion) {
+        Game existingGame = gameRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Game not found with id: " + id));
+        PreconditionFailedException.check(expectedVersion, existingGame.getVersion());
         
-        return gameRepository.save(existingGame);
+        return gameRepository.save(mergePatcher.apply(existingGame, patch));
     }
     
     /**
@@ -138,4 +289,32 @@ public class GameService {
     public List<Game> getGamesByTeam(String teamName) {
         return gameRepository.findByHomeTeamContainingIgnoreCaseOrAwayTeamContainingIgnoreCase(teamName, teamName);
     }
+    
+    /**
+     * Get a page of games using keyset pagination
+     * 
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of games on the page
+     * @return The page of games and the cursor for the next page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public CursorPage<Game> getGamesPage(String after, int limit) {
+        int size = CursorPage.boundedLimit(limit);
+        List<Game> rows;
+        if (after == null) {
+            rows = gameRepository.findPage(Limit.of(size + 1));
+        } else {
+            Cursor cursor = Cursor.decode(after);
+            rows = gameRepository.findPageAfter(parseDate(cursor.key()), cursor.id(), Limit.of(size + 1));
+        }
+        return CursorPage.of(rows, size, game -> new Cursor(game.getDate().toString(), game.getId()));
+    }
+    
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a repository stream to an output stream as JSON
+ *
+ * Rows are serialized one at a time through a single JsonGenerator and
+ * detached from the persistence context as soon as they are written, so
+ * memory stays flat regardless of result size. Callers must invoke this
+ * inside a read-only transaction that keeps the underlying cursor open.
+ *
+ * @author NEPA Football Team
+ */
+@Component
+public class JsonStreamWriter {
+
+    private static final int FLUSH_EVERY = 500;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Write every row of the stream, closing the stream when done
+     *
+     * @param rows The rows to write
+     * @param out The response body
+     * @param ndjson True for newline-delimited JSON, false for a single JSON array
+     */
+    public <T> void write(Stream<T> rows, OutputStream out, boolean ndjson) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<T> source = rows;
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            long written = 0;
+            Iterator<T> iterator = source.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writer.writeValue(generator, row);
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                entityManager.detach(row);
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
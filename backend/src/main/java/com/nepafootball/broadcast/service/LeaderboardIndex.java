@@ -0,0 +1,407 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.entity.StatColumn;
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory top-K leaderboard index
+ *
+ * Keeps a bounded, sorted set of the best rows per (sport, division, season, stat)
+ * so leaderboard reads are served without a database round trip. Every active
+ * row is also indexed under {@link #ALL_SEASONS} for the season-less leaderboard.
+ * Buckets retain up to twice the configured size so a few removals can be absorbed;
+ * once a truncated bucket drops below the read size, that bucket alone is reloaded
+ * with the stat's top rows from the repository. Saves and removals that reach the
+ * bucket while the query runs win over the rows it read, by version.
+ *
+ * Rows without a value for a stat rank after every row with one, by id, as the
+ * leaderboard comparator has always ordered them. Entries hold a private copy
+ * of their row taken when it was indexed, and reads hand out copies of that,
+ * so neither later changes to a saved entity nor callers can alter the index.
+ *
+ * @author NEPA Football Team
+ */
+@Component
+public class LeaderboardIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardIndex.class);
+
+    /**
+     * Season key used for leaderboards spanning every season
+     */
+    public static final String ALL_SEASONS = "*";
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::rank)
+            .thenComparingLong(Entry::id);
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Value("${leaderboard.index.size:100}")
+    private int size;
+
+    private final Map<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong modifications = new AtomicLong();
+
+    /**
+     * Rebuild every bucket from the active rows in the repository
+     *
+     * Rows are streamed through a cursor and only those that make a bucket are
+     * kept, so the heap holds at most twice the leaderboard size per bucket
+     * rather than the whole table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        ready.set(false);
+        buckets.clear();
+        long rows = statsRepository.forEachActive(this::add);
+        ready.set(true);
+        modifications.incrementAndGet();
+        log.info("Leaderboard index rebuilt from {} rows into {} buckets in {} ms",
+                rows, buckets.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Get the top rows for a leaderboard
+     *
+     * @param season The season, or null for every season
+     * @return The top rows, or empty if the index cannot answer the request
+     */
+    public Optional<List<Stats>> top(String sport, String division, String season, String statType) {
+        Optional<StatColumn> stat = StatColumn.fromKey(statType);
+        if (!ready.get() || stat.isEmpty()) {
+            return Optional.empty();
+        }
+        Key key = new Key(sport, division, season == null ? ALL_SEASONS : season, stat.get());
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            hits.increment();
+            return Optional.of(List.of());
+        }
+        Optional<List<Stats>> top = bucket.top(size);
+        if (top.isPresent()) {
+            hits.increment();
+            return top.map(LeaderboardIndex::copies);
+        }
+        misses.increment();
+        reload(key, bucket);
+        // Still short if rows were removed while it loaded; the caller sorts the slice instead
+        return bucket.top(size).map(LeaderboardIndex::copies);
+    }
+
+    /**
+     * Apply a created or updated row to the index
+     *
+     * @param previous The slice the row belonged to before the change, or null for new rows
+     * @param current The saved row
+     */
+    public void onSaved(Slice previous, Stats current) {
+        boolean active = Boolean.TRUE.equals(current.getIsActive());
+        // A row that stays in its slice is replaced in place, newest version first,
+        // so concurrent saves of it cannot remove each other's entries
+        if (previous != null && (!active || !previous.equals(Slice.of(current)))) {
+            remove(current.getId(), current.getVersion(), previous);
+        }
+        if (active) {
+            add(current);
+        }
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * Remove a deleted or deactivated row from the index
+     */
+    public void onRemoved(Stats stats) {
+        remove(stats.getId(), stats.getVersion(), Slice.of(stats));
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * Get a counter that moves whenever a row is added, changed or removed, so
+     * pollers can tell whether leaderboards may have changed since they last looked
+     */
+    public long getModificationCount() {
+        return modifications.get();
+    }
+
+    /**
+     * Get index size and hit-rate counters
+     */
+    public IndexStats getIndexStats() {
+        long entries = buckets.values().stream().mapToLong(Bucket::size).sum();
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new IndexStats(ready.get(), buckets.size(), entries, hitCount, missCount,
+                total == 0 ? 0.0 : (double) hitCount / total);
+    }
+
+    private void add(Stats row) {
+        Slice slice = Slice.of(row);
+        Stats snapshot = copy(row);
+        for (StatColumn stat : StatColumn.values()) {
+            Entry entry = Entry.of(snapshot, stat);
+            bucket(new Key(slice.sport(), slice.division(), slice.season(), stat)).put(entry, capacity());
+            bucket(new Key(slice.sport(), slice.division(), ALL_SEASONS, stat)).put(entry, capacity());
+        }
+    }
+
+    private void remove(Long id, Long version, Slice slice) {
+        if (id == null) {
+            return;
+        }
+        long removed = version == null ? Long.MAX_VALUE : version;
+        for (StatColumn stat : StatColumn.values()) {
+            removeFrom(new Key(slice.sport(), slice.division(), slice.season(), stat), id, removed);
+            removeFrom(new Key(slice.sport(), slice.division(), ALL_SEASONS, stat), id, removed);
+        }
+    }
+
+    private void removeFrom(Key key, Long id, long version) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.remove(id, version);
+        }
+    }
+
+    private int capacity() {
+        return size * 2;
+    }
+
+    private Bucket bucket(Key key) {
+        return buckets.computeIfAbsent(key, k -> new Bucket());
+    }
+
+    /**
+     * Refill a bucket with its stat's best rows, followed by rows without the stat
+     */
+    private void reload(Key key, Bucket bucket) {
+        String season = ALL_SEASONS.equals(key.season()) ? null : key.season();
+        int limit = capacity();
+        bucket.startLoad();
+        List<Stats> rows;
+        try {
+            rows = new ArrayList<>(statsRepository.findLeaders(
+                    key.stat(), key.sport(), key.division(), season, limit, 0));
+            if (rows.size() < limit) {
+                rows.addAll(statsRepository.findUnrecorded(
+                        key.stat(), key.sport(), key.division(), season, limit - rows.size()));
+            }
+        } catch (RuntimeException e) {
+            bucket.finishLoad(List.of(), true, limit);
+            throw e;
+        }
+        List<Entry> loaded = new ArrayList<>(rows.size());
+        for (Stats row : rows) {
+            loaded.add(Entry.of(copy(row), key.stat()));
+        }
+        bucket.finishLoad(loaded, loaded.size() == limit, limit);
+    }
+
+    private static List<Stats> copies(List<Stats> rows) {
+        List<Stats> copies = new ArrayList<>(rows.size());
+        for (Stats row : rows) {
+            copies.add(copy(row));
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * Copy the columns of a row that leaderboards return
+     */
+    private static Stats copy(Stats row) {
+        Stats copy = new Stats(row.getPlayerName(), row.getTeamName(), row.getSchoolName(),
+                row.getSport(), row.getDivision(), row.getSeason());
+        copy.setId(row.getId());
+        for (StatColumn stat : StatColumn.values()) {
+            stat.set(copy, stat.get(row));
+        }
+        copy.setIsActive(row.getIsActive());
+        copy.setVersion(row.getVersion());
+        copy.setCreatedAt(row.getCreatedAt());
+        copy.setUpdatedAt(row.getUpdatedAt());
+        return copy;
+    }
+
+    /**
+     * Sport, division and season a row is filed under
+     */
+    public record Slice(String sport, String division, String season) {
+        public static Slice of(Stats stats) {
+            return new Slice(stats.getSport(), stats.getDivision(), stats.getSeason());
+        }
+    }
+
+    /**
+     * Snapshot of index size and hit-rate counters
+     */
+    public record IndexStats(boolean ready, int buckets, long entries, long hits, long misses, double hitRate) {}
+
+    private record Key(String sport, String division, String season, StatColumn stat) {}
+
+    /**
+     * Indexed row; rank is the stat's sort key, smaller is better and NaN when
+     * the stat was not recorded, and row is a copy no one else holds
+     */
+    private record Entry(long id, long version, double rank, Stats row) {
+
+        static Entry of(Stats snapshot, StatColumn stat) {
+            Long version = snapshot.getVersion();
+            return new Entry(snapshot.getId(), version == null ? Long.MIN_VALUE : version,
+                    stat.sortKey(snapshot), snapshot);
+        }
+
+        boolean isNewerThan(Entry other) {
+            return version > other.version();
+        }
+    }
+
+    /**
+     * Bounded sorted set of entries for a single leaderboard
+     */
+    private static final class Bucket {
+
+        private final TreeSet<Entry> entries = new TreeSet<>(ORDER);
+        private final Map<Long, Entry> byId = new HashMap<>();
+        // Newest version each row reached or was removed at while a reload was querying
+        private final Map<Long, Long> touched = new HashMap<>();
+        private int loads;
+        private boolean truncated;
+
+        synchronized void put(Entry entry, int capacity) {
+            if (loads > 0) {
+                touched.merge(entry.id(), entry.version(), Math::max);
+            }
+            Entry existing = byId.get(entry.id());
+            if (existing != null) {
+                // Concurrent writers can report their rows out of order; keep the newest
+                if (existing.isNewerThan(entry)) {
+                    return;
+                }
+                byId.remove(entry.id());
+                entries.remove(existing);
+            }
+            // Rows that were evicted earlier may outrank anything below the current tail
+            if (truncated && (entries.isEmpty() || ORDER.compare(entry, entries.last()) > 0)) {
+                return;
+            }
+            if (entries.size() >= capacity) {
+                Entry last = entries.last();
+                truncated = true;
+                if (ORDER.compare(entry, last) > 0) {
+                    return;
+                }
+                entries.pollLast();
+                byId.remove(last.id());
+            }
+            entries.add(entry);
+            byId.put(entry.id(), entry);
+        }
+
+        synchronized void remove(Long id, long version) {
+            if (loads > 0) {
+                touched.merge(id, version, Math::max);
+            }
+            Entry existing = byId.get(id);
+            // A removal reported late must not take out a version saved after it
+            if (existing != null && existing.version() <= version) {
+                byId.remove(id);
+                entries.remove(existing);
+            }
+        }
+
+        /**
+         * Start tracking the rows that change while a reload queries the repository
+         */
+        synchronized void startLoad() {
+            loads++;
+        }
+
+        /**
+         * Merge rows read by a reload, keeping whatever changed since the query ran
+         *
+         * @param loaded The stat's best rows in rank order, followed by rows without it
+         * @param partial Whether rows beyond the loaded ones may exist; with nothing
+         *        loaded, a failed reload that leaves the bucket as it was
+         */
+        synchronized void finishLoad(List<Entry> loaded, boolean partial, int capacity) {
+            for (Entry entry : loaded) {
+                Long seen = touched.get(entry.id());
+                if (seen != null && seen >= entry.version()) {
+                    continue;
+                }
+                Entry existing = byId.get(entry.id());
+                if (existing != null) {
+                    if (!entry.isNewerThan(existing)) {
+                        continue;
+                    }
+                    entries.remove(existing);
+                }
+                entries.add(entry);
+                byId.put(entry.id(), entry);
+            }
+            if (partial && !loaded.isEmpty()) {
+                // Rows ranked past the last one loaded were not read, so the bucket ends there
+                Entry cutoff = loaded.get(loaded.size() - 1);
+                while (!entries.isEmpty() && ORDER.compare(entries.last(), cutoff) > 0) {
+                    byId.remove(entries.pollLast().id());
+                }
+            }
+            while (entries.size() > capacity) {
+                byId.remove(entries.pollLast().id());
+                partial = true;
+            }
+            truncated = partial;
+            if (--loads == 0) {
+                touched.clear();
+            }
+        }
+
+        /**
+         * Returns the indexed copies, or empty when rows outside the bucket may belong in the top results
+         */
+        synchronized Optional<List<Stats>> top(int limit) {
+            if (truncated && entries.size() < limit) {
+                return Optional.empty();
+            }
+            List<Stats> top = new ArrayList<>(Math.min(limit, entries.size()));
+            for (Entry entry : entries) {
+                if (top.size() == limit) {
+                    break;
+                }
+                top.add(entry.row());
+            }
+            return Optional.of(top);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.entity.StatColumn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes leaderboard changes to SSE subscribers
+ *
+ * Each distinct leaderboard being watched is one hub topic. Every
+ * hub.leaders.publish-interval-ms, if the leaderboard index has changed, each
+ * watched leaderboard is queried once and published only when its content
+ * differs from the last frame, however many clients are watching it.
+ *
+ * @author NEPA Football Team
+ */
+@Service
+public class LeaderboardStream {
+
+    private static final String EVENT = "leaders";
+
+    @Autowired
+    private BroadcastHub broadcastHub;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private LeaderboardIndex leaderboardIndex;
+
+    private final Map<String, Watched> watched = new ConcurrentHashMap<>();
+    // Guards watched and publishedModifications; not a monitor, as encoding a
+    // leaderboard may query the database and would pin a virtual thread
+    private final Lock lock = new ReentrantLock();
+    private long publishedModifications = -1;
+
+    /**
+     * Open a stream of one leaderboard
+     *
+     * @param stat Stat key, e.g. "rushingYards"
+     * @param sport Optional sport filter
+     * @param division Optional division filter
+     * @param season Optional season filter
+     * @param limit Rows per leaderboard
+     * @throws IllegalArgumentException if the stat is unknown
+     * @throws IllegalStateException if the hub is full
+     */
+    public ResponseBodyEmitter subscribe(String stat, String sport, String division, String season, int limit) {
+        StatColumn column = StatColumn.fromKey(stat)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown stat: " + stat));
+        Query query = new Query(column.getAttribute(), sport, division, season,
+                Math.max(1, Math.min(limit, StatsService.MAX_LEADERS_LIMIT)));
+        lock.lock();
+        try {
+            Watched current = watched.get(query.topic());
+            if (current == null) {
+                current = new Watched(query, encode(query));
+                watched.put(query.topic(), current);
+            }
+            return broadcastHub.subscribe(query.topic(), current.frame());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Publish every watched leaderboard whose rows changed
+     */
+    @Scheduled(fixedDelayString = "${hub.leaders.publish-interval-ms:1000}")
+    public void publishChanges() {
+        lock.lock();
+        try {
+            publishChangedLeaderboards();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publishChangedLeaderboards() {
+        long modifications = leaderboardIndex.getModificationCount();
+        watched.keySet().retainAll(broadcastHub.getTopics());
+        if (modifications == publishedModifications) {
+            return;
+        }
+        publishedModifications = modifications;
+        for (Map.Entry<String, Watched> entry : watched.entrySet()) {
+            Watched previous = entry.getValue();
+            BroadcastHub.Frame frame = encode(previous.query());
+            if (!Arrays.equals(frame.bytes(), previous.frame().bytes())) {
+                entry.setValue(new Watched(previous.query(), frame));
+                broadcastHub.publish(entry.getKey(), frame);
+            }
+        }
+    }
+
+    private BroadcastHub.Frame encode(Query query) {
+        return broadcastHub.encode(EVENT, statsService.getLeaders(query.stat(), query.sport(), query.division(),
+                query.season(), query.limit(), 0), true);
+    }
+
+    private record Query(String stat, String sport, String division, String season, int limit) {
+        String topic() {
+            return "leaders/" + stat + "/" + sport + "/" + division + "/" + season + "/" + limit;
+        }
+    }
+
+    private record Watched(Query query, BroadcastHub.Frame frame) {}
+}
@@ -0,0 +1,686 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.dto.ClockTick;
+import com.nepafootball.broadcast.dto.Scoreboard;
+import com.nepafootball.broadcast.entity.Game;
+import com.nepafootball.broadcast.entity.GameEvent;
+import com.nepafootball.broadcast.entity.GameSnapshot;
+import com.nepafootball.broadcast.entity.GameSnapshot.Status;
+import com.nepafootball.broadcast.repository.GameEventRepository;
+import com.nepafootball.broadcast.repository.GameRepository;
+import com.nepafootball.broadcast.repository.GameSnapshotRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Live scoreboards kept in memory and backed by an append-only play log
+ *
+ * Recording an event applies it to the game's in-memory scoreboard under the
+ * game's own lock, which also assigns the next sequence number, and queues it
+ * for the flusher; the map only ever has the new scoreboard swapped in, so one
+ * game's work never holds up another's. Every live.events.flush-interval-ms the
+ * flusher writes the queued events in one transaction, together with a snapshot
+ * of each game that has gone live.snapshot.every events without one or has just
+ * finished. A game is loaded on first use from its snapshot plus the events
+ * after it, outside any lock so the queries never block other games; unfinished
+ * games are loaded at startup so reads of live games never touch the database.
+ *
+ * Each event is also pushed to the game's SSE subscribers as a "play" frame
+ * followed by a coalescing "scoreboard" frame. These are encoded and published
+ * after the game's lock is released, from a per-game outbox that one thread
+ * drains at a time, so subscribers see a game's frames in sequence order. The
+ * game's overlay frame is re-rendered there too, so overlay polls only copy
+ * bytes, and scores are queued for followers' alerts.
+ *
+ * Running clocks are driven by one hashed timer wheel rather than a task per
+ * game. When a clock reaches zero the wheel records a CLOCK_STOP and, with
+ * live.clock.auto-period-end, a PERIOD_END. Every live.clock.publish-interval-ms
+ * the time left on every running clock is published as one "clocks" frame.
+ *
+ * Events are acknowledged before they are written, so a crash can lose up to one
+ * flush interval of events. A failed flush is retried on the next run, and the
+ * queue is drained when the application shuts down. If the database rejects the
+ * batch itself, the events are written one at a time and any it rejects are
+ * logged and set aside, so one bad event cannot hold back the rest.
+ *
+ * @author NEPA Football Team
+ */
+@Service
+public class LiveGameService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveGameService.class);
+
+    private static final String CLOCKS_TOPIC = "clocks";
+    private static final String CLOCK_EXPIRED = "Clock expired";
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameEventRepository gameEventRepository;
+
+    @Autowired
+    private GameSnapshotRepository gameSnapshotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BroadcastHub broadcastHub;
+
+    @Autowired
+    private OverlayFeed overlayFeed;
+
+    @Autowired
+    private ScoreAlertService scoreAlertService;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${live.snapshot.every:50}")
+    private int snapshotEvery;
+
+    @Value("${live.clock.tick-ms:100}")
+    private long clockTickMillis;
+
+    @Value("${live.clock.wheel-size:512}")
+    private int clockWheelSize;
+
+    @Value("${live.clock.publish-interval-ms:1000}")
+    private long clockPublishMillis;
+
+    @Value("${live.clock.auto-period-end:true}")
+    private boolean autoPeriodEnd;
+
+    private final Map<Long, Scoreboard> scoreboards = new ConcurrentHashMap<>();
+    // Created with the game's scoreboard and never removed, like it
+    private final Map<Long, GameFeed> feeds = new ConcurrentHashMap<>();
+    // Games being loaded outside the map's lock, so concurrent requests share one load
+    private final Map<Long, CompletableFuture<Scoreboard>> loads = new ConcurrentHashMap<>();
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    // Owned by the flusher; a lock rather than a monitor, as flushing blocks on JDBC
+    // and would pin a virtual thread to its carrier
+    private final Lock flushLock = new ReentrantLock();
+    private final List<Pending> unflushed = new ArrayList<>();
+    private final Map<Long, Long> snapshotted = new ConcurrentHashMap<>();
+    // Expiry timer of every running clock, replaced under the game's lock
+    private final Map<Long, TimerWheel.Timeout> clockExpiries = new ConcurrentHashMap<>();
+    private TimerWheel clockWheel;
+
+    @PostConstruct
+    void startClocks() {
+        clockWheel = new TimerWheel(clockTickMillis, clockWheelSize);
+        clockWheel.scheduleAtFixedRate(this::publishClocks, clockPublishMillis);
+        clockWheel.start("game-clocks");
+    }
+
+    /**
+     * Get the current scoreboard of a game
+     *
+     * @return The scoreboard, or empty if the game does not exist
+     */
+    public Optional<Scoreboard> getScoreboard(Long gameId) {
+        return Optional.ofNullable(scoreboard(gameId));
+    }
+
+    /**
+     * Get the pre-rendered overlay frame of a game
+     *
+     * @return A shared read-only buffer, see {@link OverlayFeed}, or empty if the game does not exist
+     */
+    public Optional<ByteBuffer> getOverlay(Long gameId) {
+        ByteBuffer frame = overlayFeed.get(gameId);
+        if (frame != null) {
+            return Optional.of(frame);
+        }
+        return getScoreboard(gameId).map(overlayFeed::update);
+    }
+
+    /**
+     * Get the scoreboards of every game in progress
+     */
+    public List<Scoreboard> getLiveScoreboards() {
+        return scoreboards.values().stream()
+                .filter(scoreboard -> scoreboard.status() == Status.LIVE)
+                .sorted(Comparator.comparingLong(Scoreboard::gameId))
+                .toList();
+    }
+
+    /**
+     * Append an event to a game's play log
+     *
+     * @param gameId The game ID
+     * @param event The event; its game, sequence and time are assigned here
+     * @return The scoreboard after the event, or empty if the game does not exist
+     * @throws IllegalArgumentException if the event is missing a required field or a field is invalid
+     * @throws IllegalStateException if the event cannot happen in the game's current state
+     */
+    public Optional<Scoreboard> recordEvent(Long gameId, GameEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event type is required");
+        }
+        // Checked before the event is queued; an event the database would reject must never be acknowledged
+        Set<ConstraintViolation<GameEvent>> violations = validator.validate(event);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return Optional.ofNullable(append(gameId, event, scoreboard -> true));
+    }
+
+    /**
+     * Open an SSE stream of the time left on every running clock, starting with the current times
+     *
+     * @throws IllegalStateException if the hub is full
+     */
+    public ResponseBodyEmitter subscribeClocks() {
+        return broadcastHub.subscribe(CLOCKS_TOPIC, encodeClocks());
+    }
+
+    /**
+     * Publish the time left on every running clock as one frame
+     */
+    public void publishClocks() {
+        if (broadcastHub.hasSubscribers(CLOCKS_TOPIC)) {
+            broadcastHub.publish(CLOCKS_TOPIC, encodeClocks());
+        }
+    }
+
+    private BroadcastHub.Frame encodeClocks() {
+        Instant now = Instant.now();
+        List<ClockTick> ticks = new ArrayList<>(clockExpiries.size());
+        for (Long gameId : clockExpiries.keySet()) {
+            Scoreboard scoreboard = scoreboards.get(gameId);
+            if (scoreboard != null && scoreboard.isClockRunning()) {
+                ticks.add(ClockTick.of(scoreboard, now));
+            }
+        }
+        ticks.sort(Comparator.comparingLong(ClockTick::gameId));
+        return broadcastHub.encode("clocks", ticks, true);
+    }
+
+    /**
+     * Apply an event under the game's lock if the game is in the expected state
+     *
+     * @return The scoreboard after the event, or null if the game does not exist or was not in the expected state
+     */
+    private Scoreboard append(Long gameId, GameEvent event, Predicate<Scoreboard> expected) {
+        if (scoreboard(gameId) == null) {
+            return null;
+        }
+        // Scoreboards are never removed, so the game and its feed are still present
+        GameFeed feed = feeds.get(gameId);
+        Scoreboard next;
+        feed.lock.lock();
+        try {
+            Scoreboard scoreboard = scoreboards.get(gameId);
+            if (!expected.test(scoreboard)) {
+                return null;
+            }
+            event.setId(null);
+            event.setGameId(gameId);
+            event.setSequence(scoreboard.lastSequence() + 1);
+            // Stored timestamps keep microseconds; replayed clocks must match the live ones
+            event.setOccurredAt(Instant.now().truncatedTo(ChronoUnit.MICROS));
+            next = scoreboard.apply(event);
+            scoreboards.put(gameId, next);
+            queue.add(new Pending(event, next));
+            trackClock(scoreboard, next);
+            Scoreboard state = next;
+            feed.outbox.add(() -> publish(feed, event, state));
+        } finally {
+            feed.lock.unlock();
+        }
+        feed.drain();
+        return next;
+    }
+
+    /**
+     * Render, push and alert one event; run by the game's outbox in sequence order
+     */
+    private void publish(GameFeed feed, GameEvent event, Scoreboard next) {
+        feed.published = next;
+        overlayFeed.update(next);
+        String topic = topic(next.gameId());
+        if (broadcastHub.hasSubscribers(topic)) {
+            broadcastHub.publish(topic, broadcastHub.encode("play", event, false));
+            broadcastHub.publish(topic, broadcastHub.encode("scoreboard", next, true));
+        }
+        scoreAlertService.publish(event, next);
+    }
+
+    /**
+     * Schedule, move or cancel a game's clock expiry after its clock changed; called under the game's lock
+     */
+    private void trackClock(Scoreboard previous, Scoreboard next) {
+        if (previous != null && previous.clockMillis() == next.clockMillis()
+                && Objects.equals(previous.clockStartedAt(), next.clockStartedAt())) {
+            return;
+        }
+        TimerWheel.Timeout replaced;
+        if (next.isClockRunning()) {
+            Instant startedAt = next.clockStartedAt();
+            long clockMillis = next.clockMillis();
+            long delay = Duration.between(Instant.now(), startedAt.plusMillis(clockMillis)).toMillis();
+            replaced = clockExpiries.put(next.gameId(),
+                    clockWheel.schedule(() -> expireClock(next.gameId(), startedAt, clockMillis), delay));
+        } else {
+            replaced = clockExpiries.remove(next.gameId());
+        }
+        if (replaced != null) {
+            replaced.cancel();
+        }
+    }
+
+    /**
+     * Stop a clock that has run out and, with live.clock.auto-period-end, end the period
+     */
+    private void expireClock(Long gameId, Instant startedAt, long clockMillis) {
+        Predicate<Scoreboard> unchanged = scoreboard -> startedAt.equals(scoreboard.clockStartedAt())
+                && scoreboard.clockMillis() == clockMillis;
+        GameEvent stop = new GameEvent(GameEvent.Type.CLOCK_STOP, null, null);
+        stop.setNote(CLOCK_EXPIRED);
+        // Checked at a time no later than the event's own, so the stop leaves exactly zero
+        Scoreboard stopped = append(gameId, stop, unchanged.and(scoreboard ->
+                scoreboard.clockMillisAt(Instant.now().truncatedTo(ChronoUnit.MILLIS)) == 0));
+        if (stopped == null) {
+            // Fired before the wall clock reached zero; try again when it does
+            GameFeed feed = feeds.get(gameId);
+            feed.lock.lock();
+            try {
+                Scoreboard scoreboard = scoreboards.get(gameId);
+                if (unchanged.test(scoreboard)) {
+                    trackClock(null, scoreboard);
+                }
+            } finally {
+                feed.lock.unlock();
+            }
+            return;
+        }
+        if (autoPeriodEnd && Scoreboard.periodMillis(stopped.sport()) > 0) {
+            GameEvent end = new GameEvent(GameEvent.Type.PERIOD_END, null, null);
+            end.setNote(CLOCK_EXPIRED);
+            append(gameId, end, scoreboard -> scoreboard.lastSequence() == stopped.lastSequence());
+        }
+    }
+
+    /**
+     * Open an SSE stream of a game's events and scoreboard, starting with the current scoreboard
+     *
+     * @return The stream, or empty if the game does not exist
+     * @throws IllegalStateException if the hub is full
+     */
+    public Optional<ResponseBodyEmitter> subscribe(Long gameId) {
+        if (getScoreboard(gameId).isEmpty()) {
+            return Optional.empty();
+        }
+        // Through the outbox, so the initial frame is the state of the last event published before it
+        GameFeed feed = feeds.get(gameId);
+        CompletableFuture<ResponseBodyEmitter> emitter = new CompletableFuture<>();
+        feed.outbox.add(() -> {
+            try {
+                emitter.complete(broadcastHub.subscribe(topic(gameId),
+                        broadcastHub.encode("scoreboard", feed.published, true)));
+            } catch (RuntimeException e) {
+                emitter.completeExceptionally(e);
+            }
+        });
+        feed.drain();
+        try {
+            return Optional.of(emitter.join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Write queued events and due snapshots in one transaction
+     */
+    @Scheduled(fixedDelayString = "${live.events.flush-interval-ms:250}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        for (Pending pending; (pending = queue.poll()) != null; ) {
+            unflushed.add(pending);
+        }
+        if (unflushed.isEmpty()) {
+            return;
+        }
+        // The queue is filled under each game's lock, so each game's events are in sequence order
+        Map<Long, Scoreboard> latest = new LinkedHashMap<>();
+        List<GameEvent> events = new ArrayList<>(unflushed.size());
+        for (Pending pending : unflushed) {
+            events.add(pending.event());
+            latest.put(pending.event().getGameId(), pending.state());
+        }
+        List<GameSnapshot> snapshots = latest.values().stream()
+                .filter(state -> state.status() == Status.FINAL
+                        || state.lastSequence() - snapshotted.getOrDefault(state.gameId(), 0L) >= snapshotEvery)
+                .map(LiveGameService::toSnapshot)
+                .toList();
+        try {
+            write(events, snapshots);
+        } catch (RuntimeException e) {
+            if (!isRejected(e)) {
+                log.warn("Could not write {} game events; retrying on the next flush", events.size(), e);
+                return;
+            }
+            log.warn("Game events were rejected; writing {} events one at a time", events.size(), e);
+            if (!writeSeparately()) {
+                return;
+            }
+            try {
+                write(List.of(), snapshots);
+            } catch (RuntimeException snapshotFailure) {
+                // Snapshots only shorten replay; the events they cover are already written
+                log.warn("Could not write {} game snapshots", snapshots.size(), snapshotFailure);
+                return;
+            }
+        }
+        for (GameSnapshot snapshot : snapshots) {
+            snapshotted.put(snapshot.getGameId(), snapshot.getLastSequence());
+        }
+        unflushed.clear();
+    }
+
+    /**
+     * Write the unflushed events in a transaction each, setting aside those the database rejects
+     *
+     * @return Whether every event was written or set aside; false if the database failed
+     *         for another reason and the rest must wait for the next flush
+     */
+    private boolean writeSeparately() {
+        for (Iterator<Pending> pending = unflushed.iterator(); pending.hasNext(); ) {
+            GameEvent event = pending.next().event();
+            try {
+                write(List.of(event), List.of());
+            } catch (RuntimeException e) {
+                if (!isRejected(e)) {
+                    log.warn("Could not write game events; retrying {} on the next flush", unflushed.size(), e);
+                    return false;
+                }
+                log.error("Setting aside event {} of game {} ({}): {}",
+                        event.getSequence(), event.getGameId(), event.getType(),
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+            pending.remove();
+        }
+        return true;
+    }
+
+    private void write(List<GameEvent> events, List<GameSnapshot> snapshots) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                gameEventRepository.saveAll(events);
+                gameSnapshotRepository.saveAll(snapshots);
+            });
+        } catch (RuntimeException e) {
+            // A failed persist may have assigned ids that were never written
+            events.forEach(event -> event.setId(null));
+            throw e;
+        }
+    }
+
+    /**
+     * Whether the database refused the data itself, so retrying the same write cannot succeed
+     */
+    private static boolean isRejected(RuntimeException e) {
+        // Validation on flush surfaces at commit, wrapped in a TransactionSystemException
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException || cause instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write whatever is still queued before the application stops
+     */
+    @PreDestroy
+    public void drain() throws InterruptedException {
+        // No clock may record an event after the last flush
+        clockWheel.stop();
+        flush();
+        if (!unflushed.isEmpty()) {
+            log.error("{} game events could not be written before shutdown", unflushed.size());
+        }
+    }
+
+    /**
+     * Load every unfinished game from its snapshot and the events after it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        Map<Long, Scoreboard> loaded = new LinkedHashMap<>();
+        for (GameSnapshot snapshot : gameSnapshotRepository.findByStatusNot(Status.FINAL)) {
+            loaded.put(snapshot.getGameId(), fromSnapshot(snapshot));
+            snapshotted.put(snapshot.getGameId(), snapshot.getLastSequence());
+        }
+        List<GameEvent> tail = gameEventRepository.findUnsnapshottedEvents(Status.FINAL);
+        List<Long> unsnapshotted = tail.stream()
+                .map(GameEvent::getGameId)
+                .filter(id -> !loaded.containsKey(id))
+                .distinct()
+                .toList();
+        for (Game game : gameRepository.findAllById(unsnapshotted)) {
+            loaded.put(game.getId(), Scoreboard.scheduled(game.getId(), game.getSport()));
+        }
+        for (GameEvent event : tail) {
+            loaded.computeIfPresent(event.getGameId(), (id, scoreboard) -> replay(scoreboard, event));
+        }
+        // Games touched by requests while this ran are already current
+        loaded.forEach(this::publishLoaded);
+        log.info("Live scoreboards rebuilt for {} games from {} logged events in {} ms",
+                loaded.size(), tail.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Get a game's scoreboard, loading it on first use
+     *
+     * The load runs outside any lock, which would otherwise be held across the
+     * queries and block every game hashed to the same bin. Requests that find
+     * the game already loading wait for that load instead of starting their own.
+     *
+     * @return The scoreboard, or null if the game does not exist
+     */
+    private Scoreboard scoreboard(Long gameId) {
+        Scoreboard current = scoreboards.get(gameId);
+        if (current != null) {
+            return current;
+        }
+        CompletableFuture<Scoreboard> loading = new CompletableFuture<>();
+        CompletableFuture<Scoreboard> inFlight = loads.putIfAbsent(gameId, loading);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            // Published by a load that finished between the first check and putIfAbsent
+            current = scoreboards.get(gameId);
+            Scoreboard loaded = current != null ? current : load(gameId);
+            Scoreboard published = loaded == null ? null : publishLoaded(gameId, loaded);
+            loading.complete(published);
+            return published;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(gameId, loading);
+        }
+    }
+
+    /**
+     * Make a loaded scoreboard current unless the game is already present
+     *
+     * @return The game's current scoreboard
+     */
+    private Scoreboard publishLoaded(Long gameId, Scoreboard loaded) {
+        GameFeed feed = feeds.computeIfAbsent(gameId, id -> new GameFeed());
+        feed.lock.lock();
+        try {
+            Scoreboard existing = scoreboards.get(gameId);
+            if (existing != null) {
+                return existing;
+            }
+            feed.published = loaded;
+            scoreboards.put(gameId, loaded);
+            trackClock(null, loaded);
+            return loaded;
+        } finally {
+            feed.lock.unlock();
+        }
+    }
+
+    /**
+     * Read a game's scoreboard from its snapshot and log, or null if the game does not exist
+     */
+    private Scoreboard load(Long gameId) {
+        Scoreboard scoreboard = gameSnapshotRepository.findById(gameId)
+                .map(LiveGameService::fromSnapshot)
+                .or(() -> gameRepository.findById(gameId).map(game -> Scoreboard.scheduled(gameId, game.getSport())))
+                .orElse(null);
+        if (scoreboard == null) {
+            return null;
+        }
+        snapshotted.putIfAbsent(gameId, scoreboard.lastSequence());
+        if (scoreboard.status() == Status.FINAL) {
+            return scoreboard;
+        }
+        for (GameEvent event : gameEventRepository
+                .findByGameIdAndSequenceGreaterThanOrderBySequenceAsc(gameId, scoreboard.lastSequence())) {
+            scoreboard = replay(scoreboard, event);
+        }
+        return scoreboard;
+    }
+
+    private static String topic(Long gameId) {
+        return "game/" + gameId;
+    }
+
+    private static Scoreboard replay(Scoreboard scoreboard, GameEvent event) {
+        try {
+            return scoreboard.apply(event);
+        } catch (RuntimeException e) {
+            log.warn("Skipping logged event {} of game {}: {}", event.getSequence(), event.getGameId(), e.getMessage());
+            return scoreboard;
+        }
+    }
+
+    private static GameSnapshot toSnapshot(Scoreboard scoreboard) {
+        GameSnapshot snapshot = new GameSnapshot();
+        snapshot.setGameId(scoreboard.gameId());
+        snapshot.setLastSequence(scoreboard.lastSequence());
+        snapshot.setSport(scoreboard.sport());
+        snapshot.setStatus(scoreboard.status());
+        snapshot.setPeriod(scoreboard.period());
+        snapshot.setHomeScore(scoreboard.homeScore());
+        snapshot.setAwayScore(scoreboard.awayScore());
+        snapshot.setPossession(scoreboard.possession());
+        snapshot.setClockMillis(scoreboard.clockMillis());
+        snapshot.setClockStartedAt(scoreboard.clockStartedAt());
+        snapshot.setUpdatedAt(scoreboard.updatedAt());
+        return snapshot;
+    }
+
+    private static Scoreboard fromSnapshot(GameSnapshot snapshot) {
+        return new Scoreboard(snapshot.getGameId(), snapshot.getSport(), snapshot.getStatus(), snapshot.getPeriod(),
+                snapshot.getHomeScore(), snapshot.getAwayScore(), snapshot.getPossession(), snapshot.getClockMillis(),
+                snapshot.getClockStartedAt(), snapshot.getLastSequence(), snapshot.getUpdatedAt());
+    }
+
+    /**
+     * An acknowledged event and the scoreboard it produced
+     */
+    private record Pending(GameEvent event, Scoreboard state) {}
+
+    /**
+     * Sequencing state of one game
+     *
+     * The lock orders the game's events. The outbox holds what they publish, in
+     * the same order, and is drained by one thread at a time outside the lock.
+     */
+    private static final class GameFeed {
+
+        // A lock rather than a monitor, as clock scheduling may run on a virtual thread
+        private final Lock lock = new ReentrantLock();
+        private final Queue<Runnable> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // The scoreboard last handed to subscribers and the overlay
+        private volatile Scoreboard published;
+
+        /**
+         * Run what is queued unless another thread already is; that thread then runs it
+         */
+        void drain() {
+            do {
+                if (!draining.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    for (Runnable next; (next = outbox.poll()) != null; ) {
+                        try {
+                            next.run();
+                        } catch (RuntimeException e) {
+                            log.warn("Could not publish a live game update", e);
+                        }
+                    }
+                } finally {
+                    draining.set(false);
+                }
+            } while (!outbox.isEmpty());
+        }
+    }
+}
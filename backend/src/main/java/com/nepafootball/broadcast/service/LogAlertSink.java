@@ -0,0 +1,27 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.dto.AlertDelivery;
+import com.nepafootball.broadcast.dto.ScoreAlert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Alert sink that only logs each delivery; the default when no other sink is configured
+ *
+ * @author NEPA Football Team
+ */
+public class LogAlertSink implements AlertSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LogAlertSink.class);
+
+    @Override
+    public void deliver(List<AlertDelivery> batch) {
+        for (AlertDelivery delivery : batch) {
+            ScoreAlert alert = delivery.alert();
+            log.info("{} alert for game {}: {} {} - {} {} to {} users", alert.type(), alert.gameId(),
+                    alert.homeTeam(), alert.homeScore(), alert.awayScore(), alert.awayTeam(), delivery.userIds().length);
+        }
+    }
+}
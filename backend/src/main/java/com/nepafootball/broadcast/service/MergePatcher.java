@@ -0,0 +1,73 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies RFC 7396 JSON merge patches to managed entities
+ *
+ * Members present in the patch overwrite the entity's properties, null members
+ * clear them, and absent members are left alone. Arrays replace the whole
+ * collection. Ids, versions and audit timestamps cannot be patched and are ignored.
+ * Combined with {@code @DynamicUpdate}, only the changed columns are written
+ * when the transaction flushes.
+ *
+ * @author NEPA Football Team
+ */
+@Component
+public class MergePatcher {
+
+    /**
+     * Media type of a JSON merge patch body
+     */
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final Set<String> PROTECTED = Set.of("id", "version", "createdAt", "updatedAt");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    /**
+     * Merge a patch into an entity and validate the result
+     *
+     * @param target The entity to modify in place
+     * @param patch The merge patch; must be a JSON object
+     * @throws IllegalArgumentException if the patch is not an object, names an unknown
+     *         property, has a value of the wrong type, or leaves the entity invalid
+     */
+    public <T> T apply(T target, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        ObjectNode members = ((ObjectNode) patch).deepCopy();
+        members.remove(PROTECTED);
+        try {
+            objectMapper.readerForUpdating(target)
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(members);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid merge patch: " + e.getMessage(), e);
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(target);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return target;
+    }
+}
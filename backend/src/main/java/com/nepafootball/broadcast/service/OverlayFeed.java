@@ -0,0 +1,113 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.dto.Scoreboard;
+import org.apache.catalina.connector.CoyoteOutputStream;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-rendered scoreboard frames for broadcast graphics machines
+ *
+ * Each game's scoreboard is rendered once per change into a read-only direct
+ * buffer that replaces the previous one atomically, so a poll only copies those
+ * bytes to the socket. Every frame is one line of JSON with the same length and
+ * field offsets; values are right-aligned with spaces, which JSON allows around
+ * tokens:
+ *
+ * {"gameId":..,"seq":..,"status":"LIVE"..,"period":..,"home":..,"away":..,
+ *  "possession":"HOME"..,"clockMs":..,"clockRunning":true ,"clockStartedAt":..,"updatedAt":..}
+ *
+ * While the clock runs, clockMs is the time left at clockStartedAt (epoch
+ * milliseconds), so graphics count it down locally.
+ *
+ * @author NEPA Football Team
+ */
+@Component
+public class OverlayFeed {
+
+    private final Map<Long, Rendered> frames = new ConcurrentHashMap<>();
+
+    /**
+     * Get the current frame of a game
+     *
+     * @return A read-only buffer shared by every caller; duplicate it before moving its position,
+     *         or null if the game has not been rendered
+     */
+    public ByteBuffer get(Long gameId) {
+        Rendered rendered = frames.get(gameId);
+        return rendered != null ? rendered.frame() : null;
+    }
+
+    /**
+     * Render a scoreboard unless a later state of the game has already been rendered
+     *
+     * @return The game's current frame
+     */
+    public ByteBuffer update(Scoreboard scoreboard) {
+        return frames.compute(scoreboard.gameId(), (id, current) ->
+                current != null && current.sequence() > scoreboard.lastSequence()
+                        ? current
+                        : new Rendered(scoreboard.lastSequence(), render(scoreboard))).frame();
+    }
+
+    /**
+     * Write a frame to a response body
+     *
+     * Tomcat copies a buffer straight into its socket buffer; other containers go
+     * through a channel adapter.
+     */
+    public static void write(ByteBuffer frame, OutputStream out) throws IOException {
+        ByteBuffer view = frame.duplicate();
+        if (out instanceof CoyoteOutputStream coyote) {
+            coyote.write(view);
+        } else {
+            Channels.newChannel(out).write(view);
+        }
+    }
+
+    static ByteBuffer render(Scoreboard scoreboard) {
+        String json = "{\"gameId\":" + pad(Long.toString(scoreboard.gameId()), 19)
+                + ",\"seq\":" + pad(Long.toString(scoreboard.lastSequence()), 19)
+                + ",\"status\":" + padRight(quote(scoreboard.status().name()), 11)
+                + ",\"period\":" + pad(Integer.toString(scoreboard.period()), 3)
+                + ",\"home\":" + pad(Integer.toString(scoreboard.homeScore()), 5)
+                + ",\"away\":" + pad(Integer.toString(scoreboard.awayScore()), 5)
+                + ",\"possession\":" + padRight(scoreboard.possession() != null
+                        ? quote(scoreboard.possession().name()) : "null", 6)
+                + ",\"clockMs\":" + pad(Long.toString(scoreboard.clockMillis()), 13)
+                + ",\"clockRunning\":" + padRight(Boolean.toString(scoreboard.clockStartedAt() != null), 5)
+                + ",\"clockStartedAt\":" + pad(epochMillis(scoreboard.clockStartedAt()), 13)
+                + ",\"updatedAt\":" + pad(epochMillis(scoreboard.updatedAt()), 13)
+                + "}\n";
+        byte[] bytes = json.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer frame = ByteBuffer.allocateDirect(bytes.length);
+        frame.put(bytes).flip();
+        return frame.asReadOnlyBuffer();
+    }
+
+    private static String epochMillis(Instant instant) {
+        return instant != null ? Long.toString(instant.toEpochMilli()) : "null";
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static String pad(String value, int width) {
+        return " ".repeat(Math.max(0, width - value.length())) + value;
+    }
+
+    private static String padRight(String value, int width) {
+        return value + " ".repeat(Math.max(0, width - value.length()));
+    }
+
+    private record Rendered(long sequence, ByteBuffer frame) {}
+}
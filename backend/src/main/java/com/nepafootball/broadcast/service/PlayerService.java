@@ -1,12 +1,24 @@
 package com.nepafootball.broadcast.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.Cursor;
+import com.nepafootball.broadcast.dto.CursorPage;
+import com.nepafootball.broadcast.dto.RosterSyncResult;
 import com.nepafootball.broadcast.entity.Player;
 import com.nepafootball.broadcast.repository.PlayerRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Player entity operations
@@ -21,6 +33,15 @@ public class PlayerService {
     @Autowired
     private PlayerRepository playerRepository;
     
+    @Autowired
+    private MergePatcher mergePatcher;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private Validator validator;
+    
     /**
      * Get all players
      * 
@@ -65,12 +86,15 @@ public class PlayerService {
      * 
      * @param id The player ID
      * @param player The updated player data
+     * @param expectedVersion Version from If-Match, or null for an unconditional update
      * @return The updated player
      * @throws RuntimeException if player not found
+     * @throws PreconditionFailedException if expectedVersion is not the current version
      */
-    public Player updatePlayer(Long id, Player player) {
+    public Player updatePlayer(Long id, Player player, Long expectedVersion) {
         Player existingPlayer = playerRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Player not found with id: " + id));
+        PreconditionFailedException.check(expectedVersion, existingPlayer.getVersion());
         
         existingPlayer.setName(player.getName());
         existingPlayer.setNumber(player.getNumber());
@@ -79,11 +103,32 @@ public class PlayerService {
         existingPlayer.setHeight(player.getHeight());
         existingPlayer.setWeight(player.getWeight());
         existingPlayer.setSport(player.getSport());
+        existingPlayer.setTeamName(player.getTeamName());
         existingPlayer.setIsActive(player.getIsActive());
         
         return playerRepository.save(existingPlayer);
     }
     
+    /**
+     * Apply a JSON merge patch; only the changed columns are written
+     * 
+     * @param id The player ID
+     * @param patch RFC 7396 merge patch
+     * @param expectedVersion Version from If-Match, or null for an unconditional update
+     * @return The patched player
+     * @throws IllegalArgumentException if the patch is malformed or leaves the player invalid
+     * @throws RuntimeException if player not found
+     * @throws PreconditionFailedException if expectedVersion is not the current version
+     */
+    @Transactional
+    public Player patchPlayer(Long id, JsonNode patch, Long expectedVersion) {
+        Player existingPlayer = playerRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Player not found with id: " + id));
+        PreconditionFailedException.check(expectedVersion, existingPlayer.getVersion());
+        
+        return playerRepository.save(mergePatcher.apply(existingPlayer, patch));
+    }
+    
     /**
      * Delete a player (soft delete by setting isActive to false)
      * 
@@ -147,4 +192,74 @@ public class PlayerService {
     public List<Player> searchPlayersByName(String name) {
         return playerRepository.findByNameContainingIgnoreCase(name);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Get a page of players using keyset pagination
+     * 
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of players on the page
+     * @return The page of players and the cursor for the next page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public CursorPage<Player> getPlayersPage(String after, int limit) {
+        int size = CursorPage.boundedLimit(limit);
+        List<Player> rows;
+        if (after == null) {
+            rows = playerRepository.findPage(Limit.of(size + 1));
+        } else {
+            Cursor cursor = Cursor.decode(after);
+            rows = playerRepository.findPageAfter(cursor.key(), cursor.id(), Limit.of(size + 1));
+        }
+        return CursorPage.of(rows, size, player -> new Cursor(player.getName(), player.getId()));
+    }
+    
+    /**
+     * Get the active players on a team roster
+     * 
+     * @param teamName The team the roster belongs to
+     * @param sport The sport of the roster
+     * @return Active roster players ordered by name
+     */
+    public List<Player> getRoster(String teamName, String sport) {
+        return playerRepository.findByTeamNameAndSportAndIsActiveTrueOrderByName(teamName, sport);
+    }
+    
+    /**
+     * Replace a team roster with the submitted players
+     * 
+     * Players are matched by name: new names are inserted, existing ones updated
+     * and reactivated, and active players left off the roster are deactivated.
+     * The whole roster is applied atomically.
+     * 
+     * @param teamName The team the roster belongs to
+     * @param sport The sport of the roster
+     * @param players The complete roster
+     * @return Counts of inserted, updated, unchanged and deactivated players
+     * @throws IllegalArgumentException if a player is invalid or a name appears twice
+     */
+    public RosterSyncResult syncRoster(String teamName, String sport, List<Player> players) {
+        if (teamName == null || teamName.isBlank() || sport == null || sport.isBlank()) {
+            throw new IllegalArgumentException("Team name and sport are required");
+        }
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (player == null) {
+                throw new IllegalArgumentException("Player " + i + " is null");
+            }
+            player.setTeamName(teamName);
+            player.setSport(sport);
+            Set<ConstraintViolation<Player>> violations = validator.validate(player);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException("Player " + i + ": " + violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+            if (!names.add(player.getName())) {
+                throw new IllegalArgumentException("Duplicate player name on roster: " + player.getName());
+            }
+        }
+        return transactionTemplate.execute(status -> playerRepository.syncRoster(teamName, sport, players));
+    }
+}
@@ -0,0 +1,25 @@
+package com.nepafootball.broadcast.service;
+
+/**
+ * Thrown when a conditional update names a version other than the current one
+ * 
+ * @author NEPA Football Team
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Fail unless the expected version is absent or equals the current one
+     * 
+     * @param expected Version the client last saw, or null for an unconditional update
+     * @param current Version of the stored row
+     */
+    public static void check(Long expected, Long current) {
+        if (expected != null && !expected.equals(current)) {
+            throw new PreconditionFailedException("Expected version " + expected + " but found " + current);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.dto.ScheduleImportResult.Conflict;
+import com.nepafootball.broadcast.dto.ScheduleImportResult.Resource;
+import com.nepafootball.broadcast.entity.Game;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Interval index of game bookings per location and per team
+ *
+ * A game occupies its location and both teams from its start until start plus
+ * the usual length of its sport. Submitted games are added first; existing games
+ * are only indexed under keys a submitted game already uses. {@link #conflicts()}
+ * sorts each key's bookings and sweeps them with a heap of open intervals, so the
+ * cost is O(n log n) plus one step per overlapping pair.
+ *
+ * Not thread-safe; build one per import.
+ *
+ * @author NEPA Football Team
+ */
+public class ScheduleConflictIndex {
+
+    private static final Map<String, Duration> SPORT_DURATIONS = Map.of(
+            "football", Duration.ofMinutes(180),
+            "basketball", Duration.ofMinutes(120),
+            "baseball", Duration.ofMinutes(150),
+            "softball", Duration.ofMinutes(120),
+            "boys-soccer", Duration.ofMinutes(120),
+            "girls-soccer", Duration.ofMinutes(120));
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final Duration defaultDuration;
+    private final Map<Key, List<Booking>> bookings = new HashMap<>();
+
+    /**
+     * @param defaultDuration Length assumed for sports without a known duration
+     */
+    public ScheduleConflictIndex(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+
+    /**
+     * Index a submitted game under its location and both teams
+     *
+     * @param index Position of the game in the submitted batch
+     */
+    public void addSubmitted(Game game, int index) {
+        Booking booking = booking(game, index, null);
+        for (Key key : keys(game)) {
+            bookings.computeIfAbsent(key, k -> new ArrayList<>()).add(booking);
+        }
+    }
+
+    /**
+     * Index an existing game under whichever of its keys a submitted game shares
+     */
+    public void addExisting(Game game) {
+        Booking booking = booking(game, -1, game.getId());
+        for (Key key : keys(game)) {
+            List<Booking> list = bookings.get(key);
+            if (list != null) {
+                list.add(booking);
+            }
+        }
+    }
+
+    /**
+     * Every overlap involving a submitted game, reported once from each submitted side
+     */
+    public List<Conflict> conflicts() {
+        List<Conflict> conflicts = new ArrayList<>();
+        PriorityQueue<Booking> open = new PriorityQueue<>(Comparator.comparingLong(Booking::end));
+        for (Map.Entry<Key, List<Booking>> entry : bookings.entrySet()) {
+            Key key = entry.getKey();
+            List<Booking> sorted = entry.getValue();
+            sorted.sort(Comparator.comparingLong(Booking::start));
+            open.clear();
+            for (Booking booking : sorted) {
+                while (!open.isEmpty() && open.peek().end() <= booking.start()) {
+                    open.poll();
+                }
+                // Everything still open started earlier and ends after this booking starts
+                for (Booking other : open) {
+                    report(conflicts, key, booking, other);
+                    report(conflicts, key, other, booking);
+                }
+                open.add(booking);
+            }
+        }
+        conflicts.sort(Comparator.comparingInt(Conflict::index).thenComparing(Conflict::resource));
+        return conflicts;
+    }
+
+    private static void report(List<Conflict> conflicts, Key key, Booking booking, Booking other) {
+        if (booking.isSubmitted()) {
+            conflicts.add(new Conflict(booking.index(), key.resource(), key.name(),
+                    other.isSubmitted() ? other.index() : null, other.gameId()));
+        }
+    }
+
+    private Booking booking(Game game, int index, Long gameId) {
+        long start = game.getDate().toEpochDay() * MINUTES_PER_DAY + game.getTime().toSecondOfDay() / 60;
+        Duration duration = game.getSport() == null ? defaultDuration
+                : SPORT_DURATIONS.getOrDefault(game.getSport().toLowerCase(Locale.ROOT), defaultDuration);
+        return new Booking(start, start + duration.toMinutes(), index, gameId);
+    }
+
+    private static List<Key> keys(Game game) {
+        return List.of(
+                new Key(Resource.LOCATION, normalize(game.getLocation())),
+                new Key(Resource.TEAM, normalize(game.getHomeTeam())),
+                new Key(Resource.TEAM, normalize(game.getAwayTeam())));
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(Resource resource, String name) {}
+
+    /**
+     * Booked interval in minutes since the epoch; index is -1 for existing games
+     */
+    private record Booking(long start, long end, int index, Long gameId) {
+        boolean isSubmitted() {
+            return index >= 0;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.nepafootball.broadcast.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.Cursor;
+import com.nepafootball.broadcast.dto.CursorPage;
 import com.nepafootball.broadcast.entity.School;
 import com.nepafootball.broadcast.repository.SchoolRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +26,9 @@ public class SchoolService {
     @Autowired
     private SchoolRepository schoolRepository;
     
+    @Autowired
+    private MergePatcher mergePatcher;
+    
     /**
      * Get all schools
      * 
@@ -65,12 +73,15 @@ public class SchoolService {
      * 
      * @param id The school ID
      * @param school The updated school data
+     * @param expectedVersion Version from If-Match, or null for an unconditional update
      * @return The updated school
      * @throws RuntimeException if school not found
+     * @throws PreconditionFailedException if expectedVersion is not the current version
      */
-    public School updateSchool(Long id, School school) {
+    public School updateSchool(Long id, School school, Long expectedVersion) {
         School existingSchool = schoolRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("School not found with id: " + id));
+        PreconditionFailedException.check(expectedVersion, existingSchool.getVersion());
         
         existingSchool.setName(school.getName());
         existingSchool.setLocation(school.getLocation());
@@ -80,6 +91,26 @@ public class SchoolService {
         return schoolRepository.save(existingSchool);
     }
     
+    /**
+     * Apply a JSON merge patch; only the changed columns are written
+     * 
+     * @param id The school ID
+     * @param patch RFC 7396 merge patch
+     * @param expectedVersion Version from If-Match, or null for an unconditional update
+     * @return The patched school
+     * @throws IllegalArgumentException if the patch is malformed or leaves the school invalid
+     * @throws RuntimeException if school not found
+     * @throws PreconditionFailedException if expectedVersion is not the current version
+     */
+    @Transactional
+    public School patchSchool(Long id, JsonNode patch, Long expectedVersion) {
+        School existingSchool = schoolRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("School not found with id: " + id));
+        PreconditionFailedException.check(expectedVersion, existingSchool.getVersion());
+        
+        return schoolRepository.save(mergePatcher.apply(existingSchool, patch));
+    }
+    
     /**
      * Delete a school (soft delete by setting isActive to false)
      * 
@@ -112,4 +143,24 @@ public class SchoolService {
     public List<School> searchSchoolsByName(String name) {
         return schoolRepository.findByNameContainingIgnoreCase(name);
     }
+    
+    /**
+     * Get a page of schools using keyset pagination
+     * 
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of schools on the page
+     * @return The page of schools and the cursor for the next page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public CursorPage<School> getSchoolsPage(String after, int limit) {
+        int size = CursorPage.boundedLimit(limit);
+        List<School> rows;
+        if (after == null) {
+            rows = schoolRepository.findPage(Limit.of(size + 1));
+        } else {
+            Cursor cursor = Cursor.decode(after);
+            rows = schoolRepository.findPageAfter(cursor.key(), cursor.id(), Limit.of(size + 1));
+        }
+        return CursorPage.of(rows, size, school -> new Cursor(school.getName(), school.getId()));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,316 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.dto.AlertDelivery;
+import com.nepafootball.broadcast.dto.ScoreAlert;
+import com.nepafootball.broadcast.dto.Scoreboard;
+import com.nepafootball.broadcast.entity.AlertSubscription;
+import com.nepafootball.broadcast.entity.Game;
+import com.nepafootball.broadcast.entity.GameEvent;
+import com.nepafootball.broadcast.entity.Team;
+import com.nepafootball.broadcast.repository.AlertSubscriptionRepository;
+import com.nepafootball.broadcast.repository.GameRepository;
+import com.nepafootball.broadcast.repository.TeamRepository;
+import com.nepafootball.broadcast.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Score alerts for fans following teams, schools and sports
+ *
+ * Subscriptions are stored in alert_subscriptions and mirrored in a
+ * {@link SubscriberIndex} loaded at startup, so matching an event never scans
+ * users or touches the database. LiveGameService hands over every SCORE and
+ * FINAL event; a dispatcher thread picks them up every
+ * alerts.dispatch-interval-ms, matches each against the followers of the
+ * game's teams, their schools and the sport, and passes the deliveries to the
+ * {@link AlertSink} in batches of at most alerts.batch-size recipients.
+ *
+ * Alerts are best effort: events arriving while alerts.queue-capacity are
+ * waiting, and batches the sink fails to deliver, are dropped and counted.
+ *
+ * @author NEPA Football Team
+ */
+@Service
+public class ScoreAlertService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreAlertService.class);
+
+    @Autowired
+    private AlertSubscriptionRepository alertSubscriptionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private AlertSink alertSink;
+
+    @Value("${alerts.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${alerts.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${alerts.dispatch-interval-ms:250}")
+    private long dispatchIntervalMillis;
+
+    private final SubscriberIndex index = new SubscriberIndex();
+    // Followed names of games with recent alerts; only used by the dispatcher
+    private final Map<Long, Followed> followed = new HashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private BlockingQueue<Queued> queue;
+    private ScheduledExecutorService dispatcher;
+
+    @PostConstruct
+    void startDispatcher() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        // Not the shared scheduler thread: a slow sink must not hold up event flushes
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "score-alerts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::dispatch, dispatchIntervalMillis, dispatchIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Load every subscription into the index
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long started = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            alertSubscriptionRepository.findMaxUserId().ifPresent(index::expectUsers);
+            try (var follows = alertSubscriptionRepository.streamFollows()) {
+                follows.forEach(follow -> index.add(follow.getKind(), follow.getName(), follow.getUserId()));
+            }
+        });
+        log.info("Alert index loaded {} subscriptions in {} ms", index.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Get everything a user follows
+     *
+     * @throws RuntimeException if the user does not exist
+     */
+    public List<AlertSubscription> getSubscriptions(Long userId) {
+        requireUser(userId);
+        return alertSubscriptionRepository.findByUserIdOrderByIdAsc(userId);
+    }
+
+    /**
+     * Follow a team, school or sport
+     *
+     * @param subscription Kind and name to follow
+     * @return The stored subscription, with its name normalized
+     * @throws IllegalArgumentException if the kind or name is missing or too long
+     * @throws IllegalStateException if the user already follows it
+     * @throws RuntimeException if the user does not exist
+     */
+    public AlertSubscription subscribe(Long userId, AlertSubscription subscription) {
+        requireUser(userId);
+        Set<ConstraintViolation<AlertSubscription>> violations = validator.validate(subscription);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        AlertSubscription follow = new AlertSubscription(userId, subscription.getKind(),
+                SubscriberIndex.normalize(subscription.getName()));
+        if (alertSubscriptionRepository.existsByUserIdAndKindAndName(userId, follow.getKind(), follow.getName())) {
+            throw new IllegalStateException("Already following " + follow.getKind() + " " + follow.getName());
+        }
+        AlertSubscription saved;
+        try {
+            saved = alertSubscriptionRepository.save(follow);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Already following " + follow.getKind() + " " + follow.getName(), e);
+        }
+        index.add(saved.getKind(), saved.getName(), userId);
+        return saved;
+    }
+
+    /**
+     * Stop following something
+     *
+     * @return False if the user has no such subscription
+     */
+    public boolean unsubscribe(Long userId, Long subscriptionId) {
+        return alertSubscriptionRepository.findByIdAndUserId(subscriptionId, userId)
+                .map(subscription -> {
+                    alertSubscriptionRepository.delete(subscription);
+                    index.remove(subscription.getKind(), subscription.getName(), userId);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Queue an alert for a SCORE or FINAL event; other events are ignored
+     *
+     * Called by LiveGameService from the game's outbox, in sequence order, so it only queues.
+     */
+    public void publish(GameEvent event, Scoreboard scoreboard) {
+        if (event.getType() != GameEvent.Type.SCORE && event.getType() != GameEvent.Type.FINAL) {
+            return;
+        }
+        if (!queue.offer(new Queued(event.getType(), scoreboard))) {
+            long total = dropped.incrementAndGet();
+            log.warn("Alert queue full; dropped {} event {} of game {} ({} dropped so far)",
+                    event.getType(), event.getSequence(), scoreboard.gameId(), total);
+        }
+    }
+
+    /**
+     * Get the number of alerts dropped because the queue was full or the sink failed
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Match queued events to their followers and deliver them
+     */
+    synchronized void dispatch() {
+        List<Queued> events = new ArrayList<>();
+        queue.drainTo(events);
+        if (events.isEmpty()) {
+            return;
+        }
+        List<AlertDelivery> batch = new ArrayList<>();
+        int recipients = 0;
+        for (Queued event : events) {
+            Scoreboard scoreboard = event.scoreboard();
+            Followed game = followed.computeIfAbsent(scoreboard.gameId(), this::resolve);
+            if (event.type() == GameEvent.Type.FINAL) {
+                followed.remove(scoreboard.gameId());
+            }
+            if (game == null) {
+                continue;
+            }
+            int[] users = index.match(game.sport(), game.teams(), game.schools());
+            if (users.length == 0) {
+                continue;
+            }
+            ScoreAlert alert = new ScoreAlert(scoreboard.gameId(), scoreboard.lastSequence(), event.type(),
+                    scoreboard.sport(), game.homeTeam(), game.awayTeam(), scoreboard.homeScore(),
+                    scoreboard.awayScore(), scoreboard.period(), scoreboard.updatedAt());
+            for (int from = 0; from < users.length; ) {
+                int count = Math.min(users.length - from, batchSize - recipients);
+                batch.add(new AlertDelivery(alert, count == users.length ? users
+                        : Arrays.copyOfRange(users, from, from + count)));
+                from += count;
+                recipients += count;
+                if (recipients == batchSize) {
+                    deliver(batch, recipients);
+                    batch = new ArrayList<>();
+                    recipients = 0;
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            deliver(batch, recipients);
+        }
+    }
+
+    /**
+     * Deliver whatever is still queued before the application stops
+     */
+    @PreDestroy
+    void drain() throws InterruptedException {
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        dispatch();
+    }
+
+    private void deliver(List<AlertDelivery> batch, int recipients) {
+        try {
+            alertSink.deliver(batch);
+        } catch (IOException | RuntimeException e) {
+            dropped.addAndGet(batch.size());
+            log.warn("Could not deliver {} alerts to {} users", batch.size(), recipients, e);
+        }
+    }
+
+    /**
+     * Look up the names a game's followers follow, or null if the game does not exist
+     */
+    private Followed resolve(Long gameId) {
+        try {
+            return gameRepository.findById(gameId).map(this::followed).orElse(null);
+        } catch (DataAccessException e) {
+            log.warn("Could not look up game {} for alerts", gameId, e);
+            return null;
+        }
+    }
+
+    private Followed followed(Game game) {
+        String[] schools = new String[] {school(game.getHomeTeam()), school(game.getAwayTeam())};
+        return new Followed(game.getHomeTeam(), game.getAwayTeam(), SubscriberIndex.normalize(game.getSport()),
+                new String[] {SubscriberIndex.normalize(game.getHomeTeam()), SubscriberIndex.normalize(game.getAwayTeam())},
+                schools);
+    }
+
+    private String school(String teamName) {
+        return teamRepository.findByTeamName(teamName)
+                .map(Team::getSchoolName)
+                .map(SubscriberIndex::normalize)
+                .orElse(null);
+    }
+
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+    }
+
+    /**
+     * An alertable event and the scoreboard it produced
+     */
+    private record Queued(GameEvent.Type type, Scoreboard scoreboard) {}
+
+    /**
+     * A game's display names and the normalized names its followers follow
+     */
+    private record Followed(String homeTeam, String awayTeam, String sport, String[] teams, String[] schools) {}
+}
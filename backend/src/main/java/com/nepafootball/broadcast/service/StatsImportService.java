@@ -0,0 +1,282 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nepafootball.broadcast.dto.BulkImportResult;
+import com.nepafootball.broadcast.entity.StatColumn;
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of stat sheets
+ * 
+ * The request body is parsed one line at a time, each row is validated, and
+ * valid rows are inserted in batches of stats.import.batch-size, one
+ * transaction per batch. Batches are written as batched JDBC inserts with ids
+ * from the pooled player_stats_seq, skipping the persistence context, so
+ * memory stays flat however large the sheet.
+ * 
+ * @author NEPA Football Team
+ */
+@Service
+public class StatsImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsImportService.class);
+
+    /**
+     * Supported body formats
+     */
+    public enum Format {
+        /** Header row of column names, then one row per line */
+        CSV,
+        /** One Stats JSON object per line */
+        NDJSON
+    }
+
+    private static final Map<String, BiConsumer<Stats, String>> IDENTITY_COLUMNS = Map.of(
+            "playername", Stats::setPlayerName,
+            "teamname", Stats::setTeamName,
+            "schoolname", Stats::setSchoolName,
+            "sport", Stats::setSport,
+            "division", Stats::setDivision,
+            "season", Stats::setSeason);
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LeaderboardIndex leaderboardIndex;
+
+    @Value("${stats.import.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Import every row of a stat sheet
+     * 
+     * @param body The request body
+     * @param format The body format
+     * @return Counts and per-row errors
+     * @throws IllegalArgumentException if the CSV header is missing or names an unknown column
+     */
+    public BulkImportResult importStats(InputStream body, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        long line = 0;
+        RowParser parser;
+        if (format == Format.CSV) {
+            String header = reader.readLine();
+            line++;
+            if (header == null || header.isBlank()) {
+                throw new IllegalArgumentException("CSV body must start with a header row");
+            }
+            parser = new CsvRowParser(header);
+        } else {
+            ObjectReader json = objectMapper.readerFor(Stats.class);
+            parser = text -> json.readValue(text);
+        }
+
+        Report report = new Report();
+        List<Stats> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        long started = System.currentTimeMillis();
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            report.received++;
+            Stats row;
+            try {
+                row = parser.parse(text);
+            } catch (JsonProcessingException e) {
+                report.reject(line, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            } catch (IllegalArgumentException e) {
+                report.reject(line, e.getMessage());
+                continue;
+            }
+            Set<ConstraintViolation<Stats>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                report.reject(line, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            row.setId(null);
+            row.setIsActive(true);
+            batch.add(row);
+            batchLines.add(line);
+            if (batch.size() == batchSize) {
+                persist(batch, batchLines, report);
+            }
+        }
+        persist(batch, batchLines, report);
+        log.info("Imported {} of {} stat rows ({} rejected) in {} ms",
+                report.imported, report.received, report.failed, System.currentTimeMillis() - started);
+        return new BulkImportResult(report.received, report.imported, report.failed, report.errors);
+    }
+
+    private void persist(List<Stats> batch, List<Long> lines, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> statsRepository.insertAll(batch));
+            for (Stats row : batch) {
+                leaderboardIndex.onSaved(null, row);
+            }
+            report.imported += batch.size();
+        } catch (DataAccessException e) {
+            String message = "Batch rejected by the database: " + e.getMostSpecificCause().getMessage();
+            for (Long line : lines) {
+                report.reject(line, message);
+            }
+        }
+        batch.clear();
+        lines.clear();
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        Stats parse(String text) throws JsonProcessingException;
+    }
+
+    /**
+     * Running totals and the capped error list
+     */
+    private static final class Report {
+
+        private long received;
+        private long imported;
+        private long failed;
+        private final List<BulkImportResult.RowError> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < BulkImportResult.MAX_REPORTED_ERRORS) {
+                errors.add(new BulkImportResult.RowError(line, message));
+            }
+        }
+    }
+
+    /**
+     * Maps CSV fields to Stats properties by header name
+     * 
+     * Headers accept any spelling StatColumn does (passingYards, passing_yards,
+     * passing-yards); an id column is ignored. Fields may be quoted with
+     * doubled quotes as escapes, but may not span lines.
+     */
+    private static final class CsvRowParser implements RowParser {
+
+        private final List<BiConsumer<Stats, String>> setters = new ArrayList<>();
+
+        CsvRowParser(String header) {
+            for (String name : split(header)) {
+                String key = normalize(name);
+                BiConsumer<Stats, String> identity = IDENTITY_COLUMNS.get(key);
+                if (identity != null) {
+                    setters.add(identity);
+                    continue;
+                }
+                if (key.equals("id")) {
+                    setters.add((stats, value) -> {});
+                    continue;
+                }
+                Optional<StatColumn> column = StatColumn.fromKey(name.trim());
+                if (column.isEmpty()) {
+                    throw new IllegalArgumentException("Unknown column in CSV header: " + name.trim());
+                }
+                StatColumn stat = column.get();
+                setters.add((stats, value) -> {
+                    try {
+                        stat.set(stats, stat.parse(value));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException(stat.getAttribute() + ": not a number '" + value + "'");
+                    }
+                });
+            }
+        }
+
+        @Override
+        public Stats parse(String text) {
+            List<String> fields = split(text);
+            if (fields.size() != setters.size()) {
+                throw new IllegalArgumentException("Expected " + setters.size() + " fields but found " + fields.size());
+            }
+            Stats stats = new Stats();
+            for (int i = 0; i < fields.size(); i++) {
+                setters.get(i).accept(stats, fields.get(i).isEmpty() ? null : fields.get(i));
+            }
+            return stats;
+        }
+
+        private static String normalize(String name) {
+            return name.trim().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+        }
+
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString().trim());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            fields.add(field.toString().trim());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nepafootball.broadcast.entity.Stats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local journal of buffered stat rows
+ *
+ * Each accepted row is written as one JSON line to the active segment. With
+ * fsync on, the write is forced to disk before it is acknowledged; writers
+ * waiting at the same time share one force. A flush starts a new segment;
+ * once the rows it covers are in the database, every older segment is
+ * deleted. After a crash, the segments left behind hold every acknowledged
+ * row that never reached the database. The directory is locked so only one
+ * process uses it.
+ *
+ * @author NEPA Football Team
+ */
+final class StatsJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsJournal.class);
+
+    private static final String PREFIX = "stats-";
+    private static final String SUFFIX = ".journal";
+    private static final String LOCK = "journal.lock";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    // A lock rather than a monitor: writers wait here while another forces the
+    // segment, which would pin a virtual thread to its carrier for the fsync
+    private final Lock forceLock = new ReentrantLock();
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private FileChannel active;
+    private long activeNumber;
+    private long appended;
+    private long forced;
+
+    StatsJournal(Path directory, ObjectMapper objectMapper, boolean fsync) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Read every row left by a previous run, oldest first, and open a new segment
+     *
+     * A torn last line from a crash mid-write is skipped.
+     *
+     * @throws IllegalStateException if another process is using the directory
+     */
+    synchronized List<Stats> open() throws IOException {
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Stats journal " + directory + " is in use");
+        }
+        List<Stats> rows = new ArrayList<>();
+        for (Path segment : segments()) {
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    try {
+                        rows.add(objectMapper.readValue(line, Stats.class));
+                    } catch (JsonProcessingException e) {
+                        log.warn("Skipping unreadable line in {}", segment.getFileName());
+                    }
+                }
+            }
+            activeNumber = Math.max(activeNumber, number(segment));
+        }
+        startSegment();
+        return rows;
+    }
+
+    /**
+     * Append a row to the active segment
+     *
+     * @return Ticket to pass to {@link #sync(long)} before acknowledging the row
+     */
+    synchronized long append(Stats row) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(row) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            active.write(buffer);
+        }
+        return ++appended;
+    }
+
+    /**
+     * Wait until an appended row is on disk, when fsync is on
+     *
+     * One force covers every row appended before it starts, so concurrent
+     * writers mostly find their row already forced by another.
+     */
+    void sync(long ticket) throws IOException {
+        if (!fsync) {
+            return;
+        }
+        forceLock.lock();
+        try {
+            if (forced >= ticket) {
+                return;
+            }
+            long upTo;
+            FileChannel channel;
+            synchronized (this) {
+                upTo = appended;
+                channel = active;
+            }
+            channel.force(false);
+            forced = upTo;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * Seal the active segment and continue in a new one
+     */
+    void rotate() throws IOException {
+        forceLock.lock();
+        try {
+            synchronized (this) {
+                if (fsync) {
+                    active.force(false);
+                }
+                forced = appended;
+                active.close();
+                startSegment();
+            }
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * Delete every segment except the active one
+     */
+    synchronized void deleteSealed() throws IOException {
+        for (Path segment : segments()) {
+            if (number(segment) != activeNumber) {
+                Files.deleteIfExists(segment);
+            }
+        }
+    }
+
+    synchronized void close() throws IOException {
+        if (active != null) {
+            active.close();
+        }
+        if (lock != null) {
+            lock.release();
+            lockChannel.close();
+        }
+    }
+
+    private void startSegment() throws IOException {
+        activeNumber++;
+        active = FileChannel.open(directory.resolve(String.format("%s%012d%s", PREFIX, activeNumber, SUFFIX)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long number(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
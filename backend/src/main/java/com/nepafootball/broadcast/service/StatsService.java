@@ -1,12 +1,24 @@
 package com.nepafootball.broadcast.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.Cursor;
+import com.nepafootball.broadcast.dto.CursorPage;
+import com.nepafootball.broadcast.entity.StatColumn;
 import com.nepafootball.broadcast.entity.Stats;
 import com.nepafootball.broadcast.repository.StatsRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 /**
  * Service class for managing player statistics
@@ -18,122 +30,189 @@ import java.util.Optional;
 @Service
 public class StatsService {
 
+    /**
+     * Default and maximum number of rows returned by leader queries
+     */
+    public static final int DEFAULT_LEADERS_LIMIT = 10;
+    public static final int MAX_LEADERS_LIMIT = 100;
+
     @Autowired
     private StatsRepository statsRepository;
 
+    @Autowired
+    private LeaderboardIndex leaderboardIndex;
+
+    @Autowired
+    private MergePatcher mergePatcher;
+
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+
+    @Autowired
+    private StatsWriteBehind statsWriteBehind;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     /**
      * Get all active stats
      */
     public List<Stats> getAllStats() {
-        return statsRepository.findAll().stream()
-                .filter(Stats::getIsActive)
-                .toList();
+        return statsWriteBehind.overlay(() -> statsRepository.findByIsActiveTrue());
+    }
+
+    /**
+     * Get a page of active stats using keyset pagination on id
+     * 
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public CursorPage<Stats> getStatsPage(String after, int limit) {
+        int size = CursorPage.boundedLimit(limit);
+        Long afterId = after == null ? null : Cursor.decode(after).id();
+        List<Stats> rows = statsWriteBehind.overlay(() -> afterId == null
+                ? statsRepository.findByIsActiveTrueOrderByIdAsc(Limit.of(size + 1))
+                : statsRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1)));
+        return CursorPage.of(rows, size, stats -> new Cursor(null, stats.getId()));
     }
 
     /**
      * Get stats by ID
      */
     public Optional<Stats> getStatsById(Long id) {
-        return statsRepository.findById(id)
-                .filter(Stats::getIsActive);
+        UnaryOperator<Stats> overlay = statsWriteBehind.snapshot();
+        return statsRepository.findByIdAndIsActiveTrue(id).map(overlay);
     }
 
     /**
      * Get all stats for a specific sport
      */
     public List<Stats> getStatsBySport(String sport) {
-        return statsRepository.findBySportAndIsActiveTrue(sport);
+        return statsWriteBehind.overlay(() -> statsRepository.findBySportAndIsActiveTrue(sport));
     }
 
     /**
      * Get all stats for a specific sport and division
      */
     public List<Stats> getStatsBySportAndDivision(String sport, String division) {
-        return statsRepository.findBySportAndDivisionAndIsActiveTrue(sport, division);
+        return statsWriteBehind.overlay(() -> statsRepository.findBySportAndDivisionAndIsActiveTrue(sport, division));
     }
 
     /**
      * Get all stats for a specific team
      */
     public List<Stats> getStatsByTeam(String teamName) {
-        return statsRepository.findByTeamNameAndIsActiveTrue(teamName);
+        return statsWriteBehind.overlay(() -> statsRepository.findByTeamNameAndIsActiveTrue(teamName));
     }
 
     /**
      * Get all stats for a specific player
      */
     public List<Stats> getStatsByPlayer(String playerName) {
-        return statsRepository.findByPlayerNameAndIsActiveTrue(playerName);
+        return statsWriteBehind.overlay(() -> statsRepository.findByPlayerNameAndIsActiveTrue(playerName));
     }
 
     /**
      * Get stats for a specific player in a specific sport and season
      */
     public Optional<Stats> getStatsByPlayerSportAndSeason(String playerName, String sport, String season) {
-        return statsRepository.findByPlayerNameAndSportAndSeasonAndIsActiveTrue(playerName, sport, season);
+        UnaryOperator<Stats> overlay = statsWriteBehind.snapshot();
+        return statsRepository.findByPlayerNameAndSportAndSeasonAndIsActiveTrue(playerName, sport, season)
+                .map(overlay);
     }
 
     /**
      * Get all stats for a specific season
      */
     public List<Stats> getStatsBySeason(String season) {
-        return statsRepository.findBySeasonAndIsActiveTrue(season);
+        return statsWriteBehind.overlay(() -> statsRepository.findBySeasonAndIsActiveTrue(season));
+    }
+
+    /**
+     * Write all active stats for a season as JSON without materializing the result
+     * 
+     * @param ndjson True for newline-delimited JSON, false for a JSON array
+     */
+    @Transactional(readOnly = true)
+    public void writeStatsBySeason(String season, OutputStream out, boolean ndjson) throws IOException {
+        UnaryOperator<Stats> overlay = statsWriteBehind.snapshot();
+        jsonStreamWriter.write(statsRepository.streamBySeasonAndIsActiveTrue(season).map(overlay), out, ndjson);
+    }
+
+    /**
+     * Get top performers for any whitelisted stat, ranked and limited in the database
+     * 
+     * @throws IllegalArgumentException if the stat is not a known Stats column
+     */
+    public List<Stats> getLeaders(String stat, String sport, String division, String season, int limit, int offset) {
+        StatColumn column = StatColumn.fromKey(stat)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown stat: " + stat));
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LEADERS_LIMIT));
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(column, sport, division, season, boundedLimit, Math.max(0, offset)));
     }
 
     /**
      * Get top performers by passing yards for football
      */
     public List<Stats> getTopPassingYards() {
-        return statsRepository.findTopPassingYards();
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(StatColumn.PASSING_YARDS, null, null, null, DEFAULT_LEADERS_LIMIT, 0));
     }
 
     /**
      * Get top performers by rushing yards for football
      */
     public List<Stats> getTopRushingYards() {
-        return statsRepository.findTopRushingYards();
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(StatColumn.RUSHING_YARDS, null, null, null, DEFAULT_LEADERS_LIMIT, 0));
     }
 
     /**
      * Get top performers by receiving yards for football
      */
     public List<Stats> getTopReceivingYards() {
-        return statsRepository.findTopReceivingYards();
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(StatColumn.RECEIVING_YARDS, null, null, null, DEFAULT_LEADERS_LIMIT, 0));
     }
 
     /**
      * Get top performers by points for basketball
      */
     public List<Stats> getTopPoints() {
-        return statsRepository.findTopPoints();
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(StatColumn.POINTS, null, null, null, DEFAULT_LEADERS_LIMIT, 0));
     }
 
     /**
      * Get top performers by rebounds for basketball
      */
     public List<Stats> getTopRebounds() {
-        return statsRepository.findTopRebounds();
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(StatColumn.REBOUNDS, null, null, null, DEFAULT_LEADERS_LIMIT, 0));
     }
 
     /**
      * Get top performers by assists for basketball
      */
     public List<Stats> getTopAssists() {
-        return statsRepository.findTopAssists();
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(StatColumn.ASSISTS, null, null, null, DEFAULT_LEADERS_LIMIT, 0));
     }
 
     /**
      * Get top performers by batting average for baseball/softball
      */
     public List<Stats> getTopBattingAverage() {
-        return statsRepository.findTopBattingAverage();
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(StatColumn.BATTING_AVERAGE, null, null, null, DEFAULT_LEADERS_LIMIT, 0));
     }
 
     /**
      * Get top performers by goals for soccer
      */
     public List<Stats> getTopGoals() {
-        return statsRepository.findTopGoals();
+        return statsWriteBehind.overlay(() ->
+                statsRepository.findLeaders(StatColumn.GOALS, null, null, null, DEFAULT_LEADERS_LIMIT, 0));
     }
 
     /**
@@ -161,150 +240,176 @@ public class StatsService {
      * Create new stats
      */
     public Stats createStats(Stats stats) {
-        return statsRepository.save(stats);
+        Stats saved = statsRepository.save(stats);
+        leaderboardIndex.onSaved(null, saved);
+        return saved;
     }
 
     /**
      * Update existing stats
+     * 
+     * With stats.write-behind.enabled the update is buffered and written in the next batch.
+     * 
+     * @param expectedVersion Version from If-Match, or null for an unconditional update
+     * @throws PreconditionFailedException if expectedVersion is not the current version
      */
-    public Stats updateStats(Long id, Stats statsDetails) {
+    public Stats updateStats(Long id, Stats statsDetails, Long expectedVersion) {
+        if (statsWriteBehind.isEnabled()) {
+            LeaderboardIndex.Slice[] previous = new LeaderboardIndex.Slice[1];
+            Optional<Stats> buffered = statsWriteBehind.update(id, stats -> {
+                PreconditionFailedException.check(expectedVersion, stats.getVersion());
+                previous[0] = LeaderboardIndex.Slice.of(stats);
+                copyDetails(statsDetails, stats);
+            });
+            buffered.ifPresent(stats -> leaderboardIndex.onSaved(previous[0], stats));
+            return buffered.orElse(null);
+        }
         Optional<Stats> optionalStats = statsRepository.findById(id);
         if (optionalStats.isPresent()) {
             Stats stats = optionalStats.get();
-            
-            // Update all fields
-            stats.setPlayerName(statsDetails.getPlayerName());
-            stats.setTeamName(statsDetails.getTeamName());
-            stats.setSchoolName(statsDetails.getSchoolName());
-            stats.setSport(statsDetails.getSport());
-            stats.setDivision(statsDetails.getDivision());
-            stats.setSeason(statsDetails.getSeason());
-            
-            // Update football stats
-            stats.setPassingYards(statsDetails.getPassingYards());
-            stats.setPassingTouchdowns(statsDetails.getPassingTouchdowns());
-            stats.setRushingYards(statsDetails.getRushingYards());
-            stats.setRushingTouchdowns(statsDetails.getRushingTouchdowns());
-            stats.setReceivingYards(statsDetails.getReceivingYards());
-            stats.setReceivingTouchdowns(statsDetails.getReceivingTouchdowns());
-            stats.setTackles(statsDetails.getTackles());
-            stats.setInterceptions(statsDetails.getInterceptions());
-            stats.setSacks(statsDetails.getSacks());
-            
-            // Update basketball stats
-            stats.setPoints(statsDetails.getPoints());
-            stats.setRebounds(statsDetails.getRebounds());
-            stats.setAssists(statsDetails.getAssists());
-            stats.setSteals(statsDetails.getSteals());
-            stats.setBlocks(statsDetails.getBlocks());
-            stats.setFieldGoalsMade(statsDetails.getFieldGoalsMade());
-            stats.setFieldGoalsAttempted(statsDetails.getFieldGoalsAttempted());
-            stats.setThreePointersMade(statsDetails.getThreePointersMade());
-            stats.setThreePointersAttempted(statsDetails.getThreePointersAttempted());
-            stats.setFreeThrowsMade(statsDetails.getFreeThrowsMade());
-            stats.setFreeThrowsAttempted(statsDetails.getFreeThrowsAttempted());
-            
-            // Update baseball/softball stats
-            stats.setBattingAverage(statsDetails.getBattingAverage());
-            stats.setHits(statsDetails.getHits());
-            stats.setRuns(statsDetails.getRuns());
-            stats.setRbis(statsDetails.getRbis());
-            stats.setHomeRuns(statsDetails.getHomeRuns());
-            stats.setStolenBases(statsDetails.getStolenBases());
-            stats.setInningsPitched(statsDetails.getInningsPitched());
-            stats.setEarnedRunAverage(statsDetails.getEarnedRunAverage());
-            stats.setStrikeouts(statsDetails.getStrikeouts());
-            stats.setWins(statsDetails.getWins());
-            stats.setLosses(statsDetails.getLosses());
-            
-            // Update soccer stats
-            stats.setGoals(statsDetails.getGoals());
-            stats.setAssistsSoccer(statsDetails.getAssistsSoccer());
-            stats.setSaves(statsDetails.getSaves());
-            stats.setShutouts(statsDetails.getShutouts());
-            
-            // Update general stats
-            stats.setGamesPlayed(statsDetails.getGamesPlayed());
-            stats.setMinutesPlayed(statsDetails.getMinutesPlayed());
-            
-            return statsRepository.save(stats);
+            PreconditionFailedException.check(expectedVersion, stats.getVersion());
+            LeaderboardIndex.Slice previous = LeaderboardIndex.Slice.of(stats);
+            copyDetails(statsDetails, stats);
+            Stats saved = statsRepository.save(stats);
+            leaderboardIndex.onSaved(previous, saved);
+            return saved;
         }
         return null;
     }
 
+    /**
+     * Copy the identity fields and every stat column of a full update
+     */
+    static void copyDetails(Stats statsDetails, Stats stats) {
+        // Update all fields
+        stats.setPlayerName(statsDetails.getPlayerName());
+        stats.setTeamName(statsDetails.getTeamName());
+        stats.setSchoolName(statsDetails.getSchoolName());
+        stats.setSport(statsDetails.getSport());
+        stats.setDivision(statsDetails.getDivision());
+        stats.setSeason(statsDetails.getSeason());
+        
+        // Update every stat column
+        for (StatColumn column : StatColumn.values()) {
+            column.set(stats, column.get(statsDetails));
+        }
+    }
+
+    /**
+     * Apply a JSON merge patch; only the changed columns are written
+     * 
+     * @param id The stats ID
+     * @param patch RFC 7396 merge patch
+     * @param expectedVersion Version from If-Match, or null for an unconditional update
+     * @return The patched stats, or null if not found
+     * @throws IllegalArgumentException if the patch is malformed or leaves the row invalid
+     * @throws PreconditionFailedException if expectedVersion is not the current version
+     */
+    public Stats patchStats(Long id, JsonNode patch, Long expectedVersion) {
+        // Committed before buffered updates to the row may read it again
+        return statsWriteBehind.writeThrough(List.of(id), () -> transactionTemplate.execute(status -> {
+            Optional<Stats> optionalStats = statsRepository.findById(id);
+            if (optionalStats.isPresent()) {
+                Stats stats = optionalStats.get();
+                PreconditionFailedException.check(expectedVersion, stats.getVersion());
+                LeaderboardIndex.Slice previous = LeaderboardIndex.Slice.of(stats);
+                Stats saved = statsRepository.save(mergePatcher.apply(stats, patch));
+                leaderboardIndex.onSaved(previous, saved);
+                return saved;
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Atomically add deltas to stat columns without loading the row
+     * 
+     * @param id The stats ID
+     * @param deltas Increments keyed by stat name in any accepted spelling; may be negative
+     * @return The updated stats, or null if not found or deleted
+     * @throws IllegalArgumentException if a stat is unknown or an increment does not fit its column
+     */
+    public Stats incrementStats(Long id, Map<String, Number> deltas) {
+        if (deltas.isEmpty()) {
+            throw new IllegalArgumentException("No stats to increment");
+        }
+        Map<StatColumn, Number> columns = new EnumMap<>(StatColumn.class);
+        for (Map.Entry<String, Number> delta : deltas.entrySet()) {
+            StatColumn column = StatColumn.fromKey(delta.getKey())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown stat: " + delta.getKey()));
+            if (columns.put(column, column.toDelta(delta.getValue())) != null) {
+                throw new IllegalArgumentException("Stat given twice: " + column.getAttribute());
+            }
+        }
+        return statsWriteBehind.writeThrough(List.of(id), () -> {
+            Optional<Stats> updated = statsRepository.increment(id, columns);
+            updated.ifPresent(stats -> leaderboardIndex.onSaved(LeaderboardIndex.Slice.of(stats), stats));
+            return updated.orElse(null);
+        });
+    }
+
     /**
      * Soft delete stats (set isActive to false)
      */
     public boolean deleteStats(Long id) {
-        Optional<Stats> optionalStats = statsRepository.findById(id);
-        if (optionalStats.isPresent()) {
-            Stats stats = optionalStats.get();
-            stats.setIsActive(false);
-            statsRepository.save(stats);
-            return true;
-        }
-        return false;
+        return statsWriteBehind.writeThrough(List.of(id), () -> {
+            Optional<Stats> optionalStats = statsRepository.findById(id);
+            if (optionalStats.isPresent()) {
+                Stats stats = optionalStats.get();
+                stats.setIsActive(false);
+                statsRepository.save(stats);
+                leaderboardIndex.onRemoved(stats);
+                return true;
+            }
+            return false;
+        });
     }
 
     /**
      * Hard delete stats (permanent removal)
      */
     public boolean hardDeleteStats(Long id) {
-        if (statsRepository.existsById(id)) {
-            statsRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return statsWriteBehind.writeThrough(List.of(id), () -> {
+            Optional<Stats> optionalStats = statsRepository.findById(id);
+            if (optionalStats.isPresent()) {
+                statsRepository.deleteById(id);
+                leaderboardIndex.onRemoved(optionalStats.get());
+                return true;
+            }
+            return false;
+        });
     }
 
     /**
      * Get leaderboard data for a specific sport and division
      */
     public List<Stats> getLeaderboard(String sport, String division, String statType) {
-        List<Stats> stats = getStatsBySportAndDivision(sport, division);
-        
-        // Sort by the specified stat type
-        return stats.stream()
-                .sorted((s1, s2) -> {
-                    Integer stat1 = getStatValue(s1, statType);
-                    Integer stat2 = getStatValue(s2, statType);
-                    if (stat1 == null && stat2 == null) return 0;
-                    if (stat1 == null) return 1;
-                    if (stat2 == null) return -1;
-                    return stat2.compareTo(stat1); // Descending order
-                })
-                .toList();
-    }
-
-    /**
-     * Helper method to get stat value by stat type
-     */
-    private Integer getStatValue(Stats stats, String statType) {
-        return switch (statType.toLowerCase()) {
-            case "passing_yards" -> stats.getPassingYards();
-            case "rushing_yards" -> stats.getRushingYards();
-            case "receiving_yards" -> stats.getReceivingYards();
-            case "points" -> stats.getPoints();
-            case "rebounds" -> stats.getRebounds();
-            case "assists" -> stats.getAssists();
-            case "goals" -> stats.getGoals();
-            case "hits" -> stats.getHits();
-            case "runs" -> stats.getRuns();
-            case "rbis" -> stats.getRbis();
-            case "home_runs" -> stats.getHomeRuns();
-            case "stolen_bases" -> stats.getStolenBases();
-            case "tackles" -> stats.getTackles();
-            case "interceptions" -> stats.getInterceptions();
-            case "sacks" -> stats.getSacks();
-            case "steals" -> stats.getSteals();
-            case "blocks" -> stats.getBlocks();
-            case "saves" -> stats.getSaves();
-            case "shutouts" -> stats.getShutouts();
-            case "strikeouts" -> stats.getStrikeouts();
-            case "wins" -> stats.getWins();
-            case "losses" -> stats.getLosses();
-            default -> null;
-        };
+        return getLeaderboard(sport, division, null, statType);
+    }
+
+    /**
+     * Get leaderboard data for a specific sport, division and season
+     * 
+     * Served from the in-memory top-K index; before the index is ready the slice is
+     * sorted with the stat comparator, and unknown stat types return it unsorted.
+     */
+    public List<Stats> getLeaderboard(String sport, String division, String season, String statType) {
+        Optional<List<Stats>> indexed = leaderboardIndex.top(sport, division, season, statType);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+        List<Stats> stats = season == null
+                ? getStatsBySportAndDivision(sport, division)
+                : statsWriteBehind.overlay(() -> statsRepository.findBySportAndDivisionAndSeasonAndIsActiveTrue(sport, division, season));
+        return StatColumn.fromKey(statType)
+                .map(column -> stats.stream().sorted(column.comparator()).toList())
+                .orElse(stats);
     }
-}
 
+    /**
+     * Get leaderboard index size and hit-rate counters
+     */
+    public LeaderboardIndex.IndexStats getLeaderboardIndexStats() {
+        return leaderboardIndex.getIndexStats();
+    }
+}
@@ -0,0 +1,523 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nepafootball.broadcast.config.Bulkhead;
+import com.nepafootball.broadcast.entity.StatColumn;
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in write-behind buffer for full stat row updates
+ *
+ * With stats.write-behind.enabled, an update is applied to a copy of the row,
+ * journaled to local disk and kept in a per-row buffer; later updates to the
+ * same row replace it, so a burst costs one database write. Reads by id and
+ * list reads return the buffered row in place of the stored one. Queries still
+ * filter and rank by the stored rows until the buffer is flushed.
+ *
+ * The buffer is written in one batched transaction every
+ * stats.write-behind.flush-interval-ms, or sooner once
+ * stats.write-behind.max-updates updates are waiting, so a row reaches the
+ * database within roughly one interval. Writes that bypass the buffer go
+ * through {@link #writeThrough}, which flushes first and keeps updates to the
+ * same rows waiting until the write is done. A buffered row that the database
+ * has moved past anyway, through another process, is merged onto the stored
+ * row rather than dropped. On shutdown the buffer is drained; after a crash,
+ * journaled rows are written back at startup.
+ *
+ * @author NEPA Football Team
+ */
+@Component
+public class StatsWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsWriteBehind.class);
+
+    private static final int ROW_LOCK_STRIPES = 256;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private LeaderboardIndex leaderboardIndex;
+
+    @Value("${stats.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${stats.write-behind.max-updates:500}")
+    private int maxUpdates;
+
+    @Value("${stats.write-behind.journal-dir:data/stats-journal}")
+    private Path journalDirectory;
+
+    @Value("${stats.write-behind.fsync:true}")
+    private boolean fsync;
+
+    private final Map<Long, Pending> buffer = new ConcurrentHashMap<>();
+    // Updates hold the read lock while journaling and buffering; a flush takes the
+    // write lock to start a new journal segment and copy the buffer consistently
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // An update holds its row's stripe from reading the row until it is buffered, and
+    // a write through the buffer holds its rows' stripes until it is done
+    private final Lock[] rowLocks = new Lock[ROW_LOCK_STRIPES];
+    private final AtomicInteger updatesSinceFlush = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // Not a monitor: a flush blocks on JDBC, which would pin a virtual thread to its carrier
+    private final Lock flushLock = new ReentrantLock();
+    private ExecutorService flushTrigger;
+    private TransactionTemplate transactionTemplate;
+    private StatsJournal journal;
+
+    {
+        for (int i = 0; i < rowLocks.length; i++) {
+            rowLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Write back rows journaled by a previous run, then start a new journal
+     */
+    @PostConstruct
+    void recover() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        // A flush triggered from a transactional write must commit on its own, so a
+        // rollback of that write cannot undo rows already removed from the buffer
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        journal = new StatsJournal(journalDirectory, objectMapper, fsync);
+        List<Stats> journaled = journal.open();
+        if (!journaled.isEmpty()) {
+            Map<Long, Stats> latest = new LinkedHashMap<>();
+            for (Stats row : journaled) {
+                latest.merge(row.getId(), row, (a, b) -> b.getVersion() >= a.getVersion() ? b : a);
+            }
+            List<Stats> rows = new ArrayList<>(latest.values());
+            List<Long> unmatched = transactionTemplate.execute(status -> statsRepository.updateAll(rows));
+            journal.deleteSealed();
+            log.info("Recovered {} journaled stat rows; {} were newer than the database",
+                    rows.size(), rows.size() - unmatched.size());
+            if (!unmatched.isEmpty()) {
+                // Without the row each change started from there is nothing to merge onto
+                log.warn("Journaled stat rows {} were deleted or changed elsewhere before they were written; "
+                        + "the stored rows are kept", unmatched);
+            }
+        }
+        flushTrigger = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stats-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Whether updates go through the buffer
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Apply a change to the latest version of a row and buffer the result
+     *
+     * @param id The stats ID
+     * @param change Applied to a copy of the buffered or stored row; may throw to reject the update
+     * @return The buffered row with its new version, or empty if no row has the id
+     * @throws IllegalArgumentException if the changed row is invalid
+     */
+    public Optional<Stats> update(Long id, Consumer<Stats> change) {
+        Stats next;
+        long ticket;
+        Lock rowLock = rowLock(id);
+        rowLock.lock();
+        try {
+            while (true) {
+                // Writes through the buffer wait for the row lock, so the stored row read
+                // here is still current when the change to it is buffered
+                Pending buffered = buffer.get(id);
+                Stats current = buffered == null ? statsRepository.findById(id).orElse(null) : buffered.row();
+                if (current == null) {
+                    return Optional.empty();
+                }
+                next = new Stats();
+                BeanUtils.copyProperties(current, next);
+                change.accept(next);
+                validate(next);
+                next.setVersion(current.getVersion() + 1);
+                next.setUpdatedAt(LocalDateTime.now());
+                Pending pending = new Pending(next, buffered == null ? current : buffered.base());
+                lock.readLock().lock();
+                try {
+                    // A flush may have written or merged the buffered row meanwhile; start over from it
+                    if (buffered == null ? buffer.putIfAbsent(id, pending) != null : !buffer.replace(id, buffered, pending)) {
+                        continue;
+                    }
+                    // Journaled before the read lock is released, so a flush never rotates
+                    // past a buffered row; recovery keeps the highest version of each row
+                    try {
+                        ticket = journal.append(next);
+                    } catch (IOException e) {
+                        if (buffered == null) {
+                            buffer.remove(id, pending);
+                        } else {
+                            buffer.replace(id, pending, buffered);
+                        }
+                        throw new UncheckedIOException("Could not journal stats " + id, e);
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+                break;
+            }
+        } finally {
+            rowLock.unlock();
+        }
+        try {
+            // Forced outside the locks so updates can share a force
+            journal.sync(ticket);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal stats " + id, e);
+        }
+        if (updatesSinceFlush.incrementAndGet() >= maxUpdates && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushTrigger.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the row is journaled and drain() flushes what is left
+                flushRequested.set(false);
+            }
+        }
+        return Optional.of(next);
+    }
+
+    /**
+     * Run a write that bypasses the buffer, such as an increment or a patch
+     *
+     * The buffer is flushed first, and updates to the given rows wait until the
+     * write returns, so neither side can overwrite or drop the other's change. A
+     * transactional write must commit before it returns.
+     *
+     * @param ids The rows the write may change
+     * @param write The write, run on this thread
+     * @return The write's result
+     */
+    public <T> T writeThrough(Collection<Long> ids, Supplier<T> write) {
+        if (!enabled) {
+            return write.get();
+        }
+        // Stripes are taken in index order so two writers never wait on each other
+        Set<Integer> stripes = new TreeSet<>();
+        for (Long id : ids) {
+            stripes.add(stripe(id));
+        }
+        List<Lock> held = new ArrayList<>(stripes.size());
+        try {
+            for (int stripe : stripes) {
+                rowLocks[stripe].lock();
+                held.add(rowLocks[stripe]);
+            }
+            flush();
+            return write.get();
+        } finally {
+            held.forEach(Lock::unlock);
+        }
+    }
+
+    /**
+     * Get the buffered version of a row, if it has unflushed changes
+     */
+    public Optional<Stats> get(Long id) {
+        return Optional.ofNullable(buffer.get(id)).map(Pending::row);
+    }
+
+    /**
+     * Run a query and replace the stored rows it returns by their buffered versions
+     */
+    public List<Stats> overlay(Supplier<List<Stats>> query) {
+        UnaryOperator<Stats> overlay = snapshot();
+        return query.get().stream().map(overlay).toList();
+    }
+
+    /**
+     * Capture the buffer ahead of a query, for replacing the rows it returns
+     *
+     * A flush that commits while the query runs removes its rows from the buffer,
+     * so the query may return them as they were before the flush. Each row is
+     * therefore replaced by the newest of its stored version, its buffered version
+     * when the snapshot was taken and its buffered version now.
+     */
+    public UnaryOperator<Stats> snapshot() {
+        Map<Long, Pending> before = buffer.isEmpty() ? Map.of() : Map.copyOf(buffer);
+        return row -> newest(newest(row, before.get(row.getId())), buffer.get(row.getId()));
+    }
+
+    private static Stats newest(Stats row, Pending buffered) {
+        if (buffered == null) {
+            return row;
+        }
+        Long version = row.getVersion();
+        return version == null || buffered.row().getVersion() > version ? buffered.row() : row;
+    }
+
+    /**
+     * Write every buffered row in one batched transaction
+     *
+     * A failed flush keeps the rows buffered and journaled for the next attempt.
+     * Writes that bypass the buffer call this on their request thread; the flush
+     * runs outside the request's bulkhead, so it does not take a second connection
+     * from the group's quota.
+     */
+    @Scheduled(fixedDelayString = "${stats.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        Bulkhead.runUnbound(() -> {
+            flushLock.lock();
+            try {
+                doFlush();
+            } finally {
+                flushLock.unlock();
+            }
+        });
+    }
+
+    private void doFlush() {
+        flushRequested.set(false);
+        if (!enabled || buffer.isEmpty()) {
+            return;
+        }
+        List<Pending> flushed;
+        lock.writeLock().lock();
+        try {
+            journal.rotate();
+            flushed = new ArrayList<>(buffer.values());
+            updatesSinceFlush.set(0);
+        } catch (IOException e) {
+            log.error("Could not rotate the stats journal; flush skipped", e);
+            return;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        flushed.sort(Comparator.comparing(pending -> pending.row().getId()));
+        List<Stats> rows = flushed.stream().map(Pending::row).toList();
+        List<Long> unmatched;
+        try {
+            unmatched = transactionTemplate.execute(status -> statsRepository.updateAll(rows));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not write {} buffered stat rows; retrying on the next flush", rows.size(), e);
+            return;
+        }
+        Set<Long> missed = new HashSet<>(unmatched);
+        List<Pending> stale = new ArrayList<>(missed.size());
+        for (Pending pending : flushed) {
+            if (missed.contains(pending.row().getId())) {
+                stale.add(pending);
+            } else {
+                buffer.remove(pending.row().getId(), pending);
+            }
+        }
+        // The sealed segments still hold the stale rows until they are journaled again
+        if (!stale.isEmpty() && !reconcile(stale)) {
+            return;
+        }
+        try {
+            journal.deleteSealed();
+        } catch (IOException e) {
+            log.warn("Could not delete flushed stats journal segments", e);
+        }
+    }
+
+    /**
+     * Deal with buffered rows the database had already moved past
+     *
+     * A row deleted in the meantime is dropped. Otherwise the columns the
+     * buffered changes set are merged onto the stored row, which is buffered
+     * and journaled again for the next flush.
+     *
+     * @return Whether every row still buffered is journaled in the active segment
+     */
+    private boolean reconcile(List<Pending> stale) {
+        Map<Long, Stats> stored;
+        try {
+            stored = statsRepository.findAllById(stale.stream().map(pending -> pending.row().getId()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Stats::getId, Function.identity()));
+        } catch (DataAccessException e) {
+            log.warn("Could not read {} stat rows changed outside the buffer; retrying on the next flush", stale.size(), e);
+            return false;
+        }
+        List<Long> tickets = new ArrayList<>(stale.size());
+        for (Pending pending : stale) {
+            Long id = pending.row().getId();
+            Stats current = stored.get(id);
+            if (current == null || !Boolean.TRUE.equals(current.getIsActive())) {
+                if (buffer.remove(id, pending)) {
+                    log.warn("Dropped buffered stats {} version {}: the row was deleted", id, pending.row().getVersion());
+                }
+                continue;
+            }
+            Stats merged = merge(pending, current);
+            Pending rebased = new Pending(merged, current);
+            lock.readLock().lock();
+            try {
+                // An update that replaced the row since the copy carries the same base, so the next flush merges it
+                if (!buffer.replace(id, pending, rebased)) {
+                    continue;
+                }
+                try {
+                    tickets.add(journal.append(merged));
+                } catch (IOException e) {
+                    buffer.replace(id, rebased, pending);
+                    log.error("Could not journal merged stats {}; keeping the journal until the next flush", id, e);
+                    return false;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            log.warn("Stats {} changed outside the buffer; merged buffered version {} onto stored version {}",
+                    id, pending.row().getVersion(), current.getVersion());
+            leaderboardIndex.onSaved(LeaderboardIndex.Slice.of(pending.row()), merged);
+        }
+        try {
+            for (long ticket : tickets) {
+                journal.sync(ticket);
+            }
+        } catch (IOException e) {
+            log.error("Could not force merged stat rows to the journal; keeping the journal until the next flush", e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Apply every field the buffered changes set to a copy of the stored row
+     */
+    private static Stats merge(Pending pending, Stats current) {
+        Stats changed = pending.row();
+        Stats base = pending.base();
+        Stats merged = new Stats();
+        BeanUtils.copyProperties(current, merged);
+        if (!Objects.equals(changed.getPlayerName(), base.getPlayerName())) {
+            merged.setPlayerName(changed.getPlayerName());
+        }
+        if (!Objects.equals(changed.getTeamName(), base.getTeamName())) {
+            merged.setTeamName(changed.getTeamName());
+        }
+        if (!Objects.equals(changed.getSchoolName(), base.getSchoolName())) {
+            merged.setSchoolName(changed.getSchoolName());
+        }
+        if (!Objects.equals(changed.getSport(), base.getSport())) {
+            merged.setSport(changed.getSport());
+        }
+        if (!Objects.equals(changed.getDivision(), base.getDivision())) {
+            merged.setDivision(changed.getDivision());
+        }
+        if (!Objects.equals(changed.getSeason(), base.getSeason())) {
+            merged.setSeason(changed.getSeason());
+        }
+        for (StatColumn column : StatColumn.values()) {
+            Number value = column.get(changed);
+            if (!Objects.equals(value, column.get(base))) {
+                column.set(merged, value);
+            }
+        }
+        merged.setVersion(current.getVersion() + 1);
+        merged.setUpdatedAt(LocalDateTime.now());
+        return merged;
+    }
+
+    /**
+     * Write whatever is still buffered before the application stops
+     */
+    @PreDestroy
+    void drain() throws IOException, InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        flushTrigger.shutdown();
+        flushTrigger.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+        if (!buffer.isEmpty()) {
+            log.error("{} buffered stat rows could not be written; they stay journaled in {} for the next start",
+                    buffer.size(), journalDirectory);
+        }
+        journal.close();
+    }
+
+    private Lock rowLock(Long id) {
+        return rowLocks[stripe(id)];
+    }
+
+    private static int stripe(Long id) {
+        return Math.floorMod(Long.hashCode(id), ROW_LOCK_STRIPES);
+    }
+
+    private void validate(Stats row) {
+        Set<ConstraintViolation<Stats>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    /**
+     * A buffered row and the stored row its first buffered change was applied to
+     */
+    private record Pending(Stats row, Stats base) {}
+}
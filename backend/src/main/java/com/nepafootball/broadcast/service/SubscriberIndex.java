@@ -0,0 +1,269 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.entity.AlertSubscription.Kind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from followed teams, schools and sports to user ids
+ *
+ * Each followed name keeps the set of its subscribers. Small sets are plain
+ * int arrays; once a set would take more memory as an array than as a bitmap
+ * over every user id, it becomes a BitSet. Matching a game unions the sets of
+ * its teams, schools and sport, so a user following several of them is
+ * returned once, and costs the size of those sets rather than the number of
+ * subscriptions.
+ *
+ * Names must be passed through {@link #normalize(String)}. User ids must fit
+ * in an int. Thread-safe: matches share a read lock, changes take the write lock.
+ *
+ * @author NEPA Football Team
+ */
+public final class SubscriberIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final Map<Kind, Map<String, Subscribers>> names = new EnumMap<>(Kind.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // One past the highest user id expected; sets denser than 1 in 32 of these are bitmaps
+    private int universe;
+    private long size;
+
+    public SubscriberIndex() {
+        for (Kind kind : Kind.values()) {
+            names.put(kind, new HashMap<>());
+        }
+    }
+
+    /**
+     * Canonical form of a followed name: trimmed and lower-cased
+     */
+    public static String normalize(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Size bitmaps for user ids up to maxUserId before a bulk load, so sparse
+     * sets are not turned into bitmaps while the highest ids are still unseen
+     */
+    public void expectUsers(long maxUserId) {
+        lock.writeLock().lock();
+        try {
+            universe = Math.max(universe, toInt(maxUserId) + 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add a subscription
+     *
+     * @return False if the user already followed the name
+     */
+    public boolean add(Kind kind, String name, long userId) {
+        int id = toInt(userId);
+        lock.writeLock().lock();
+        try {
+            universe = Math.max(universe, id + 1);
+            boolean added = names.get(kind).computeIfAbsent(name, key -> new Subscribers()).add(id, universe);
+            if (added) {
+                size++;
+            }
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a subscription
+     *
+     * @return False if the user did not follow the name
+     */
+    public boolean remove(Kind kind, String name, long userId) {
+        int id = toInt(userId);
+        lock.writeLock().lock();
+        try {
+            Map<String, Subscribers> byName = names.get(kind);
+            Subscribers subscribers = byName.get(name);
+            if (subscribers == null || !subscribers.remove(id)) {
+                return false;
+            }
+            if (subscribers.isEmpty()) {
+                byName.remove(name);
+            }
+            size--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get every user following the sport, any of the teams or any of the schools
+     *
+     * @param sport Normalized sport, or null
+     * @param teams Normalized team names; null entries are ignored
+     * @param schools Normalized school names; null entries are ignored
+     * @return Distinct user ids in ascending order
+     */
+    public int[] match(String sport, String[] teams, String[] schools) {
+        lock.readLock().lock();
+        try {
+            List<Subscribers> matched = new ArrayList<>(1 + teams.length + schools.length);
+            collect(Kind.SPORT, sport, matched);
+            for (String team : teams) {
+                collect(Kind.TEAM, team, matched);
+            }
+            for (String school : schools) {
+                collect(Kind.SCHOOL, school, matched);
+            }
+            if (matched.isEmpty()) {
+                return NONE;
+            }
+            if (matched.size() == 1) {
+                return matched.get(0).toArray();
+            }
+            BitSet union = new BitSet();
+            for (Subscribers subscribers : matched) {
+                subscribers.addTo(union);
+            }
+            return toArray(union);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of subscriptions
+     */
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(Kind kind, String name, List<Subscribers> matched) {
+        if (name != null) {
+            Subscribers subscribers = names.get(kind).get(name);
+            if (subscribers != null) {
+                matched.add(subscribers);
+            }
+        }
+    }
+
+    private static int[] toArray(BitSet bits) {
+        int[] ids = new int[bits.cardinality()];
+        for (int i = 0, id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)) {
+            ids[i++] = id;
+        }
+        return ids;
+    }
+
+    private static int toInt(long userId) {
+        if (userId < 0 || userId >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("User id out of range: " + userId);
+        }
+        return (int) userId;
+    }
+
+    /**
+     * Subscribers of one name: an unordered array while sparse, a bitmap once dense
+     */
+    private static final class Subscribers {
+
+        private int[] ids = new int[4];
+        private int count;
+        private BitSet bits;
+
+        boolean add(int id, int universe) {
+            if (bits != null) {
+                if (bits.get(id)) {
+                    return false;
+                }
+                bits.set(id);
+                count++;
+                return true;
+            }
+            if (indexOf(id) >= 0) {
+                return false;
+            }
+            if ((count + 1L) * Integer.SIZE > universe) {
+                bits = new BitSet(universe);
+                for (int i = 0; i < count; i++) {
+                    bits.set(ids[i]);
+                }
+                bits.set(id);
+                ids = null;
+            } else {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count] = id;
+            }
+            count++;
+            return true;
+        }
+
+        boolean remove(int id) {
+            if (bits != null) {
+                if (!bits.get(id)) {
+                    return false;
+                }
+                bits.clear(id);
+                count--;
+                return true;
+            }
+            int index = indexOf(id);
+            if (index < 0) {
+                return false;
+            }
+            ids[index] = ids[--count];
+            return true;
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        int[] toArray() {
+            if (bits != null) {
+                return SubscriberIndex.toArray(bits);
+            }
+            int[] sorted = Arrays.copyOf(ids, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        void addTo(BitSet union) {
+            if (bits != null) {
+                union.or(bits);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    union.set(ids[i]);
+                }
+            }
+        }
+
+        private int indexOf(int id) {
+            for (int i = 0; i < count; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
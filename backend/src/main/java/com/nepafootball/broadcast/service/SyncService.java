@@ -0,0 +1,392 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nepafootball.broadcast.dto.SyncBatch;
+import com.nepafootball.broadcast.dto.SyncBatch.Mutation;
+import com.nepafootball.broadcast.dto.SyncResult;
+import com.nepafootball.broadcast.dto.SyncResult.Outcome;
+import com.nepafootball.broadcast.dto.SyncResult.Status;
+import com.nepafootball.broadcast.entity.Game;
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.entity.SyncReceipt;
+import com.nepafootball.broadcast.entity.SyncReceipt.Target;
+import com.nepafootball.broadcast.repository.GameRepository;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import com.nepafootball.broadcast.repository.SyncReceiptRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch sync for scorers reconnecting after working offline
+ *
+ * A batch is an ordered list of full game and stats updates, each stamped by
+ * the client with a unique event id. Event ids already applied, by an earlier
+ * request or earlier in the batch, are answered with the version they produced
+ * instead of being applied again, so a client can resend a batch whose response
+ * it never received.
+ *
+ * The remaining mutations are grouped by the game being scored and each group
+ * is applied in its own transaction: its rows are loaded with one query per
+ * kind, changed in batch order, and written with batched statements together
+ * with a receipt per event id. A mutation naming a version is checked against
+ * the row as it was before the batch, since an offline client only knows the
+ * versions it last synced. Rejected mutations are reported and skipped; if the
+ * database rejects a group, none of it is written and it can be resent.
+ *
+ * @author NEPA Football Team
+ */
+@Service
+public class SyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncService.class);
+
+    private static final int MAX_EVENT_ID_LENGTH = 64;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Autowired
+    private SyncReceiptRepository syncReceiptRepository;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private LeaderboardIndex leaderboardIndex;
+
+    @Autowired
+    private StatsWriteBehind statsWriteBehind;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${sync.max-mutations:1000}")
+    private int maxMutations;
+
+    @Value("${sync.max-body-bytes:8388608}")
+    private long maxBodyBytes;
+
+    @Value("${sync.receipt-retention-days:30}")
+    private long receiptRetentionDays;
+
+    /**
+     * Apply a batch read from a request body
+     *
+     * @param body The uncompressed JSON body
+     * @return One outcome per mutation, in batch order
+     * @throws IllegalArgumentException if the batch has no mutation list or too many mutations
+     * @throws IOException if the body is malformed or larger than sync.max-body-bytes
+     */
+    public SyncResult sync(InputStream body) throws IOException {
+        SyncBatch batch = objectMapper.readValue(new LimitedInputStream(body, maxBodyBytes), SyncBatch.class);
+        if (batch == null || batch.mutations() == null) {
+            throw new IllegalArgumentException("Batch must have a mutations list");
+        }
+        if (batch.mutations().size() > maxMutations) {
+            throw new IllegalArgumentException("Batch exceeds " + maxMutations + " mutations");
+        }
+        return sync(batch.mutations());
+    }
+
+    private SyncResult sync(List<Mutation> mutations) {
+        long started = System.currentTimeMillis();
+        Outcome[] outcomes = new Outcome[mutations.size()];
+        Map<String, Integer> firstIndex = new HashMap<>();
+        List<Integer> repeats = new ArrayList<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < mutations.size(); i++) {
+            Mutation mutation = mutations.get(i);
+            String eventId = mutation != null ? mutation.eventId() : null;
+            if (eventId == null || eventId.isBlank() || eventId.length() > MAX_EVENT_ID_LENGTH) {
+                outcomes[i] = new Outcome(eventId, Status.INVALID, null,
+                        "eventId: required, at most " + MAX_EVENT_ID_LENGTH + " characters");
+            } else if (firstIndex.putIfAbsent(eventId, i) != null) {
+                repeats.add(i);
+            } else if (mutation.target() == null || mutation.id() == null) {
+                outcomes[i] = new Outcome(eventId, Status.INVALID, null, "target and id are required");
+            } else if (mutation.data() == null || !mutation.data().isObject()) {
+                outcomes[i] = new Outcome(eventId, Status.INVALID, null, "data: must be a JSON object");
+            } else {
+                pending.add(i);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            Map<String, SyncReceipt> receipts = syncReceiptRepository.findByEventIdIn(pending.stream()
+                            .map(i -> mutations.get(i).eventId())
+                            .toList())
+                    .stream()
+                    .collect(Collectors.toMap(SyncReceipt::getEventId, Function.identity()));
+            pending.removeIf(i -> {
+                SyncReceipt receipt = receipts.get(mutations.get(i).eventId());
+                if (receipt != null) {
+                    outcomes[i] = new Outcome(receipt.getEventId(), Status.DUPLICATE, receipt.getVersion(), null);
+                }
+                return receipt != null;
+            });
+        }
+
+        // Game mutations belong to their own game; stats mutations to the game they were scored in, if given
+        Map<Long, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i : pending) {
+            Mutation mutation = mutations.get(i);
+            Long game = mutation.target() == Target.GAME ? mutation.id() : mutation.gameId();
+            groups.computeIfAbsent(game, key -> new ArrayList<>()).add(i);
+        }
+        for (List<Integer> group : groups.values()) {
+            List<Long> statsIds = group.stream()
+                    .map(mutations::get)
+                    .filter(mutation -> mutation.target() == Target.STATS)
+                    .map(Mutation::id)
+                    .toList();
+            List<StatsChange> changes;
+            try {
+                // Buffered updates to the group's rows wait until its transaction has committed
+                changes = statsIds.isEmpty()
+                        ? transactionTemplate.execute(status -> applyGroup(mutations, group, outcomes))
+                        : statsWriteBehind.writeThrough(statsIds,
+                                () -> transactionTemplate.execute(status -> applyGroup(mutations, group, outcomes)));
+            } catch (DataAccessException | TransactionException e) {
+                String message = "Rejected by the database: " + mostSpecificMessage(e);
+                for (int i : group) {
+                    if (outcomes[i] == null || outcomes[i].status() == Status.APPLIED) {
+                        outcomes[i] = new Outcome(mutations.get(i).eventId(), Status.FAILED, null, message);
+                    }
+                }
+                continue;
+            }
+            for (StatsChange change : changes) {
+                leaderboardIndex.onSaved(change.previous(), change.stats());
+            }
+        }
+
+        for (int i : repeats) {
+            Outcome first = outcomes[firstIndex.get(mutations.get(i).eventId())];
+            outcomes[i] = first.status() == Status.APPLIED || first.status() == Status.DUPLICATE
+                    ? new Outcome(first.eventId(), Status.DUPLICATE, first.version(), null)
+                    : first;
+        }
+
+        int applied = 0;
+        int duplicates = 0;
+        for (Outcome outcome : outcomes) {
+            if (outcome.status() == Status.APPLIED) {
+                applied++;
+            } else if (outcome.status() == Status.DUPLICATE) {
+                duplicates++;
+            }
+        }
+        int rejected = outcomes.length - applied - duplicates;
+        log.info("Synced {} mutations for {} games: {} applied, {} duplicates, {} rejected in {} ms",
+                outcomes.length, groups.size(), applied, duplicates, rejected, System.currentTimeMillis() - started);
+        return new SyncResult(outcomes.length, applied, duplicates, rejected, List.of(outcomes));
+    }
+
+    /**
+     * Apply one game's mutations and their receipts; runs in a transaction
+     *
+     * @return Stats rows written, for the leaderboard index once committed
+     */
+    private List<StatsChange> applyGroup(List<Mutation> mutations, List<Integer> group, Outcome[] outcomes) {
+        Set<Long> gameIds = new LinkedHashSet<>();
+        Set<Long> statsIds = new LinkedHashSet<>();
+        for (int i : group) {
+            Mutation mutation = mutations.get(i);
+            (mutation.target() == Target.GAME ? gameIds : statsIds).add(mutation.id());
+        }
+        Map<Long, Game> games = gameIds.isEmpty() ? Map.of() : gameRepository.findAllById(gameIds).stream()
+                .collect(Collectors.toMap(Game::getId, Function.identity()));
+        Map<Long, Stats> stats = statsIds.isEmpty() ? Map.of() : statsRepository.findAllById(statsIds).stream()
+                .collect(Collectors.toMap(Stats::getId, Function.identity()));
+        Map<Long, Long> gameVersions = new HashMap<>();
+        games.forEach((id, game) -> gameVersions.put(id, game.getVersion()));
+        Map<Long, Long> statsVersions = new HashMap<>();
+        Map<Long, LeaderboardIndex.Slice> previousSlices = new LinkedHashMap<>();
+        stats.forEach((id, row) -> {
+            statsVersions.put(id, row.getVersion());
+            previousSlices.put(id, LeaderboardIndex.Slice.of(row));
+        });
+
+        List<Integer> written = new ArrayList<>(group.size());
+        for (int i : group) {
+            Mutation mutation = mutations.get(i);
+            Outcome rejection = mutation.target() == Target.GAME
+                    ? applyGame(mutation, games.get(mutation.id()), gameVersions.get(mutation.id()))
+                    : applyStats(mutation, stats.get(mutation.id()), statsVersions.get(mutation.id()));
+            if (rejection != null) {
+                outcomes[i] = rejection;
+            } else {
+                written.add(i);
+            }
+        }
+        if (written.isEmpty()) {
+            return List.of();
+        }
+
+        // One flush writes every changed row; versions are bumped once per row
+        gameRepository.flush();
+        LocalDateTime now = LocalDateTime.now();
+        List<SyncReceipt> receipts = new ArrayList<>(written.size());
+        Set<Long> changedStats = new LinkedHashSet<>();
+        for (int i : written) {
+            Mutation mutation = mutations.get(i);
+            Long version;
+            if (mutation.target() == Target.GAME) {
+                version = games.get(mutation.id()).getVersion();
+            } else {
+                version = stats.get(mutation.id()).getVersion();
+                changedStats.add(mutation.id());
+            }
+            outcomes[i] = new Outcome(mutation.eventId(), Status.APPLIED, version, null);
+            receipts.add(new SyncReceipt(mutation.eventId(), mutation.target(), mutation.id(), version, now));
+        }
+        syncReceiptRepository.saveAll(receipts);
+        // A receipt written meanwhile by a concurrent resend fails the group here rather than at commit
+        syncReceiptRepository.flush();
+        return changedStats.stream()
+                .map(id -> new StatsChange(previousSlices.get(id), stats.get(id)))
+                .toList();
+    }
+
+    private Outcome applyGame(Mutation mutation, Game game, Long baseVersion) {
+        if (game == null) {
+            return new Outcome(mutation.eventId(), Status.NOT_FOUND, null, "Game not found with id: " + mutation.id());
+        }
+        try {
+            PreconditionFailedException.check(mutation.version(), baseVersion);
+        } catch (PreconditionFailedException e) {
+            return new Outcome(mutation.eventId(), Status.CONFLICT, null, e.getMessage());
+        }
+        Game details;
+        try {
+            details = objectMapper.treeToValue(mutation.data(), Game.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return new Outcome(mutation.eventId(), Status.INVALID, null, "Malformed game: " + e.getMessage());
+        }
+        String problems = gameService.validate(details);
+        if (problems != null) {
+            return new Outcome(mutation.eventId(), Status.INVALID, null, problems);
+        }
+        GameService.copyDetails(details, game);
+        return null;
+    }
+
+    private Outcome applyStats(Mutation mutation, Stats row, Long baseVersion) {
+        if (row == null) {
+            return new Outcome(mutation.eventId(), Status.NOT_FOUND, null, "Stats not found with id: " + mutation.id());
+        }
+        try {
+            PreconditionFailedException.check(mutation.version(), baseVersion);
+        } catch (PreconditionFailedException e) {
+            return new Outcome(mutation.eventId(), Status.CONFLICT, null, e.getMessage());
+        }
+        Stats details;
+        try {
+            details = objectMapper.treeToValue(mutation.data(), Stats.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return new Outcome(mutation.eventId(), Status.INVALID, null, "Malformed stats: " + e.getMessage());
+        }
+        Set<ConstraintViolation<Stats>> violations = validator.validate(details);
+        if (!violations.isEmpty()) {
+            return new Outcome(mutation.eventId(), Status.INVALID, null, violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        StatsService.copyDetails(details, row);
+        return null;
+    }
+
+    /**
+     * Delete receipts past sync.receipt-retention-days; older event ids would be applied again
+     */
+    @Scheduled(fixedDelayString = "${sync.receipt-purge-interval-ms:3600000}")
+    public void purgeReceipts() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(receiptRetentionDays);
+        Integer deleted = transactionTemplate.execute(status -> syncReceiptRepository.deleteReceivedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.debug("Purged {} sync receipts received before {}", deleted, cutoff);
+        }
+    }
+
+    private static String mostSpecificMessage(RuntimeException e) {
+        if (e instanceof DataAccessException dataAccess) {
+            return dataAccess.getMostSpecificCause().getMessage();
+        }
+        return e.getMessage();
+    }
+
+    private record StatsChange(LeaderboardIndex.Slice previous, Stats stats) {}
+
+    /**
+     * Fails reads past a byte limit, so a small compressed body cannot inflate without bound
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long read;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            read += n;
+            if (read > limit) {
+                throw new IOException("Sync body exceeds " + limit + " bytes");
+            }
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.nepafootball.broadcast.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nepafootball.broadcast.dto.Cursor;
+import com.nepafootball.broadcast.dto.CursorPage;
 import com.nepafootball.broadcast.entity.Team;
 import com.nepafootball.broadcast.repository.TeamRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,10 +18,29 @@ public class TeamService {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private MergePatcher mergePatcher;
+
     public List<Team> getAllTeams() {
         return teamRepository.findAll();
     }
 
+    public List<Team> getActiveTeams() {
+        return teamRepository.findByIsActiveTrue();
+    }
+
+    public CursorPage<Team> getTeamsPage(String after, int limit) {
+        int size = CursorPage.boundedLimit(limit);
+        List<Team> rows;
+        if (after == null) {
+            rows = teamRepository.findPage(Limit.of(size + 1));
+        } else {
+            Cursor cursor = Cursor.decode(after);
+            rows = teamRepository.findPageAfter(cursor.key(), cursor.id(), Limit.of(size + 1));
+        }
+        return CursorPage.of(rows, size, team -> new Cursor(team.getTeamName(), team.getId()));
+    }
+
     public Optional<Team> getTeamById(Long id) {
         return teamRepository.findById(id);
     }
@@ -25,9 +49,10 @@ public class TeamService {
         return teamRepository.save(team);
     }
 
-    public Team updateTeam(Long id, Team updatedTeam) {
+    public Team updateTeam(Long id, Team updatedTeam, Long expectedVersion) {
         return teamRepository.findById(id)
             .map(team -> {
+                PreconditionFailedException.check(expectedVersion, team.getVersion());
                 team.setTeamName(updatedTeam.getTeamName());
                 team.setSchoolName(updatedTeam.getSchoolName());
                 team.setMascot(updatedTeam.getMascot());
@@ -42,6 +67,16 @@ public class TeamService {
             .orElseThrow(() -> new RuntimeException("Team not found"));
     }
 
+    @Transactional
+    public Team patchTeam(Long id, JsonNode patch, Long expectedVersion) {
+        return teamRepository.findById(id)
+            .map(team -> {
+                PreconditionFailedException.check(expectedVersion, team.getVersion());
+                return teamRepository.save(mergePatcher.apply(team, patch));
+            })
+            .orElseThrow(() -> new RuntimeException("Team not found"));
+    }
+
     public void deleteTeam(Long id) {
         teamRepository.deleteById(id);
     }
@@ -0,0 +1,253 @@
+package com.nepafootball.broadcast.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Hashed timer wheel: one thread runs any number of timers
+ *
+ * Time is cut into ticks and a timer is hashed into the bucket of the tick it
+ * is due in, counting how many turns of the wheel to wait. Each tick the
+ * worker visits one bucket, so its cost follows the timers due, not the
+ * timers pending. Timers fire up to one tick late and never early; tasks run
+ * on the worker thread and must be short.
+ *
+ * Scheduling and cancelling are thread-safe. New timers are handed to the
+ * worker through a queue and placed in buckets on its next tick; cancelled
+ * timers are dropped when their bucket comes round.
+ *
+ * @author NEPA Football Team
+ */
+public final class TimerWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(TimerWheel.class);
+
+    private final long tickNanos;
+    private final List<Timeout>[] buckets;
+    private final int mask;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongSupplier clock;
+    private final long startedAt;
+    // Owned by whichever thread advances the wheel
+    private long tick;
+    private volatile Thread worker;
+
+    /**
+     * @param tickMillis Resolution of the wheel
+     * @param wheelSize Buckets per turn, rounded up to a power of two
+     */
+    public TimerWheel(long tickMillis, int wheelSize) {
+        this(tickMillis, wheelSize, System::nanoTime);
+    }
+
+    /**
+     * @param clock Nanosecond time source, e.g. a simulated one driven with {@link #advance()}
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, int wheelSize, LongSupplier clock) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.clock = clock;
+        this.startedAt = clock.getAsLong();
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Start a daemon thread that advances the wheel in real time
+     */
+    public synchronized void start(String threadName) {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::run, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stop the worker thread; timers that have not fired are discarded
+     */
+    public synchronized void stop() throws InterruptedException {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Run a task once after a delay
+     *
+     * @param delayMillis Delay from now; zero or negative fires on the next tick
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        return add(new Timeout(task, elapsed() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis)), 0));
+    }
+
+    /**
+     * Run a task every period, first after one period
+     */
+    public Timeout scheduleAtFixedRate(Runnable task, long periodMillis) {
+        long period = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+        if (period < tickNanos) {
+            throw new IllegalArgumentException("Period must be at least one tick");
+        }
+        return add(new Timeout(task, elapsed() + period, period));
+    }
+
+    /**
+     * Get the number of timers waiting to fire
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Fire every timer that is due by the clock
+     *
+     * Called by the worker thread; without a started worker, the caller drives
+     * the wheel, as benchmarks do with simulated time.
+     */
+    public void advance() {
+        long elapsedNanos = elapsed();
+        while ((tick + 1) * tickNanos <= elapsedNanos) {
+            transferAdded();
+            long now = (tick + 1) * tickNanos;
+            List<Timeout> bucket = buckets[(int) (tick & mask)];
+            List<Timeout> due = null;
+            for (Iterator<Timeout> it = bucket.iterator(); it.hasNext(); ) {
+                Timeout timeout = it.next();
+                if (timeout.isCancelled()) {
+                    it.remove();
+                } else if (timeout.rounds > 0) {
+                    timeout.rounds--;
+                } else if (timeout.deadline <= now) {
+                    it.remove();
+                    if (due == null) {
+                        due = new ArrayList<>();
+                    }
+                    due.add(timeout);
+                }
+            }
+            tick++;
+            if (due != null) {
+                // Run after the bucket is walked, so a task may reschedule into it
+                due.forEach(Timeout::fire);
+            }
+        }
+    }
+
+    private long elapsed() {
+        return clock.getAsLong() - startedAt;
+    }
+
+    private Timeout add(Timeout timeout) {
+        pending.incrementAndGet();
+        added.add(timeout);
+        return timeout;
+    }
+
+    private void transferAdded() {
+        for (Timeout timeout; (timeout = added.poll()) != null; ) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // Deadlines already passed go in the current bucket
+            long dueTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.rounds = (dueTick - tick) / buckets.length;
+            buckets[(int) (dueTick & mask)].add(timeout);
+        }
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            long sleep = (tick + 1) * tickNanos - elapsed();
+            if (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            advance();
+        }
+    }
+
+    /**
+     * A scheduled task
+     */
+    public final class Timeout {
+
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int FIRED = 2;
+
+        private final Runnable task;
+        private final long period;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long deadline;
+        private long rounds;
+
+        private Timeout(Runnable task, long deadline, long period) {
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /**
+         * Stop the task from running, or from running again
+         *
+         * @return False if it had already fired once-only or been cancelled
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                pending.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void fire() {
+            if (period == 0 && !state.compareAndSet(WAITING, FIRED)) {
+                return;
+            }
+            if (period == 0) {
+                pending.decrementAndGet();
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Timer task failed", e);
+            }
+            if (period > 0 && !isCancelled()) {
+                deadline += period;
+                added.add(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+-- DDL for every object added after the original tables, run on each startup.
+-- With ddl-auto=update it runs after Hibernate (spring.jpa.defer-datasource-initialization);
+-- the prod profile only validates, so there it runs first and must create everything
+-- Hibernate expects beyond the original tables. Statements must be idempotent.
+
+-- Keyset pagination: each list seeks its (sort key, id) index
+CREATE INDEX IF NOT EXISTS idx_games_date_id ON games (game_date, id);
+CREATE INDEX IF NOT EXISTS idx_players_name_id ON players (name, id);
+CREATE INDEX IF NOT EXISTS idx_schools_name_id ON schools (name, id);
+CREATE INDEX IF NOT EXISTS idx_teams_team_name_id ON teams (team_name, id);
+
+-- Schools offering a sport are found through the collection table
+CREATE INDEX IF NOT EXISTS idx_school_sports_sport ON school_sports (sport, school_id);
+
+-- Partial indexes for the active view: soft-deleted rows never enter these indexes
+CREATE INDEX IF NOT EXISTS idx_games_active ON games (game_date, id) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_players_active ON players (name, id) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_schools_active ON schools (name, id) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_teams_active ON teams (team_name, id) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_player_stats_active ON player_stats (id) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_player_stats_active_slice ON player_stats (sport, division, season) WHERE is_active;
+
+-- Stats ids come from the pooled player_stats_seq (allocation 50) so inserts batch.
+-- Tables created before the switch still carry an identity column: drop it, draw raw
+-- SQL inserts from the same sequence, and move the sequence past existing ids.
+CREATE SEQUENCE IF NOT EXISTS player_stats_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE player_stats ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE player_stats ALTER COLUMN id SET DEFAULT nextval('player_stats_seq');
+SELECT setval('player_stats_seq', (SELECT MAX(id) FROM player_stats))
+WHERE (SELECT MAX(id) FROM player_stats) > (SELECT last_value FROM player_stats_seq);
+
+-- Games moved to the pooled games_seq the same way, so bulk schedule imports batch
+CREATE SEQUENCE IF NOT EXISTS games_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE games ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE games ALTER COLUMN id SET DEFAULT nextval('games_seq');
+SELECT setval('games_seq', (SELECT MAX(id) FROM games))
+WHERE (SELECT MAX(id) FROM games) > (SELECT last_value FROM games_seq);
+
+-- Roster sync: players belonging to a team roster are unique per (team, sport, name).
+-- Rosters are COPYed into the unlogged staging table and merged in one statement;
+-- staged rows are deleted by the same transaction, so the table never needs WAL.
+ALTER TABLE players ADD COLUMN IF NOT EXISTS team_name varchar(255);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_players_roster ON players (team_name, sport, name) WHERE team_name IS NOT NULL;
+CREATE UNLOGGED TABLE IF NOT EXISTS player_roster_staging (
+    batch_id uuid NOT NULL,
+    name varchar(255) NOT NULL,
+    number varchar(255) NOT NULL,
+    position varchar(255) NOT NULL,
+    grade varchar(255) NOT NULL,
+    height varchar(255),
+    weight varchar(255)
+);
+CREATE INDEX IF NOT EXISTS idx_player_roster_staging_batch ON player_roster_staging (batch_id);
+
+-- Optimistic locking (@Version, exposed as ETags); existing rows start at version 0
+ALTER TABLE games ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE player_stats ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE players ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE schools ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE teams ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+
+-- Live games: the append-only play log and the latest scoreboard per game
+CREATE SEQUENCE IF NOT EXISTS game_events_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS game_events (
+    id bigint NOT NULL PRIMARY KEY,
+    game_id bigint NOT NULL,
+    seq bigint NOT NULL,
+    type varchar(20) NOT NULL CHECK (type IN ('START','SCORE','PENALTY','POSSESSION','CLOCK_START','CLOCK_STOP','CLOCK_SET','PERIOD_END','FINAL')),
+    side varchar(4) CHECK (side IN ('HOME','AWAY')),
+    points integer,
+    clock_seconds integer,
+    note varchar(500),
+    occurred_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT uq_game_events_game_seq UNIQUE (game_id, seq)
+);
+CREATE TABLE IF NOT EXISTS game_snapshots (
+    game_id bigint NOT NULL PRIMARY KEY,
+    sport varchar(50),
+    status varchar(10) NOT NULL CHECK (status IN ('SCHEDULED','LIVE','FINAL')),
+    home_score integer NOT NULL,
+    away_score integer NOT NULL,
+    period integer NOT NULL,
+    possession varchar(4) CHECK (possession IN ('HOME','AWAY')),
+    clock_millis bigint NOT NULL,
+    clock_started_at timestamp(6) with time zone,
+    last_seq bigint NOT NULL,
+    updated_at timestamp(6) with time zone
+);
+
+-- Offline scorer sync: one receipt per applied client event id, purged by age
+-- Mapped by SyncReceipt; prod validates the schema at startup, so the table must exist here
+CREATE TABLE IF NOT EXISTS sync_receipts (
+    event_id varchar(64) NOT NULL PRIMARY KEY,
+    target varchar(10) NOT NULL CHECK (target IN ('GAME','STATS')),
+    target_id bigint NOT NULL,
+    version bigint NOT NULL,
+    received_at timestamp(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_sync_receipts_received ON sync_receipts (received_at);
+
+-- Score alerts: what each user follows
+-- Mapped by AlertSubscription, ids drawn from its sequence; prod validates both at startup
+CREATE SEQUENCE IF NOT EXISTS alert_subscriptions_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS alert_subscriptions (
+    id bigint NOT NULL PRIMARY KEY,
+    user_id bigint NOT NULL,
+    kind varchar(10) NOT NULL CHECK (kind IN ('TEAM','SCHOOL','SPORT')),
+    name varchar(200) NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    CONSTRAINT uq_alert_subscriptions_follow UNIQUE (user_id, kind, name)
+);
@@ -0,0 +1,39 @@
+package com.nepafootball.broadcast;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread
+ *
+ * Registered for the test profile, so tests can assert which statements a
+ * call issues, and how many, without seeing work done by background threads.
+ *
+ * @author NEPA Football Team
+ */
+public class SqlRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * Forget the statements recorded on this thread so far
+     */
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * Get the statements recorded on this thread since the last reset
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+}
@@ -0,0 +1,154 @@
+package com.nepafootball.broadcast.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Endpoint groups, admission through the filter and per-group connection quotas
+ *
+ * @author NEPA Football Team
+ */
+class BulkheadTest {
+
+    @AfterEach
+    void unbind() {
+        Bulkhead.bind(null);
+    }
+
+    @Test
+    void requestsAreRoutedByMethodAndPath() {
+        assertThat(Bulkhead.Group.of("GET", "/api/stats")).isEqualTo(Bulkhead.Group.STATS);
+        assertThat(Bulkhead.Group.of("GET", "/api/stats/leaders")).isEqualTo(Bulkhead.Group.STATS);
+        assertThat(Bulkhead.Group.of("POST", "/api/stats")).isEqualTo(Bulkhead.Group.LIVE);
+        assertThat(Bulkhead.Group.of("PATCH", "/api/stats/5")).isEqualTo(Bulkhead.Group.LIVE);
+        assertThat(Bulkhead.Group.of("delete", "/api/stats/5")).isEqualTo(Bulkhead.Group.LIVE);
+        assertThat(Bulkhead.Group.of("GET", "/api/games/7")).isEqualTo(Bulkhead.Group.LIVE);
+        assertThat(Bulkhead.Group.of("POST", "/api/games/bulk")).isEqualTo(Bulkhead.Group.ADMIN);
+        assertThat(Bulkhead.Group.of("GET", "/api/stats/season/2024/stream")).isEqualTo(Bulkhead.Group.ADMIN);
+        assertThat(Bulkhead.Group.of("PUT", "/api/players/roster/Eagles/football")).isEqualTo(Bulkhead.Group.ADMIN);
+        assertThat(Bulkhead.Group.of("GET", "/api/players/roster/Eagles/football")).isNull();
+        assertThat(Bulkhead.Group.of("GET", "/api/games/7/stream")).isNull();
+        assertThat(Bulkhead.Group.of("GET", "/api/stats/leaders/stream")).isNull();
+    }
+
+    @Test
+    void fullGroupIsAnswered503WithRetryAfter() throws Exception {
+        Bulkhead stats = new Bulkhead(Bulkhead.Group.STATS, 1, 0, 0, 1, 0);
+        BulkheadFilter filter = filter(stats);
+        assertThat(stats.tryEnter()).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("GET", "/api/stats"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(stats.getRejected()).isEqualTo(1);
+        assertThat(stats.getActive()).isEqualTo(1);
+
+        stats.exit();
+        response = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/stats"), response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(stats.getActive()).isZero();
+    }
+
+    @Test
+    void asyncRequestKeepsItsSlotUntilItEnds() throws Exception {
+        Bulkhead admin = new Bulkhead(Bulkhead.Group.ADMIN, 1, 0, 0, 1, 0);
+        BulkheadFilter filter = filter(admin);
+        MockHttpServletRequest request = request("GET", "/api/games/stream");
+        request.setAsyncSupported(true);
+        Bulkhead[] bound = new Bulkhead[1];
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                bound[0] = Bulkhead.current();
+                req.startAsync();
+            }
+        }));
+
+        assertThat(bound[0]).isSameAs(admin);
+        assertThat(Bulkhead.current()).isNull();
+        assertThat(admin.getActive()).isEqualTo(1);
+
+        MockAsyncContext async = (MockAsyncContext) request.getAsyncContext();
+        async.complete();
+        assertThat(admin.getActive()).isZero();
+        // A second end event must not give the slot back twice
+        async.getListeners().forEach(listener -> {
+            try {
+                listener.onError(null);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(admin.getActive()).isZero();
+    }
+
+    @Test
+    void connectionQuotaTimesOut() throws Exception {
+        JdbcDataSource pool = new JdbcDataSource();
+        pool.setURL("jdbc:h2:mem:bulkhead-test;DB_CLOSE_DELAY=-1");
+        Bulkhead stats = new Bulkhead(Bulkhead.Group.STATS, 4, 0, 100, 1, 0);
+        BulkheadDataSource dataSource = new BulkheadDataSource(pool, List.of(stats));
+        ConnectionLimiter limiter = dataSource.getLimiter(Bulkhead.Group.STATS);
+
+        Bulkhead.bind(stats);
+        try (Connection held = dataSource.getConnection()) {
+            assertThat(limiter.getAvailablePermits()).isZero();
+            long start = System.nanoTime();
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(100_000_000L);
+            assertThat(limiter.getTimeouts()).isEqualTo(1);
+
+            // Work for no group borrows from the pool directly
+            Bulkhead.runUnbound(() -> {
+                try (Connection unbound = dataSource.getConnection()) {
+                    assertThat(unbound.isValid(1)).isTrue();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        assertThat(limiter.getAvailablePermits()).isEqualTo(1);
+        try (Connection next = dataSource.getConnection()) {
+            assertThat(next.isValid(1)).isTrue();
+        }
+    }
+
+    private static BulkheadFilter filter(Bulkhead bulkhead) {
+        Map<Bulkhead.Group, Bulkhead> bulkheads = new EnumMap<>(Bulkhead.Group.class);
+        bulkheads.put(bulkhead.getGroup(), bulkhead);
+        return new BulkheadFilter(bulkheads, 2);
+    }
+
+    // Controllers map /api/... below the /api context path
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api" + path);
+        request.setContextPath("/api");
+        return request;
+    }
+}
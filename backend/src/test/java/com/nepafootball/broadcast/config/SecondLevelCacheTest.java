@@ -0,0 +1,97 @@
+package com.nepafootball.broadcast.config;
+
+import com.nepafootball.broadcast.SqlRecorder;
+import com.nepafootball.broadcast.entity.School;
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.entity.Team;
+import com.nepafootball.broadcast.service.SchoolService;
+import com.nepafootball.broadcast.service.StatsService;
+import com.nepafootball.broadcast.service.TeamService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reference entities and lookup lists are served from the second-level cache
+ *
+ * @author NEPA Football Team
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private SchoolService schoolService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void secondReadIssuesNoSql() {
+        School school = schoolService.createSchool(new School("Cache High", "Scranton", new ArrayList<>(List.of("football", "basketball"))));
+        teamService.createTeam(new Team("Cache Knights", "Cache High"));
+        statsService.createStats(new Stats("Cache Player", "Cache Knights", "Cache High", "football", "5A", "2024"));
+
+        readReferenceData(school.getId());
+        double hits = regionHits();
+        SqlRecorder.reset();
+        readReferenceData(school.getId());
+
+        assertThat(SqlRecorder.statements()).isEmpty();
+        assertThat(regionHits()).isGreaterThan(hits);
+    }
+
+    @Test
+    void exportsRegionStatistics() {
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "schools").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "reference-lists").tag("result", "miss").functionCounter())
+                .isNotNull();
+    }
+
+    @Test
+    void writesInvalidateCachedLists() {
+        School school = schoolService.createSchool(new School("Old Name High", "Hazleton", new ArrayList<>(List.of("baseball"))));
+        assertThat(schoolService.getActiveSchools()).extracting(School::getName).contains("Old Name High");
+
+        school.setName("New Name High");
+        schoolService.updateSchool(school.getId(), school, null);
+
+        assertThat(schoolService.getActiveSchools()).extracting(School::getName)
+                .contains("New Name High")
+                .doesNotContain("Old Name High");
+    }
+
+    private double regionHits() {
+        return meterRegistry.find("hibernate.second.level.cache.requests").tag("result", "hit").functionCounters()
+                .stream().mapToDouble(FunctionCounter::count).sum();
+    }
+
+    private void readReferenceData(Long schoolId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            schoolService.getActiveSchools().forEach(school -> school.getSports().size());
+            schoolService.getSchoolById(schoolId).orElseThrow().getSports().size();
+        });
+        teamService.getActiveTeams();
+        statsService.getAllSports();
+        statsService.getAllSeasons();
+        statsService.getDivisionsBySport("football");
+    }
+}
@@ -0,0 +1,90 @@
+package com.nepafootball.broadcast.repository;
+
+import com.nepafootball.broadcast.SqlRecorder;
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.entity.Team;
+import com.nepafootball.broadcast.service.StatsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The active view filters soft-deleted rows in SQL rather than in Java
+ *
+ * @author NEPA Football Team
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ActiveRepositoryTest {
+
+    private static final Pattern FILTERS_ACTIVE = Pattern.compile("(?i)\\bwhere\\b.*\\bis_active\\b");
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Test
+    void getAllStatsFiltersInactiveRowsInSql() {
+        Stats active = statsService.createStats(new Stats("Active Player", "Active Team", "School", "football", "4A", "2024"));
+        Stats deleted = statsService.createStats(new Stats("Deleted Player", "Active Team", "School", "football", "4A", "2024"));
+        statsService.deleteStats(deleted.getId());
+
+        SqlRecorder.reset();
+        List<Stats> stats = statsService.getAllStats();
+
+        assertThat(stats).extracting(Stats::getId).contains(active.getId()).doesNotContain(deleted.getId());
+        assertThat(SqlRecorder.statements())
+                .singleElement()
+                .satisfies(sql -> assertThat(sql).containsIgnoringCase("from player_stats").containsPattern(FILTERS_ACTIVE));
+    }
+
+    @Test
+    void getStatsByIdFiltersInactiveRowsInSql() {
+        Stats deleted = statsService.createStats(new Stats("Gone Player", "Gone Team", "School", "football", "4A", "2024"));
+        statsService.deleteStats(deleted.getId());
+
+        SqlRecorder.reset();
+
+        assertThat(statsService.getStatsById(deleted.getId())).isEmpty();
+        assertThat(SqlRecorder.statements())
+                .singleElement()
+                .satisfies(sql -> assertThat(sql).containsIgnoringCase("from player_stats").containsPattern(FILTERS_ACTIVE));
+    }
+
+    @Test
+    void findByIsActiveTrueFiltersInactiveTeamsInSql() {
+        Team active = teamRepository.save(new Team("Active Lions", "School"));
+        Team inactive = new Team("Inactive Lions", "School");
+        inactive.setIsActive(false);
+        inactive = teamRepository.save(inactive);
+
+        SqlRecorder.reset();
+        List<Team> teams = teamRepository.findByIsActiveTrue();
+
+        assertThat(teams).extracting(Team::getId).contains(active.getId()).doesNotContain(inactive.getId());
+        assertThat(SqlRecorder.statements())
+                .singleElement()
+                .satisfies(sql -> assertThat(sql).containsIgnoringCase("from teams").containsPattern(FILTERS_ACTIVE));
+    }
+
+    @Test
+    void findByIdAndIsActiveTrueSkipsInactiveRows() {
+        Stats stats = new Stats("Inactive Player", "Team", "School", "football", "4A", "2024");
+        stats.setIsActive(false);
+        Long id = statsRepository.save(stats).getId();
+
+        assertThat(statsRepository.findById(id)).isPresent();
+        assertThat(statsRepository.findByIdAndIsActiveTrue(id)).isEmpty();
+    }
+}
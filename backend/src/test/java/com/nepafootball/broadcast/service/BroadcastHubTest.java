@@ -0,0 +1,288 @@
+package com.nepafootball.broadcast.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitterReturnValueHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fan-out to many subscribers, including clients that read slowly or not at all
+ *
+ * Streams are attached to mock servlet responses the way Spring MVC attaches
+ * them to real ones, so the hub's writes go through the same emitter code.
+ *
+ * @author NEPA Football Team
+ */
+class BroadcastHubTest {
+
+    private static final String TOPIC = "game/1";
+
+    private static final ResponseBodyEmitterReturnValueHandler HANDLER =
+            new ResponseBodyEmitterReturnValueHandler(List.of(new ByteArrayHttpMessageConverter()));
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private BroadcastHub hub;
+
+    @AfterEach
+    void stopHub() throws InterruptedException {
+        hub.stopWriters();
+    }
+
+    @Test
+    void tenThousandSubscribersReceiveEveryState() throws Exception {
+        hub = newHub(4, 5000);
+        List<Client> fast = new ArrayList<>();
+        List<Client> slow = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            fast.add(subscribe(0));
+        }
+        for (int i = 0; i < 20; i++) {
+            slow.add(subscribe(20));
+        }
+        assertThat(hub.getSubscriberCount()).isEqualTo(10_020);
+
+        for (int seq = 1; seq <= 200; seq++) {
+            hub.publish(TOPIC, hub.encode("play", Map.of("seq", seq), false));
+            hub.publish(TOPIC, hub.encode("scoreboard", Map.of("seq", seq), true));
+        }
+
+        String last = "event: scoreboard\ndata: {\"seq\":200}";
+        await(() -> fast.stream().allMatch(client -> client.lastFrame().equals(last))
+                && slow.stream().allMatch(client -> client.lastFrame().equals(last)));
+        for (Client client : fast.subList(0, 100)) {
+            assertThat(client.plays()).isSorted().doesNotHaveDuplicates();
+        }
+        assertThat(counter("broadcast.hub.subscribers.evicted")).isZero();
+
+        fast.forEach(Client::disconnect);
+        slow.forEach(Client::disconnect);
+        assertThat(hub.getSubscriberCount()).isZero();
+        assertThat(hub.getTopics()).isEmpty();
+    }
+
+    @Test
+    void stalledSubscribersAreEvictedWithoutStarvingTheRest() throws Exception {
+        hub = newHub(2, 200);
+        CountDownLatch unblock = new CountDownLatch(1);
+        List<Client> stalled = List.of(subscribe(0), subscribe(0));
+        List<Client> healthy = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            healthy.add(subscribe(0));
+        }
+        await(() -> stalled.stream().allMatch(client -> !client.lastFrame().isEmpty()));
+        stalled.forEach(client -> client.blockUntil(unblock));
+
+        // Both writers end up blocked on the stalled clients
+        for (int seq = 1; seq <= 20; seq++) {
+            hub.publish(TOPIC, hub.encode("scoreboard", Map.of("seq", seq), true));
+        }
+        String last = "event: scoreboard\ndata: {\"seq\":20}";
+        await(() -> {
+            hub.evictStalled();
+            return healthy.stream().allMatch(client -> client.lastFrame().equals(last));
+        });
+
+        assertThat(counter("broadcast.hub.subscribers.evicted")).isEqualTo(2);
+        assertThat(registry.get("broadcast.hub.writers.stalled").gauge().value()).isEqualTo(2);
+        assertThat(hub.getSubscriberCount()).isEqualTo(500);
+
+        unblock.countDown();
+        await(() -> registry.get("broadcast.hub.writers.stalled").gauge().value() == 0);
+        healthy.forEach(Client::disconnect);
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void publishingHandsTheFanOutToTheWriters() throws Exception {
+        hub = newHub(1, 600_000);
+        CountDownLatch unblock = new CountDownLatch(1);
+        Client blocked = subscribe(0);
+        await(() -> !blocked.lastFrame().isEmpty());
+        blocked.blockUntil(unblock);
+        hub.publish(TOPIC, hub.encode("scoreboard", Map.of("seq", 1), true));
+        Set<?> writing = (Set<?>) ReflectionTestUtils.getField(hub, "writing");
+        await(() -> !writing.isEmpty());
+
+        // The only writer is stuck, so nothing reaches the new subscribers yet, not even their initial frames
+        List<Client> late = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            late.add(subscribe(0));
+        }
+        for (int seq = 2; seq <= 50; seq++) {
+            hub.publish(TOPIC, hub.encode("scoreboard", Map.of("seq", seq), true));
+        }
+        assertThat(counter("broadcast.hub.frames.published")).isEqualTo(50);
+        assertThat(counter("broadcast.hub.frames.coalesced")).isZero();
+        assertThat(late).allMatch(client -> client.frames().isEmpty());
+
+        unblock.countDown();
+        String last = "event: scoreboard\ndata: {\"seq\":50}";
+        await(() -> late.stream().allMatch(client -> client.lastFrame().equals(last)));
+        // Each initial frame was queued first and then replaced by the newer states
+        for (Client client : late) {
+            assertThat(client.frames()).containsExactly(last);
+        }
+        late.forEach(Client::disconnect);
+        blocked.disconnect();
+    }
+
+    private BroadcastHub newHub(int writerThreads, long writeTimeoutMillis) {
+        BroadcastHub created = new BroadcastHub();
+        ReflectionTestUtils.setField(created, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(created, "queueCapacity", 16);
+        ReflectionTestUtils.setField(created, "maxSubscribers", 20_000);
+        ReflectionTestUtils.setField(created, "timeoutMillis", 1_800_000L);
+        ReflectionTestUtils.setField(created, "writerThreads", writerThreads);
+        ReflectionTestUtils.setField(created, "writeTimeoutMillis", writeTimeoutMillis);
+        ReflectionTestUtils.setField(created, "maxStalledWriters", 64);
+        created.startWriters();
+        created.bindTo(registry);
+        return created;
+    }
+
+    private Client subscribe(long writeDelayMillis) throws Exception {
+        return new Client(hub.subscribe(TOPIC, hub.encode("scoreboard", Map.of("seq", 0), true)), writeDelayMillis);
+    }
+
+    private double counter(String name) {
+        return registry.get(name).functionCounter().count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition met within 60s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static ResponseBodyEmitter stream() {
+        return null;
+    }
+
+    /**
+     * An SSE client on a mock async request; writes to it can be slowed down or blocked
+     */
+    private static final class Client {
+
+        private final MockHttpServletRequest request = new MockHttpServletRequest();
+        private final SlowResponse response;
+
+        Client(ResponseBodyEmitter emitter, long writeDelayMillis) throws Exception {
+            response = new SlowResponse(writeDelayMillis);
+            request.setAsyncSupported(true);
+            ServletWebRequest webRequest = new ServletWebRequest(request, response);
+            WebAsyncUtils.getAsyncManager(webRequest).setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+            MethodParameter returnType = new MethodParameter(BroadcastHubTest.class.getDeclaredMethod("stream"), -1);
+            HANDLER.handleReturnValue(emitter, returnType, new ModelAndViewContainer(), webRequest);
+        }
+
+        void blockUntil(CountDownLatch unblock) {
+            response.unblock = unblock;
+        }
+
+        List<String> frames() {
+            String content;
+            try {
+                content = response.getContentAsString();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return Arrays.stream(content.split("\n\n")).filter(frame -> !frame.isEmpty()).toList();
+        }
+
+        String lastFrame() {
+            List<String> frames = frames();
+            return frames.isEmpty() ? "" : frames.get(frames.size() - 1);
+        }
+
+        List<Integer> plays() {
+            return frames().stream()
+                    .filter(frame -> frame.startsWith("event: play"))
+                    .map(frame -> Integer.parseInt(frame.replaceAll("\\D", "")))
+                    .toList();
+        }
+
+        void disconnect() {
+            request.getAsyncContext().complete();
+        }
+    }
+
+    private static final class SlowResponse extends MockHttpServletResponse {
+
+        private final long writeDelayMillis;
+        private volatile CountDownLatch unblock;
+
+        SlowResponse(long writeDelayMillis) {
+            this.writeDelayMillis = writeDelayMillis;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            ServletOutputStream body = super.getOutputStream();
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[] {(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    try {
+                        CountDownLatch latch = unblock;
+                        if (latch != null) {
+                            latch.await();
+                        }
+                        if (writeDelayMillis > 0) {
+                            Thread.sleep(writeDelayMillis);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(e);
+                    }
+                    body.write(bytes, offset, length);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    body.flush();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.entity.Stats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A truncated bucket that runs short is reloaded from the repository on its own
+ *
+ * @author NEPA Football Team
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaderboardIndexTest {
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private LeaderboardIndex leaderboardIndex;
+
+    @Value("${leaderboard.index.size:100}")
+    private int size;
+
+    @Test
+    void shortBucketIsReloadedWithLeadersThenUnrecordedRows() {
+        // One row more than the bucket holds, so it is truncated from the start
+        int rows = size * 2 + 1;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= rows; i++) {
+            Stats stats = new Stats("Reload Back " + i, "Reload Eagles", "Reload High", "football", "Reload", "2024");
+            stats.setPassingYards(i * 10);
+            ids.add(statsService.createStats(stats).getId());
+        }
+        Long unrecorded = statsService.createStats(
+                new Stats("Reload Rookie", "Reload Eagles", "Reload High", "football", "Reload", "2024")).getId();
+
+        // Remove enough of the best rows to leave the bucket short of a leaderboard
+        for (int i = rows - 1; i > rows - 1 - (size + 2); i--) {
+            statsService.deleteStats(ids.get(i));
+        }
+        long misses = leaderboardIndex.getIndexStats().misses();
+
+        assertThat(leaderboardIndex.top("football", "Reload", "2024", "passingYards").orElseThrow())
+                .extracting(Stats::getPassingYards)
+                .hasSize(size)
+                .startsWith((rows - size - 2) * 10, (rows - size - 3) * 10);
+        assertThat(leaderboardIndex.getIndexStats().misses()).isEqualTo(misses + 1);
+
+        for (int i = rows - size - 3; i >= 0; i--) {
+            statsService.deleteStats(ids.get(i));
+        }
+
+        assertThat(leaderboardIndex.top("football", "Reload", "2024", "passingYards").orElseThrow())
+                .extracting(Stats::getId)
+                .containsExactly(unrecorded);
+        assertThat(leaderboardIndex.top("football", "Reload", null, "passingYards").orElseThrow())
+                .extracting(Stats::getId)
+                .containsExactly(unrecorded);
+    }
+}
@@ -0,0 +1,113 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.entity.Game;
+import com.nepafootball.broadcast.entity.Stats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent conditional updates never overwrite each other
+ *
+ * Each writer reads a row, bumps a counter in it and writes it back with the
+ * version it read, retrying on 412 (stale If-Match) or 409 (lost the race at
+ * commit). If versioning works, the counter ends at the number of updates.
+ *
+ * @author NEPA Football Team
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OptimisticLockingStressTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES = 50;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Test
+    void concurrentStatsUpdatesAreNotLost() throws Exception {
+        Stats created = new Stats("Stress Back", "Stress Eagles", "Stress High", "football", "Stress", "2024");
+        created.setRushingYards(0);
+        Long id = statsService.createStats(created).getId();
+
+        int conflicts = hammer(() -> {
+            Stats stats = statsService.getStatsById(id).orElseThrow();
+            Long version = stats.getVersion();
+            stats.setRushingYards(stats.getRushingYards() + 1);
+            statsService.updateStats(id, stats, version);
+        });
+
+        Stats stats = statsService.getStatsById(id).orElseThrow();
+        assertThat(stats.getRushingYards()).isEqualTo(THREADS * UPDATES);
+        assertThat(stats.getVersion()).isEqualTo((long) THREADS * UPDATES);
+        assertThat(conflicts).isPositive();
+    }
+
+    @Test
+    void concurrentGameUpdatesAreNotLost() throws Exception {
+        Game created = new Game("Stress Home", "Stress Away", LocalDate.of(2024, 9, 6), LocalTime.of(19, 0),
+                "Stress Field", "football");
+        created.setNotes("0");
+        Long id = gameService.createGame(created).getId();
+
+        int conflicts = hammer(() -> {
+            Game game = gameService.getGameById(id).orElseThrow();
+            Long version = game.getVersion();
+            game.setNotes(String.valueOf(Integer.parseInt(game.getNotes()) + 1));
+            gameService.updateGame(id, game, version);
+        });
+
+        Game game = gameService.getGameById(id).orElseThrow();
+        assertThat(game.getNotes()).isEqualTo(String.valueOf(THREADS * UPDATES));
+        assertThat(game.getVersion()).isEqualTo((long) THREADS * UPDATES);
+        assertThat(conflicts).isPositive();
+    }
+
+    /**
+     * Run UPDATES successful attempts on each of THREADS threads
+     *
+     * @return How many attempts were rejected and retried
+     */
+    private static int hammer(Runnable attempt) throws Exception {
+        AtomicInteger conflicts = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                writers.add(pool.submit(() -> {
+                    for (int done = 0; done < UPDATES; ) {
+                        try {
+                            attempt.run();
+                            done++;
+                        } catch (PreconditionFailedException | OptimisticLockingFailureException e) {
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return conflicts.get();
+    }
+}
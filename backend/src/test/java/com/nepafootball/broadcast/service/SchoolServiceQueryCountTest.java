@@ -0,0 +1,103 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.SqlRecorder;
+import com.nepafootball.broadcast.entity.School;
+import com.nepafootball.broadcast.repository.SchoolRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listing schools loads their sports in batches rather than one query per school
+ *
+ * Caches are cleared before each read, so every count is of cold database work.
+ *
+ * @author NEPA Football Team
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SchoolServiceQueryCountTest {
+
+    private static final int SCHOOLS = 150;
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private SchoolService schoolService;
+
+    @Autowired
+    private SchoolRepository schoolRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void createSchools() {
+        if (schoolService.getSchoolsBySport("lacrosse").size() >= SCHOOLS) {
+            return;
+        }
+        for (int i = 0; i < SCHOOLS; i++) {
+            schoolService.createSchool(new School("Query Count School " + i, "Wilkes-Barre",
+                    new ArrayList<>(List.of("lacrosse", i % 2 == 0 ? "field-hockey" : "wrestling"))));
+        }
+    }
+
+    @Test
+    void getAllSchoolsBatchesSportsLoading() {
+        long schools = schoolRepository.count();
+        evictCaches();
+
+        SqlRecorder.reset();
+        transactionTemplate.executeWithoutResult(status ->
+                schoolService.getAllSchools().forEach(school -> school.getSports().size()));
+
+        assertThat(SqlRecorder.statements()).hasSize(1 + batches(schools));
+    }
+
+    @Test
+    void getSchoolsBySportBatchesSportsLoading() {
+        evictCaches();
+
+        SqlRecorder.reset();
+        List<School> schools = transactionTemplate.execute(status -> {
+            List<School> found = schoolService.getSchoolsBySport("field-hockey");
+            found.forEach(school -> school.getSports().size());
+            return found;
+        });
+
+        assertThat(schools).hasSize(SCHOOLS / 2);
+        assertThat(SqlRecorder.statements()).hasSize(1 + batches(schools.size()));
+    }
+
+    @Test
+    void warmListIssuesNoSql() {
+        transactionTemplate.executeWithoutResult(status ->
+                schoolService.getSchoolsBySport("wrestling").forEach(school -> school.getSports().size()));
+
+        SqlRecorder.reset();
+        transactionTemplate.executeWithoutResult(status ->
+                schoolService.getSchoolsBySport("wrestling").forEach(school -> school.getSports().size()));
+
+        assertThat(SqlRecorder.statements()).isEmpty();
+    }
+
+    private static int batches(long rows) {
+        return (int) ((rows + BATCH_SIZE - 1) / BATCH_SIZE);
+    }
+
+    private void evictCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
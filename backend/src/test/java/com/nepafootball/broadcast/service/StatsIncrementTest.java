@@ -0,0 +1,91 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.entity.Stats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stat increments are applied in the database, so concurrent ones are never lost
+ *
+ * Increments use UPDATE ... RETURNING, which H2 lacks, so this runs only when
+ * TEST_POSTGRES_URL points at a scratch Postgres database. Its tables are
+ * recreated and dropped by the test.
+ *
+ * @author NEPA Football Team
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=${TEST_POSTGRES_URL}",
+        "spring.datasource.username=${TEST_POSTGRES_USER:postgres}",
+        "spring.datasource.password=${TEST_POSTGRES_PASSWORD:}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+@DirtiesContext
+class StatsIncrementTest {
+
+    private static final int THREADS = 16;
+    private static final int INCREMENTS = 250;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private LeaderboardIndex leaderboardIndex;
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        Long id = statsService.createStats(new Stats("Increment Back", "Increment Eagles", "Increment High",
+                "football", "Increment", "2024")).getId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    for (int i = 0; i < INCREMENTS; i++) {
+                        statsService.incrementStats(id, Map.of("rushingYards", 3, "rushing_touchdowns", 1));
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Stats stats = statsService.getStatsById(id).orElseThrow();
+        assertThat(stats.getRushingYards()).isEqualTo(THREADS * INCREMENTS * 3);
+        assertThat(stats.getRushingTouchdowns()).isEqualTo(THREADS * INCREMENTS);
+        assertThat(stats.getVersion()).isEqualTo((long) THREADS * INCREMENTS);
+        assertThat(leaderboardIndex.top("football", "Increment", "2024", "rushingYards").orElseThrow())
+                .first()
+                .satisfies(leader -> assertThat(leader.getRushingYards()).isEqualTo(THREADS * INCREMENTS * 3));
+    }
+
+    @Test
+    void deletedRowIsNotIncremented() {
+        Long id = statsService.createStats(new Stats("Deleted Back", "Increment Eagles", "Increment High",
+                "football", "Increment", "2024")).getId();
+        statsService.deleteStats(id);
+
+        assertThat(statsService.incrementStats(id, Map.of("rushingYards", 5))).isNull();
+        assertThat(statsService.getStatsById(id)).isEmpty();
+    }
+}
@@ -0,0 +1,151 @@
+package com.nepafootball.broadcast.service;
+
+import com.nepafootball.broadcast.entity.Stats;
+import com.nepafootball.broadcast.repository.StatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Buffered updates and writes that bypass the buffer never overwrite or drop each other
+ *
+ * Increments use UPDATE ... RETURNING, which H2 lacks, so this runs only when
+ * TEST_POSTGRES_URL points at a scratch Postgres database. Its tables are
+ * recreated and dropped by the test.
+ *
+ * @author NEPA Football Team
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=${TEST_POSTGRES_URL}",
+        "spring.datasource.username=${TEST_POSTGRES_USER:postgres}",
+        "spring.datasource.password=${TEST_POSTGRES_PASSWORD:}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "stats.write-behind.enabled=true",
+        "stats.write-behind.journal-dir=target/stats-write-behind-test",
+        "stats.write-behind.fsync=false",
+        "stats.write-behind.max-updates=50",
+        // Only the flushes the tests run themselves
+        "stats.write-behind.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+@DirtiesContext
+class StatsWriteBehindTest {
+
+    private static final int THREADS = 16;
+    private static final int WRITES = 100;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private StatsWriteBehind statsWriteBehind;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void bufferedUpdatesAndIncrementsAreNotLost() throws Exception {
+        Long id = newRow("Buffered Back");
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                boolean buffered = t % 2 == 0;
+                workers.add(pool.submit(() -> {
+                    for (int i = 0; i < WRITES; i++) {
+                        if (buffered) {
+                            statsWriteBehind.update(id, stats -> stats.setGamesPlayed(stats.getGamesPlayed() + 1));
+                        } else {
+                            statsService.incrementStats(id, Map.of("gamesPlayed", 1));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        statsWriteBehind.flush();
+
+        assertThat(statsWriteBehind.get(id)).isEmpty();
+        Map<String, Object> stored = jdbcTemplate.queryForMap(
+                "SELECT games_played, version FROM player_stats WHERE id = ?", id);
+        assertThat(stored.get("games_played")).isEqualTo(THREADS * WRITES);
+        assertThat(stored.get("version")).isEqualTo((long) THREADS * WRITES);
+    }
+
+    @Test
+    void rowChangedElsewhereIsMergedRatherThanDropped() {
+        Long id = newRow("Merged Back");
+        statsWriteBehind.update(id, stats -> stats.setPassingYards(250));
+        jdbcTemplate.update("UPDATE player_stats SET rushing_yards = 40, version = version + 5 WHERE id = ?", id);
+
+        // The first flush finds the row moved on and merges; the second writes the result
+        statsWriteBehind.flush();
+        assertThat(statsWriteBehind.get(id)).hasValueSatisfying(stats -> assertThat(stats.getVersion()).isEqualTo(6));
+        statsWriteBehind.flush();
+
+        assertThat(statsWriteBehind.get(id)).isEmpty();
+        Map<String, Object> stored = jdbcTemplate.queryForMap(
+                "SELECT passing_yards, rushing_yards, version FROM player_stats WHERE id = ?", id);
+        assertThat(stored.get("passing_yards")).isEqualTo(250);
+        assertThat(stored.get("rushing_yards")).isEqualTo(40);
+        assertThat(stored.get("version")).isEqualTo(6L);
+    }
+
+    @Test
+    void updateToDeletedRowIsDroppedOnFlush() {
+        Long id = newRow("Dropped Back");
+        statsWriteBehind.update(id, stats -> stats.setPassingYards(99));
+        jdbcTemplate.update("DELETE FROM player_stats WHERE id = ?", id);
+
+        statsWriteBehind.flush();
+
+        assertThat(statsWriteBehind.get(id)).isEmpty();
+    }
+
+    @Test
+    void rowFlushedWhileReadIsStillOverlaid() {
+        Long id = newRow("Overlaid Back");
+        statsWriteBehind.update(id, stats -> stats.setPassingYards(77));
+
+        // The query reads the row before the flush commits and overlays it after
+        UnaryOperator<Stats> overlay = statsWriteBehind.snapshot();
+        Stats stored = statsRepository.findById(id).orElseThrow();
+        statsWriteBehind.flush();
+
+        assertThat(statsWriteBehind.get(id)).isEmpty();
+        assertThat(stored.getPassingYards()).isNull();
+        assertThat(overlay.apply(stored).getPassingYards()).isEqualTo(77);
+        assertThat(statsService.getStatsById(id)).hasValueSatisfying(stats -> assertThat(stats.getPassingYards()).isEqualTo(77));
+    }
+
+    private Long newRow(String playerName) {
+        Stats stats = new Stats(playerName, "Buffer Eagles", "Buffer High", "football", "Buffer", "2024");
+        stats.setGamesPlayed(0);
+        return statsService.createStats(stats).getId();
+    }
+}